@@ -0,0 +1,170 @@
+package gorest.api.assertions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checks several paths of a JSON response body against their matchers with a single parse.
+ * <p>
+ * Use it with {@code .body(matcher)}, which hands the matcher the raw body:
+ * <pre>{@code
+ * .body(assertionSet()
+ *         .that("name", equalTo(user.getName()))
+ *         .that("email", equalTo(user.getEmail()))
+ *         .that("id", notNullValue()))
+ * }</pre>
+ * The body is parsed once into a Jackson tree and every path is resolved against it; unlike chained
+ * {@code .body(path, matcher)} calls, every failing path is reported, not only the first one.
+ * Paths are simple dotted paths with optional indexes, e.g. {@code id}, {@code data.user_id} or
+ * {@code [0].message}; they are compiled once and cached for every test and thread. Values are
+ * matched as RestAssured's JsonPath returns them: strings, {@code Integer} or {@code Long} for whole
+ * numbers, {@code Float} for decimals, booleans, {@code null} for JSON null and missing paths, and
+ * maps and lists for objects and arrays.
+ */
+public class AssertionSet extends TypeSafeDiagnosingMatcher<Object> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader TREE_READER = MAPPER.reader();
+    private static final Map<String, CompiledPath> PATH_CACHE = new ConcurrentHashMap<>();
+
+    private final List<CompiledPath> paths = new ArrayList<>();
+    private final List<Matcher<?>> matchers = new ArrayList<>();
+
+    /**
+     * Starts an empty assertion set.
+     *
+     * @return a new assertion set
+     */
+    public static AssertionSet assertionSet() {
+        return new AssertionSet();
+    }
+
+    /**
+     * Adds an assertion on the value at a path.
+     *
+     * @param path    the path, e.g. {@code user_id} or {@code [0].field}
+     * @param matcher the matcher of the value
+     * @return this assertion set
+     */
+    public AssertionSet that(String path, Matcher<?> matcher) {
+        paths.add(PATH_CACHE.computeIfAbsent(path, CompiledPath::compile));
+        matchers.add(matcher);
+        return this;
+    }
+
+    @Override
+    protected boolean matchesSafely(Object body, Description mismatch) {
+        JsonNode root;
+        try {
+            root = body instanceof byte[] ? TREE_READER.readTree((byte[]) body) : TREE_READER.readTree(String.valueOf(body));
+        } catch (IOException e) {
+            mismatch.appendText("body is not valid JSON: ").appendText(e.getMessage());
+            return false;
+        }
+        boolean matches = true;
+        for (int i = 0; i < paths.size(); i++) {
+            Object value = toValue(paths.get(i).resolve(root));
+            Matcher<?> matcher = matchers.get(i);
+            if (!matcher.matches(value)) {
+                mismatch.appendText(matches ? "" : "\n          ").appendText(paths.get(i).getPath()).appendText(" ");
+                matcher.describeMismatch(value, mismatch);
+                matches = false;
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("a JSON body with");
+        for (int i = 0; i < paths.size(); i++) {
+            description.appendText(i == 0 ? " " : ", ").appendText(paths.get(i).getPath()).appendText(" ")
+                    .appendDescriptionOf(matchers.get(i));
+        }
+    }
+
+    private static Object toValue(JsonNode node) {
+        if (node == null || node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        if (node.isIntegralNumber()) {
+            return node.canConvertToInt() ? (Object) node.intValue() : node.numberValue();
+        }
+        if (node.isNumber()) {
+            return node.floatValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        return MAPPER.convertValue(node, Object.class);
+    }
+
+    /**
+     * A path split into field names and array indexes.
+     */
+    static final class CompiledPath {
+
+        private final String path;
+        // String for a field name, Integer for an array index
+        private final Object[] segments;
+
+        private CompiledPath(String path, Object[] segments) {
+            this.path = path;
+            this.segments = segments;
+        }
+
+        static CompiledPath compile(String path) {
+            List<Object> segments = new ArrayList<>();
+            int i = 0;
+            while (i < path.length()) {
+                char c = path.charAt(i);
+                if (c == '.') {
+                    i++;
+                } else if (c == '[') {
+                    int end = path.indexOf(']', i);
+                    if (end < 0) {
+                        throw new IllegalArgumentException("Unclosed index in path " + path);
+                    }
+                    segments.add(Integer.parseInt(path.substring(i + 1, end).trim()));
+                    i = end + 1;
+                } else {
+                    int end = i;
+                    while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                        end++;
+                    }
+                    segments.add(path.substring(i, end));
+                    i = end;
+                }
+            }
+            return new CompiledPath(path, segments.toArray());
+        }
+
+        String getPath() {
+            return path;
+        }
+
+        JsonNode resolve(JsonNode root) {
+            JsonNode node = root;
+            for (Object segment : segments) {
+                if (node == null) {
+                    return null;
+                }
+                node = segment instanceof Integer ? node.get((Integer) segment) : node.get((String) segment);
+            }
+            return node;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package gorest.api.assertions;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks a response body that is a top-level JSON array with the Jackson streaming parser, without
+ * building a tree of the whole body: each element is checked as soon as it has been read, and parsing
+ * stops at the first element that breaks a rule.
+ * <p>
+ * Use it with {@code .body(matcher)}, which hands the matcher the raw body:
+ * <pre>{@code
+ * .body(jsonArray()
+ *         .size(greaterThan(0))
+ *         .everyItemHasKey("name")
+ *         .everyItem("name", containsStringIgnoringCase(searchName)))
+ * }</pre>
+ * Only the top-level fields of the elements can be checked; nested objects and arrays are skipped.
+ * Values are matched as RestAssured's JsonPath returns them: strings, {@code Integer} or {@code Long}
+ * for whole numbers, {@code Float} for decimals, booleans and {@code null}.
+ */
+public class StreamingJsonArrayMatcher extends TypeSafeDiagnosingMatcher<Object> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final List<String> requiredKeys = new ArrayList<>();
+    private final Map<String, List<Matcher<?>>> fieldMatchers = new LinkedHashMap<>();
+    private Matcher<? super Integer> sizeMatcher;
+
+    /**
+     * Starts a matcher for a top-level JSON array.
+     *
+     * @return a new matcher without any rule
+     */
+    public static StreamingJsonArrayMatcher jsonArray() {
+        return new StreamingJsonArrayMatcher();
+    }
+
+    /**
+     * Requires the number of elements to match, e.g. {@code greaterThan(0)}. Unlike the other rules,
+     * this one can only be checked once the whole array has been read.
+     *
+     * @param matcher the matcher of the number of elements
+     * @return this matcher
+     */
+    public StreamingJsonArrayMatcher size(Matcher<? super Integer> matcher) {
+        this.sizeMatcher = matcher;
+        return this;
+    }
+
+    /**
+     * Requires every element to be an object with the given key.
+     *
+     * @param key the required key
+     * @return this matcher
+     */
+    public StreamingJsonArrayMatcher everyItemHasKey(String key) {
+        requiredKeys.add(key);
+        return this;
+    }
+
+    /**
+     * Requires the value of a field to match in every element that has the field, like
+     * {@code .body(field, everyItem(matcher))}. Combine with {@link #everyItemHasKey(String)} to also
+     * require the field.
+     *
+     * @param field   the field name
+     * @param matcher the matcher of the field values
+     * @return this matcher
+     */
+    public StreamingJsonArrayMatcher everyItem(String field, Matcher<?> matcher) {
+        fieldMatchers.computeIfAbsent(field, k -> new ArrayList<>()).add(matcher);
+        return this;
+    }
+
+    @Override
+    protected boolean matchesSafely(Object body, Description mismatch) {
+        try (JsonParser parser = createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                mismatch.appendText("body is not a JSON array");
+                return false;
+            }
+            int index = 0;
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    mismatch.appendText("body ends before the end of the array");
+                    return false;
+                }
+                if (!matchesElement(parser, token, index, mismatch)) {
+                    return false;
+                }
+                index++;
+            }
+            if (sizeMatcher != null && !sizeMatcher.matches(index)) {
+                mismatch.appendText("size ");
+                sizeMatcher.describeMismatch(index, mismatch);
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            mismatch.appendText("body is not valid JSON: ").appendText(e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("a JSON array");
+        if (sizeMatcher != null) {
+            description.appendText(" with size ").appendDescriptionOf(sizeMatcher);
+        }
+        for (String key : requiredKeys) {
+            description.appendText(", every item having key ").appendValue(key);
+        }
+        for (Map.Entry<String, List<Matcher<?>>> field : fieldMatchers.entrySet()) {
+            for (Matcher<?> matcher : field.getValue()) {
+                description.appendText(", every ").appendText(field.getKey()).appendText(" ").appendDescriptionOf(matcher);
+            }
+        }
+    }
+
+    private boolean matchesElement(JsonParser parser, JsonToken token, int index, Description mismatch) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            if (!requiredKeys.isEmpty() || !fieldMatchers.isEmpty()) {
+                mismatch.appendText("item " + index + " is not an object");
+                return false;
+            }
+            parser.skipChildren();
+            return true;
+        }
+        Set<String> seenKeys = requiredKeys.isEmpty() ? null : new HashSet<>();
+        for (JsonToken field = parser.nextToken(); field == JsonToken.FIELD_NAME; field = parser.nextToken()) {
+            String name = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (seenKeys != null) {
+                seenKeys.add(name);
+            }
+            List<Matcher<?>> matchers = fieldMatchers.get(name);
+            if (matchers == null || valueToken == JsonToken.START_OBJECT || valueToken == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            Object value = readScalar(parser, valueToken);
+            for (Matcher<?> matcher : matchers) {
+                if (!matcher.matches(value)) {
+                    mismatch.appendText("item " + index + " " + name + " ");
+                    matcher.describeMismatch(value, mismatch);
+                    return false;
+                }
+            }
+        }
+        if (seenKeys != null) {
+            for (String key : requiredKeys) {
+                if (!seenKeys.contains(key)) {
+                    mismatch.appendText("item " + index + " has no key ").appendValue(key);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Object readScalar(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getFloatValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private static JsonParser createParser(Object body) throws IOException {
+        if (body instanceof byte[]) {
+            return JSON_FACTORY.createParser((byte[]) body);
+        }
+        return JSON_FACTORY.createParser(String.valueOf(body));
+    }
+}
@@ -0,0 +1,62 @@
+package gorest.api.benchmarks;
+
+import gorest.api.assertions.AssertionSet;
+import io.restassured.path.json.JsonPath;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Measures the five field checks of a created user, as done by {@code UsersTests}: one JsonPath
+ * evaluation per path, like chained {@code .body(path, matcher)} calls, against one {@link AssertionSet}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BodyAssertionBenchmark {
+
+    private static final String USER =
+            "{\"id\":6940123,\"name\":\"John Doe\",\"email\":\"1684421234567-4821@email.com\",\"gender\":\"male\",\"status\":\"active\"}";
+
+    private final Matcher<Object> name = equalTo("John Doe");
+    private final Matcher<Object> email = equalTo("1684421234567-4821@email.com");
+    private final Matcher<Object> gender = equalTo("male");
+    private final Matcher<Object> status = equalTo("active");
+    private final Matcher<Object> id = notNullValue();
+
+    @Benchmark
+    public boolean chainedJsonPath() {
+        JsonPath jsonPath = JsonPath.from(USER);
+        return name.matches(jsonPath.get("name"))
+                && email.matches(jsonPath.get("email"))
+                && gender.matches(jsonPath.get("gender"))
+                && status.matches(jsonPath.get("status"))
+                && id.matches(jsonPath.get("id"));
+    }
+
+    @Benchmark
+    public boolean assertionSet() {
+        return AssertionSet.assertionSet()
+                .that("name", name)
+                .that("email", email)
+                .that("gender", gender)
+                .that("status", status)
+                .that("id", id)
+                .matches(USER);
+    }
+}
@@ -0,0 +1,68 @@
+package gorest.api.benchmarks;
+
+import gorest.api.config.Configuration;
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.models.Post;
+import gorest.api.models.User;
+import gorest.api.tests.BaseTest;
+import gorest.api.utils.JsonDataReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the loading of test data and configuration: {@link BaseTest#loadUserData(String)},
+ * {@link BaseTest#loadPostData(String)}, {@link JsonDataReader#readJsonData(String)} and the
+ * YAML parsing of {@link ConfigurationLoader}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FixtureLoadingBenchmark {
+
+    private BaseTest baseTest;
+    private byte[] configYaml;
+
+    @Setup
+    public void setup() throws Exception {
+        baseTest = new BaseTest();
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("config.yaml")) {
+            configYaml = inputStream.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public User loadUserData() throws Exception {
+        return baseTest.loadUserData("new_user_data.json");
+    }
+
+    @Benchmark
+    public Post loadPostData() throws Exception {
+        return baseTest.loadPostData("post_data.json");
+    }
+
+    @Benchmark
+    public Map<String, Object> readJsonData() throws Exception {
+        return JsonDataReader.readJsonData("new_user_data.json");
+    }
+
+    @Benchmark
+    public Configuration readConfiguration() throws Exception {
+        return ConfigurationLoader.readConfiguration(new ByteArrayInputStream(configYaml));
+    }
+}
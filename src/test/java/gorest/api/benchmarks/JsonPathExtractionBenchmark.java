@@ -0,0 +1,43 @@
+package gorest.api.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the extraction of the {@code id} of a create response, as done by the tests with
+ * {@code response.jsonPath().getInt("id")}, against a plain Jackson tree lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonPathExtractionBenchmark {
+
+    private static final String CREATE_USER_RESPONSE =
+            "{\"id\":6940123,\"name\":\"John Doe\",\"email\":\"1684421234567-4821@email.com\",\"gender\":\"male\",\"status\":\"active\"}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Benchmark
+    public int jsonPathId() {
+        return JsonPath.from(CREATE_USER_RESPONSE).getInt("id");
+    }
+
+    @Benchmark
+    public int jacksonTreeId() throws Exception {
+        return mapper.readTree(CREATE_USER_RESPONSE).get("id").asInt();
+    }
+}
@@ -0,0 +1,68 @@
+package gorest.api.benchmarks;
+
+import gorest.api.assertions.StreamingJsonArrayMatcher;
+import io.restassured.path.json.JsonPath;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.containsStringIgnoringCase;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Measures the check of a 100-user search page, as done by {@code UserSearchTests}: with JsonPath/GPath
+ * lists and Hamcrest {@code everyItem}, against the streaming {@link StreamingJsonArrayMatcher}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListAssertionBenchmark {
+
+    private String page;
+    private Matcher<Iterable<? extends String>> everyName;
+    private StreamingJsonArrayMatcher streaming;
+
+    @Setup
+    public void setup() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"id\":").append(7000000 + i)
+                    .append(",\"name\":\"John Doe ").append(i)
+                    .append("\",\"email\":\"john.doe.").append(i).append("@email.com\",\"gender\":\"male\",\"status\":\"active\"}");
+        }
+        page = json.append(']').toString();
+        everyName = everyItem(containsStringIgnoringCase("john"));
+        streaming = StreamingJsonArrayMatcher.jsonArray()
+                .size(greaterThan(0))
+                .everyItemHasKey("name")
+                .everyItem("name", containsStringIgnoringCase("john"));
+    }
+
+    @Benchmark
+    public boolean jsonPathEveryItem() {
+        JsonPath jsonPath = JsonPath.from(page);
+        List<String> names = jsonPath.getList("name");
+        return jsonPath.getInt("size()") > 0 && everyName.matches(names);
+    }
+
+    @Benchmark
+    public boolean streamingEveryItem() {
+        return streaming.matches(page);
+    }
+}
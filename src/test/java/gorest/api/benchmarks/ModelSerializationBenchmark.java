@@ -0,0 +1,86 @@
+package gorest.api.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gorest.api.models.Post;
+import gorest.api.models.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Jackson serialization and deserialization of the {@link User} and {@link Post}
+ * models, as done for every {@code .body(user)} and for every response mapped to a model.
+ * The {@code ...NewMapper} variants create an {@link ObjectMapper} per call, like the test data loaders do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelSerializationBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private User user;
+    private Post post;
+    private String userJson;
+    private String postJson;
+
+    @Setup
+    public void setup() throws Exception {
+        user = new User();
+        user.setId(6940123);
+        user.setName("John Doe");
+        user.setEmail("1684421234567-4821@email.com");
+        user.setGender("male");
+        user.setStatus("active");
+
+        post = new Post();
+        post.setId(41023);
+        post.setUserId(6940123);
+        post.setTitle("A post title");
+        post.setBody("This is the body of the post");
+
+        userJson = mapper.writeValueAsString(user);
+        postJson = mapper.writeValueAsString(post);
+    }
+
+    @Benchmark
+    public String serializeUser() throws Exception {
+        return mapper.writeValueAsString(user);
+    }
+
+    @Benchmark
+    public String serializePost() throws Exception {
+        return mapper.writeValueAsString(post);
+    }
+
+    @Benchmark
+    public User deserializeUser() throws Exception {
+        return mapper.readValue(userJson, User.class);
+    }
+
+    @Benchmark
+    public Post deserializePost() throws Exception {
+        return mapper.readValue(postJson, Post.class);
+    }
+
+    @Benchmark
+    public String serializeUserNewMapper() throws Exception {
+        return new ObjectMapper().writeValueAsString(user);
+    }
+
+    @Benchmark
+    public User deserializeUserNewMapper() throws Exception {
+        return new ObjectMapper().readValue(userJson, User.class);
+    }
+}
@@ -0,0 +1,63 @@
+package gorest.api.benchmarks;
+
+import gorest.api.schema.JsonSchema;
+import gorest.api.schema.SchemaContracts;
+import gorest.api.schema.StreamingSchemaValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the contract check the {@code SchemaValidationFilter} runs on every response: a created user and
+ * a page of 20 users validated by the {@link StreamingSchemaValidator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaValidationBenchmark {
+
+    private static final String USER =
+            "{\"id\":6940123,\"name\":\"John Doe\",\"email\":\"1684421234567-4821@email.com\",\"gender\":\"male\",\"status\":\"active\"}";
+
+    private JsonSchema userSchema;
+    private JsonSchema usersSchema;
+    private byte[] user;
+    private byte[] page;
+
+    @Setup
+    public void setUp() {
+        SchemaContracts contracts = new SchemaContracts("schemas");
+        userSchema = contracts.find("GET", "/public/v2/users/{id}", 200);
+        usersSchema = contracts.find("GET", "/public/v2/users", 200);
+        user = USER.getBytes(StandardCharsets.UTF_8);
+        StringBuilder users = new StringBuilder("[");
+        for (int i = 0; i < 20; i++) {
+            users.append(i == 0 ? "" : ",").append(USER);
+        }
+        page = users.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<String> user() {
+        return StreamingSchemaValidator.validate(userSchema, user);
+    }
+
+    @Benchmark
+    public List<String> pageOf20Users() {
+        return StreamingSchemaValidator.validate(usersSchema, page);
+    }
+}
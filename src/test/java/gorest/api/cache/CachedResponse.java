@@ -0,0 +1,66 @@
+package gorest.api.cache;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A GET response kept by the {@link ResponseCache}.
+ */
+public final class CachedResponse {
+
+    final String collection;
+    // Guarded by the lock of the ResponseCache, which reads it in lookups and restarts it on revalidation
+    long storedAt = System.nanoTime();
+    private final int statusCode;
+    private final List<Map.Entry<String, String>> headers;
+    private final byte[] body;
+
+    CachedResponse(String collection, int statusCode, List<Map.Entry<String, String>> headers, byte[] body) {
+        this.collection = collection;
+        this.statusCode = statusCode;
+        this.headers = List.copyOf(headers);
+        this.body = body;
+    }
+
+    /**
+     * Gets the status code.
+     *
+     * @return the status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Gets the response headers.
+     *
+     * @return the headers, as name and value pairs
+     */
+    public List<Map.Entry<String, String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Gets the first value of a header.
+     *
+     * @param name the header name, in any case
+     * @return the value, or {@code null} if the response has no such header
+     */
+    public String getHeader(String name) {
+        for (Map.Entry<String, String> header : headers) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the response body. Shared by every request answered from the cache: not to be modified.
+     *
+     * @return the body
+     */
+    public byte[] getBody() {
+        return body;
+    }
+}
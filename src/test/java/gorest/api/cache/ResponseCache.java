@@ -0,0 +1,255 @@
+package gorest.api.cache;
+
+import gorest.api.config.ResponseCacheConfiguration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the successful GET responses of a run, so tests that only read reference data do not send the same
+ * request again and again.
+ * <p>
+ * A response is cached under its path, sorted query parameters and {@code Authorization} header, so
+ * requests made with another token never share a response. At most {@code max_entries} responses are kept,
+ * evicting the least recently used one. A response younger than {@code max_age_seconds} is used without
+ * asking the server; an older one is revalidated with {@code If-None-Match} when it has an {@code ETag},
+ * and kept if the server answers {@code 304 Not Modified}.
+ * <p>
+ * Any POST, PUT, PATCH or DELETE sent by the run evicts every response of the collection it touches, the
+ * last non-numeric segment of its path (e.g. {@code users} for {@code /public/v2/users/42}), and of the
+ * collections configured as its {@code cascades}. A GET sent before such a write and answered after it is
+ * not cached, as it may have read the data from before the write. Changes made outside the run are only
+ * seen once a response is revalidated.
+ */
+public class ResponseCache {
+
+    private static final Logger logger = LogManager.getLogger(ResponseCache.class);
+
+    private static volatile ResponseCache shared;
+
+    private final long maxAgeNanos;
+    private final Map<String, List<String>> cascades;
+    private final Map<String, CachedResponse> responses;
+    private final Map<String, Long> generations = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param configuration the response cache settings
+     */
+    public ResponseCache(ResponseCacheConfiguration configuration) {
+        int maxEntries = configuration.getMaxEntries();
+        if (maxEntries < 1) {
+            throw new RuntimeException("response_cache.max_entries must be > 0");
+        }
+        this.maxAgeNanos = TimeUnit.SECONDS.toNanos(configuration.getMaxAgeSeconds());
+        this.cascades = configuration.getCascades();
+        this.responses = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets the cache shared by the whole test run, creating it on first use. Its statistics are logged
+     * when the JVM exits.
+     *
+     * @param configuration the response cache settings, only used on the first call
+     * @return the shared cache
+     */
+    public static ResponseCache getShared(ResponseCacheConfiguration configuration) {
+        if (shared == null) {
+            synchronized (ResponseCache.class) {
+                if (shared == null) {
+                    ResponseCache cache = new ResponseCache(configuration);
+                    Runtime.getRuntime().addShutdownHook(new Thread(cache::logStatistics, "response-cache-statistics"));
+                    shared = cache;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Checks whether the responses of a method can be cached.
+     *
+     * @param method the HTTP method
+     * @return {@code true} for GET
+     */
+    public static boolean isCacheable(String method) {
+        return "GET".equalsIgnoreCase(method);
+    }
+
+    /**
+     * Looks up the cached response of a GET, before sending it.
+     *
+     * @param uri           the request URI, with its query string
+     * @param authorization the {@code Authorization} header of the request, or {@code null}
+     * @return the lookup, to pass to {@link #revalidated(Lookup)} or {@link #store(Lookup, CachedResponse)}
+     * once the response is received when it is not {@link Lookup#isFresh() fresh}
+     */
+    public Lookup lookup(String uri, String authorization) {
+        URI parsed = URI.create(uri);
+        String key = key(parsed, authorization);
+        String collection = collection(parsed.getRawPath());
+        synchronized (this) {
+            CachedResponse response = responses.get(key);
+            boolean fresh = response != null && System.nanoTime() - response.storedAt < maxAgeNanos;
+            if (fresh) {
+                hits.increment();
+            }
+            return new Lookup(key, collection, generations.getOrDefault(collection, 0L), response, fresh);
+        }
+    }
+
+    /**
+     * Keeps a cached response the server answered {@code 304 Not Modified} for, and restarts its age.
+     *
+     * @param lookup the lookup of the request
+     * @return the cached response
+     */
+    public CachedResponse revalidated(Lookup lookup) {
+        revalidations.increment();
+        synchronized (this) {
+            lookup.response.storedAt = System.nanoTime();
+        }
+        return lookup.response;
+    }
+
+    /**
+     * Caches the response of a GET if it succeeded and its collection was not written to since it was sent.
+     *
+     * @param lookup   the lookup of the request
+     * @param response the response
+     */
+    public void store(Lookup lookup, CachedResponse response) {
+        misses.increment();
+        if (response.getStatusCode() != 200) {
+            return;
+        }
+        synchronized (this) {
+            if (generations.getOrDefault(lookup.collection, 0L) == lookup.generation) {
+                responses.put(lookup.key, response);
+            }
+        }
+    }
+
+    /**
+     * Evicts the responses of the collection a write touches and of its cascades. Called before and after
+     * every write, as its effect is visible from some time during the request.
+     *
+     * @param method the HTTP method of the request
+     * @param uri    the request URI
+     */
+    public void invalidate(String method, String uri) {
+        if (isCacheable(method) || "HEAD".equalsIgnoreCase(method) || "OPTIONS".equalsIgnoreCase(method)) {
+            return;
+        }
+        String collection = collection(URI.create(uri).getRawPath());
+        List<String> dependents = cascades.getOrDefault(collection, Collections.emptyList());
+        synchronized (this) {
+            invalidations.increment();
+            generations.merge(collection, 1L, Long::sum);
+            dependents.forEach(dependent -> generations.merge(dependent, 1L, Long::sum));
+            responses.values().removeIf(response -> response.collection.equals(collection)
+                    || dependents.contains(response.collection));
+        }
+    }
+
+    private void logStatistics() {
+        logger.info("Response cache: {} hits, {} revalidated, {} misses, {} invalidating writes",
+                hits.sum(), revalidations.sum(), misses.sum(), invalidations.sum());
+    }
+
+    private static String key(URI uri, String authorization) {
+        StringBuilder key = new StringBuilder(uri.getRawPath());
+        String query = uri.getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            String[] parameters = query.split("&");
+            Arrays.sort(parameters);
+            key.append('?').append(String.join("&", parameters));
+        }
+        return key.append(' ').append(authorization).toString();
+    }
+
+    private static String collection(String path) {
+        String[] segments = path.split("/");
+        for (int i = segments.length - 1; i >= 0; i--) {
+            if (!segments[i].isEmpty() && !segments[i].chars().allMatch(Character::isDigit)) {
+                return segments[i];
+            }
+        }
+        return "";
+    }
+
+    /**
+     * The state of the cache for a GET when it was sent.
+     */
+    public static final class Lookup {
+        private final String key;
+        private final String collection;
+        private final long generation;
+        private final CachedResponse response;
+        private final boolean fresh;
+
+        Lookup(String key, String collection, long generation, CachedResponse response, boolean fresh) {
+            this.key = key;
+            this.collection = collection;
+            this.generation = generation;
+            this.response = response;
+            this.fresh = fresh;
+        }
+
+        /**
+         * Checks whether the cached response can be used without asking the server.
+         *
+         * @return {@code true} if a response younger than the maximum age is cached
+         */
+        public boolean isFresh() {
+            return fresh;
+        }
+
+        /**
+         * Gets the cached response, fresh or not.
+         *
+         * @return the cached response, or {@code null} if none is cached
+         */
+        public CachedResponse getResponse() {
+            return response;
+        }
+
+        /**
+         * Gets the {@code ETag} to send as {@code If-None-Match} to revalidate a cached response that is not fresh.
+         *
+         * @return the entity tag, or {@code null} if there is no cached response or it had none
+         */
+        public String getETag() {
+            return response == null ? null : response.getHeader("ETag");
+        }
+
+        /**
+         * Creates the response to cache for this request.
+         *
+         * @param statusCode the status code
+         * @param headers    the response headers, as name and value pairs
+         * @param body       the response body
+         * @return the response
+         */
+        public CachedResponse newResponse(int statusCode, List<Map.Entry<String, String>> headers, byte[] body) {
+            return new CachedResponse(collection, statusCode, headers, body);
+        }
+    }
+}
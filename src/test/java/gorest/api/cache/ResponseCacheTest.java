@@ -0,0 +1,170 @@
+package gorest.api.cache;
+
+import gorest.api.config.ResponseCacheConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseCacheTest {
+
+    private static final String BASE = "https://gorest.test/public/v2";
+    private static final String TOKEN = "Bearer token";
+
+    @DisplayName("A stored 200 is served fresh, under its sorted query and token")
+    @Test
+    public void testStoreAndHit() {
+        ResponseCache cache = cache(10);
+        ResponseCache.Lookup lookup = cache.lookup(BASE + "/users?page=2&per_page=10", TOKEN);
+        assertFalse(lookup.isFresh());
+        CachedResponse response = response(lookup, 200, "[]");
+        cache.store(lookup, response);
+
+        ResponseCache.Lookup hit = cache.lookup(BASE + "/users?per_page=10&page=2", TOKEN);
+        assertTrue(hit.isFresh());
+        assertSame(response, hit.getResponse());
+        assertNull(cache.lookup(BASE + "/users?per_page=10&page=2", "Bearer other").getResponse());
+    }
+
+    @DisplayName("Only 200 responses are stored")
+    @Test
+    public void testErrorsAreNotStored() {
+        ResponseCache cache = cache(10);
+        ResponseCache.Lookup lookup = cache.lookup(BASE + "/users/42", TOKEN);
+        cache.store(lookup, response(lookup, 404, "{}"));
+
+        assertNull(cache.lookup(BASE + "/users/42", TOKEN).getResponse());
+    }
+
+    @DisplayName("A GET sent before a write and answered after it is not cached")
+    @Test
+    public void testGetOverlappingWriteIsNotStored() {
+        ResponseCache cache = cache(10);
+        ResponseCache.Lookup lookup = cache.lookup(BASE + "/users", TOKEN);
+        cache.invalidate("POST", BASE + "/users");
+        cache.store(lookup, response(lookup, 200, "[]"));
+
+        assertNull(cache.lookup(BASE + "/users", TOKEN).getResponse());
+
+        ResponseCache.Lookup after = cache.lookup(BASE + "/users", TOKEN);
+        cache.store(after, response(after, 200, "[]"));
+        assertTrue(cache.lookup(BASE + "/users", TOKEN).isFresh());
+    }
+
+    @DisplayName("A write evicts its collection and its cascades, and nothing else")
+    @Test
+    public void testCascadeInvalidation() {
+        ResponseCache cache = cache(10);
+        String[] uris = {BASE + "/users/42", BASE + "/users/42/posts", BASE + "/posts/7/comments", BASE + "/todos", BASE + "/albums"};
+        for (String uri : uris) {
+            ResponseCache.Lookup lookup = cache.lookup(uri, TOKEN);
+            cache.store(lookup, response(lookup, 200, "{}"));
+        }
+
+        cache.invalidate("GET", BASE + "/posts/7");
+        cache.invalidate("PATCH", BASE + "/posts/7");
+
+        assertTrue(cache.lookup(BASE + "/users/42", TOKEN).isFresh());
+        assertNull(cache.lookup(BASE + "/users/42/posts", TOKEN).getResponse());
+        assertNull(cache.lookup(BASE + "/posts/7/comments", TOKEN).getResponse());
+        assertTrue(cache.lookup(BASE + "/todos", TOKEN).isFresh());
+
+        cache.invalidate("DELETE", BASE + "/users/42");
+        assertNull(cache.lookup(BASE + "/users/42", TOKEN).getResponse());
+        assertNull(cache.lookup(BASE + "/todos", TOKEN).getResponse());
+        assertTrue(cache.lookup(BASE + "/albums", TOKEN).isFresh());
+    }
+
+    @DisplayName("The least recently used response is evicted beyond max_entries")
+    @Test
+    public void testLruEviction() {
+        ResponseCache cache = cache(2);
+        for (String uri : List.of(BASE + "/users/1", BASE + "/users/2")) {
+            ResponseCache.Lookup lookup = cache.lookup(uri, TOKEN);
+            cache.store(lookup, response(lookup, 200, "{}"));
+        }
+        // Reading users/1 makes users/2 the least recently used
+        cache.lookup(BASE + "/users/1", TOKEN);
+        ResponseCache.Lookup third = cache.lookup(BASE + "/users/3", TOKEN);
+        cache.store(third, response(third, 200, "{}"));
+
+        assertTrue(cache.lookup(BASE + "/users/1", TOKEN).isFresh());
+        assertNull(cache.lookup(BASE + "/users/2", TOKEN).getResponse());
+        assertTrue(cache.lookup(BASE + "/users/3", TOKEN).isFresh());
+    }
+
+    @DisplayName("A stale response is revalidated with its ETag and is fresh again after a 304")
+    @Test
+    public void testRevalidation() {
+        ResponseCache cache = cache(10);
+        ResponseCache.Lookup lookup = cache.lookup(BASE + "/users/42", TOKEN);
+        CachedResponse response = lookup.newResponse(200, List.of(Map.entry("etag", "W/\"abc-2\"")),
+                "{}".getBytes(StandardCharsets.UTF_8));
+        cache.store(lookup, response);
+        response.storedAt -= TimeUnit.SECONDS.toNanos(60);
+
+        ResponseCache.Lookup stale = cache.lookup(BASE + "/users/42", TOKEN);
+        assertFalse(stale.isFresh());
+        assertEquals("W/\"abc-2\"", stale.getETag());
+
+        assertSame(response, cache.revalidated(stale));
+        assertTrue(cache.lookup(BASE + "/users/42", TOKEN).isFresh());
+    }
+
+    @DisplayName("A 304 restarts the age of the entry, which is fresh until max_age_seconds have passed again")
+    @Test
+    public void testAgeAfterRevalidation() throws InterruptedException {
+        ResponseCache cache = cache(10);
+        ResponseCache.Lookup lookup = cache.lookup(BASE + "/users/42", TOKEN);
+        CachedResponse response = lookup.newResponse(200, List.of(Map.entry("ETag", "W/\"abc-2\"")),
+                "{}".getBytes(StandardCharsets.UTF_8));
+        cache.store(lookup, response);
+        synchronized (cache) {
+            response.storedAt -= TimeUnit.SECONDS.toNanos(60);
+        }
+        ResponseCache.Lookup stale = cache.lookup(BASE + "/users/42", TOKEN);
+
+        // Revalidated by another thread, as when tests run in parallel
+        long before = System.nanoTime();
+        Thread revalidation = new Thread(() -> cache.revalidated(stale));
+        revalidation.start();
+        revalidation.join();
+
+        long age;
+        synchronized (cache) {
+            age = System.nanoTime() - response.storedAt;
+        }
+        assertTrue(age <= System.nanoTime() - before, "The age should restart at the 304");
+        assertTrue(cache.lookup(BASE + "/users/42", TOKEN).isFresh());
+
+        synchronized (cache) {
+            response.storedAt -= TimeUnit.SECONDS.toNanos(29);
+        }
+        assertTrue(cache.lookup(BASE + "/users/42", TOKEN).isFresh());
+        synchronized (cache) {
+            response.storedAt -= TimeUnit.SECONDS.toNanos(2);
+        }
+        assertFalse(cache.lookup(BASE + "/users/42", TOKEN).isFresh());
+    }
+
+    private static ResponseCache cache(int maxEntries) {
+        ResponseCacheConfiguration configuration = new ResponseCacheConfiguration();
+        configuration.setMaxEntries(maxEntries);
+        configuration.setMaxAgeSeconds(30);
+        configuration.setCascades(Map.of("users", List.of("posts", "comments", "todos"), "posts", List.of("comments")));
+        return new ResponseCache(configuration);
+    }
+
+    private static CachedResponse response(ResponseCache.Lookup lookup, int statusCode, String body) {
+        return lookup.newResponse(statusCode, List.of(), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
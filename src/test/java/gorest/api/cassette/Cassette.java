@@ -0,0 +1,358 @@
+package gorest.api.cassette;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import gorest.api.config.CassetteConfiguration;
+import gorest.api.data.TestDataFactory;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores the exchanges of a run on disk, or replays them in a later run.
+ * <p>
+ * A cassette is a directory holding three files:
+ * <ul>
+ *     <li>{@code exchanges.jsonl.gz}: one {@link CassetteEntry} per line, each line compressed as its own
+ *     gzip member, so any entry can be decompressed alone while {@code zcat} still reads the whole file</li>
+ *     <li>{@code index.bin}: fixed-size records of a {@link Fingerprint} key, the entry's offset and its
+ *     compressed length, sorted by key</li>
+ *     <li>{@code cassette.json}: the format version, the entry count and the seed of the generated emails</li>
+ * </ul>
+ * Replay memory-maps the index and the data and finds entries with a binary search, so opening a cassette
+ * reads nothing up front. Recording appends entries as they come and writes the index when the run ends.
+ * <p>
+ * The generated emails are part of the recorded request bodies and queries: in both modes the
+ * {@link TestDataFactory} generates a sequence seeded by the cassette, see {@link #getSeed()}, so a replay
+ * sends the same requests as its recording as long as the same tests run in the same order.
+ */
+public class Cassette implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(Cassette.class);
+    private static final int FORMAT_VERSION = 1;
+    private static final int INDEX_RECORD_LENGTH = Fingerprint.KEY_LENGTH + Long.BYTES + Integer.BYTES;
+    private static final String DATA_FILE = "exchanges.jsonl.gz";
+    private static final String INDEX_FILE = "index.bin";
+    private static final String META_FILE = "cassette.json";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader ENTRY_READER = MAPPER.readerFor(CassetteEntry.class);
+    private static final ObjectWriter ENTRY_WRITER = MAPPER.writerFor(CassetteEntry.class);
+
+    private static Cassette shared;
+
+    private final Path directory;
+    private final boolean replaying;
+    private final long seed;
+    private final Map<String, AtomicInteger> occurrences = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // Replay
+    private MappedByteBuffer index;
+    private MappedByteBuffer data;
+    private int entryCount;
+
+    // Record
+    private OutputStream out;
+    private long written;
+    private final List<IndexRecord> indexRecords = new ArrayList<>();
+    private boolean closed;
+
+    private Cassette(Path directory, boolean replaying, long seed) {
+        this.directory = directory;
+        this.replaying = replaying;
+        this.seed = seed;
+    }
+
+    /**
+     * Opens the cassette of the run, as configured, unless cassettes are off. Called once the
+     * configuration is loaded, before any request is built. The cassette is closed when the JVM exits.
+     *
+     * @param configuration the cassette settings
+     * @return the open cassette, or {@code null} if the mode is off
+     */
+    public static synchronized Cassette openShared(CassetteConfiguration configuration) {
+        if (shared == null && !"off".equalsIgnoreCase(configuration.getMode())) {
+            Path directory = Paths.get(configuration.getDirectory(), configuration.getName());
+            Cassette cassette = "replay".equalsIgnoreCase(configuration.getMode()) ? replay(directory) : record(directory);
+            Runtime.getRuntime().addShutdownHook(new Thread(cassette::close, "cassette-close"));
+            shared = cassette;
+        }
+        return shared;
+    }
+
+    /**
+     * Gets the cassette of the run.
+     *
+     * @return the open cassette, or {@code null} if cassettes are off
+     */
+    public static synchronized Cassette getShared() {
+        return shared;
+    }
+
+    /**
+     * Starts recording a cassette, replacing the one in the directory, if any.
+     *
+     * @param directory the cassette directory
+     * @return the cassette
+     */
+    public static Cassette record(Path directory) {
+        Cassette cassette = new Cassette(directory, false, System.currentTimeMillis());
+        try {
+            Files.createDirectories(directory);
+            Files.deleteIfExists(directory.resolve(INDEX_FILE));
+            Files.deleteIfExists(directory.resolve(META_FILE));
+            cassette.out = new BufferedOutputStream(Files.newOutputStream(directory.resolve(DATA_FILE)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create the cassette " + directory, e);
+        }
+        logger.info("Recording the cassette {}", directory);
+        return cassette;
+    }
+
+    /**
+     * Opens a recorded cassette for replay.
+     *
+     * @param directory the cassette directory
+     * @return the cassette
+     */
+    public static Cassette replay(Path directory) {
+        if (!Files.isRegularFile(directory.resolve(META_FILE))) {
+            throw new RuntimeException("Cassette " + directory + " not found or incomplete, record it first with -Pcassette-record");
+        }
+        try {
+            JsonNode meta = MAPPER.readTree(directory.resolve(META_FILE).toFile());
+            if (meta.path("format_version").asInt() != FORMAT_VERSION) {
+                throw new RuntimeException("Cassette " + directory + " has format version " + meta.path("format_version").asInt()
+                        + ", expected " + FORMAT_VERSION + "; record it again");
+            }
+            Cassette cassette = new Cassette(directory, true, meta.path("seed").asLong());
+            cassette.index = map(directory.resolve(INDEX_FILE));
+            cassette.data = map(directory.resolve(DATA_FILE));
+            cassette.entryCount = cassette.index.capacity() / INDEX_RECORD_LENGTH;
+            logger.info("Replaying the cassette {} ({} exchanges)", directory, cassette.entryCount);
+            return cassette;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the cassette " + directory, e);
+        }
+    }
+
+    /**
+     * Gets the seed of the generated test data: the time the recording started.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Checks whether the cassette replays exchanges rather than recording them.
+     *
+     * @return {@code true} in replay mode
+     */
+    public boolean isReplaying() {
+        return replaying;
+    }
+
+    /**
+     * Fingerprints a request about to be sent, counting it as the next occurrence of identical requests.
+     *
+     * @param method the request method
+     * @param uri    the full request URI
+     * @param body   the request body, or {@code null}
+     * @return the fingerprint
+     */
+    public Fingerprint nextFingerprint(String method, String uri, byte[] body) {
+        Fingerprint first = Fingerprint.of(method, uri, body);
+        int occurrence = occurrences.computeIfAbsent(first.getRequest(), k -> new AtomicInteger()).getAndIncrement();
+        return occurrence == 0 ? first : first.withOccurrence(occurrence);
+    }
+
+    /**
+     * Looks up the recorded exchange of a request.
+     *
+     * @param fingerprint the request fingerprint
+     * @return the recorded exchange, or {@code null} if the request was not recorded
+     */
+    public CassetteEntry find(Fingerprint fingerprint) {
+        int position = search(fingerprint.getKey());
+        if (position < 0) {
+            misses.increment();
+            return null;
+        }
+        long offset = index.getLong(position + Fingerprint.KEY_LENGTH);
+        int length = index.getInt(position + Fingerprint.KEY_LENGTH + Long.BYTES);
+        ByteBuffer slice = data.duplicate();
+        slice.position((int) offset).limit((int) offset + length);
+        byte[] compressed = new byte[length];
+        slice.get(compressed);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            hits.increment();
+            return ENTRY_READER.readValue(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + fingerprint + " from the cassette " + directory, e);
+        }
+    }
+
+    /**
+     * Appends an exchange to the cassette.
+     *
+     * @param fingerprint the request fingerprint
+     * @param response    the response received
+     */
+    public void record(Fingerprint fingerprint, Response response) {
+        CassetteEntry entry = new CassetteEntry();
+        entry.setMethod(fingerprint.getMethod());
+        entry.setPath(fingerprint.getPath());
+        entry.setQuery(fingerprint.getQuery());
+        entry.setBodySha256(fingerprint.getBodySha256());
+        entry.setOccurrence(fingerprint.getOccurrence());
+        entry.setStatus(response.getStatusCode());
+        entry.setStatusLine(response.getStatusLine());
+        for (Header header : response.getHeaders()) {
+            entry.getHeaders().add(header.getName() + ": " + header.getValue());
+        }
+        entry.setBody(response.asString());
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(512);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(ENTRY_WRITER.writeValueAsBytes(entry));
+            gzip.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            try {
+                compressed.writeTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write to the cassette " + directory, e);
+            }
+            indexRecords.add(new IndexRecord(fingerprint, written, compressed.size()));
+            written += compressed.size();
+        }
+    }
+
+    /**
+     * Finishes a recording by writing its index, or logs how many requests a replay answered.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (replaying) {
+            logger.info("Replayed {} requests from the cassette {}, {} sent live", hits.sum(), directory, misses.sum());
+            return;
+        }
+        try {
+            out.close();
+            Collections.sort(indexRecords);
+            try (DataOutputStream indexOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(directory.resolve(INDEX_FILE))))) {
+                for (IndexRecord record : indexRecords) {
+                    indexOut.write(record.fingerprint.getKey());
+                    indexOut.writeLong(record.offset);
+                    indexOut.writeInt(record.length);
+                }
+            }
+            ObjectNode meta = MAPPER.createObjectNode()
+                    .put("format_version", FORMAT_VERSION)
+                    .put("entries", indexRecords.size())
+                    .put("seed", seed)
+                    .put("recorded_at", Instant.now().toString());
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(directory.resolve(META_FILE).toFile(), meta);
+            logger.info("Recorded {} exchanges to the cassette {}", indexRecords.size(), directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not finish the cassette " + directory, e);
+        }
+    }
+
+    /**
+     * Binary search of the index.
+     *
+     * @return the position of the key's record in the index, or -1 if it is missing
+     */
+    private int search(byte[] key) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int position = middle * INDEX_RECORD_LENGTH;
+            int comparison = compareKey(position, key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private int compareKey(int position, byte[] key) {
+        for (int i = 0; i < key.length; i++) {
+            int comparison = Integer.compare(Byte.toUnsignedInt(index.get(position + i)), Byte.toUnsignedInt(key[i]));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static final class IndexRecord implements Comparable<IndexRecord> {
+        private final Fingerprint fingerprint;
+        private final long offset;
+        private final int length;
+
+        IndexRecord(Fingerprint fingerprint, long offset, int length) {
+            this.fingerprint = fingerprint;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int compareTo(IndexRecord other) {
+            return fingerprint.compareTo(other.fingerprint);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package gorest.api.cassette;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One recorded exchange: the request it answers and the response to replay.
+ */
+public class CassetteEntry {
+
+    @JsonProperty("method")
+    private String method;
+
+    @JsonProperty("path")
+    private String path;
+
+    @JsonProperty("query")
+    private String query;
+
+    @JsonProperty("body_sha256")
+    private String bodySha256;
+
+    @JsonProperty("occurrence")
+    private int occurrence;
+
+    @JsonProperty("status")
+    private int status;
+
+    @JsonProperty("status_line")
+    private String statusLine;
+
+    @JsonProperty("headers")
+    private List<String> headers = new ArrayList<>();
+
+    @JsonProperty("body")
+    private String body;
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Gets the query string, with its parameters sorted.
+     *
+     * @return the query string, empty if there is none
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    /**
+     * Gets the SHA-256 of the request body.
+     *
+     * @return the hex digest, empty if the request had no body
+     */
+    public String getBodySha256() {
+        return bodySha256;
+    }
+
+    public void setBodySha256(String bodySha256) {
+        this.bodySha256 = bodySha256;
+    }
+
+    /**
+     * Gets how many identical requests were sent before this one in the recorded run.
+     *
+     * @return the occurrence index, from 0
+     */
+    public int getOccurrence() {
+        return occurrence;
+    }
+
+    public void setOccurrence(int occurrence) {
+        this.occurrence = occurrence;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public String getStatusLine() {
+        return statusLine;
+    }
+
+    public void setStatusLine(String statusLine) {
+        this.statusLine = statusLine;
+    }
+
+    /**
+     * Gets the response headers.
+     *
+     * @return the headers, as {@code Name: value} lines
+     */
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(List<String> headers) {
+        this.headers = headers;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+}
@@ -0,0 +1,149 @@
+package gorest.api.cassette;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CassetteTest {
+
+    private static final String BASE = "http://localhost:8080/public/v2";
+    private static final int USERS = 50;
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("A recorded cassette replays every exchange, in any order, and repeated requests in sequence")
+    @Test
+    public void testRecordAndReplay() throws IOException {
+        Cassette recording = Cassette.record(directory);
+        for (int id = 1; id <= USERS; id++) {
+            record(recording, "GET", BASE + "/users/" + id, null, 200, "{\"id\":" + id + "}");
+        }
+        record(recording, "GET", BASE + "/users?page=2&gender=male", null, 200, "[\"first\"]");
+        record(recording, "DELETE", BASE + "/users/7", null, 204, "");
+        record(recording, "GET", BASE + "/users?page=2&gender=male", null, 200, "[\"second\"]");
+        record(recording, "POST", BASE + "/users", bytes("{\"name\":\"a\"}"), 201, "{\"name\":\"a\"}");
+        record(recording, "POST", BASE + "/users", bytes("{\"name\":\"b\"}"), 201, "{\"name\":\"b\"}");
+        recording.close();
+
+        try (Cassette replay = Cassette.replay(directory)) {
+            assertTrue(replay.isReplaying());
+            assertEquals(recording.getSeed(), replay.getSeed());
+
+            // Another order than the recording's: entries are found through the sorted index
+            assertEquals("{\"name\":\"b\"}", find(replay, "POST", BASE + "/users", bytes("{\"name\":\"b\"}")).getBody());
+            for (int id = USERS; id >= 1; id--) {
+                CassetteEntry entry = find(replay, "GET", BASE + "/users/" + id, null);
+                assertEquals("{\"id\":" + id + "}", entry.getBody());
+                assertEquals("/public/v2/users/" + id, entry.getPath());
+            }
+            // The same request twice replays both responses in order, whatever the order of its query
+            CassetteEntry first = find(replay, "GET", BASE + "/users?gender=male&page=2", null);
+            CassetteEntry second = find(replay, "GET", BASE + "/users?page=2&gender=male", null);
+            assertEquals("[\"first\"]", first.getBody());
+            assertEquals(0, first.getOccurrence());
+            assertEquals("[\"second\"]", second.getBody());
+            assertEquals(1, second.getOccurrence());
+            assertEquals("gender=male&page=2", second.getQuery());
+
+            CassetteEntry deleted = find(replay, "DELETE", BASE + "/users/7", null);
+            assertEquals(204, deleted.getStatus());
+            assertEquals("HTTP/1.1 204 OK", deleted.getStatusLine());
+            assertTrue(deleted.getHeaders().contains("X-Recorded: DELETE"));
+
+            assertNull(find(replay, "GET", BASE + "/users?page=2&gender=male", null));
+            assertNull(find(replay, "GET", BASE + "/users/" + (USERS + 1), null));
+            assertNull(find(replay, "POST", BASE + "/users", bytes("{\"name\":\"c\"}")));
+        }
+    }
+
+    @DisplayName("The index is sorted by key and the data is one gzip member per entry, readable as a whole")
+    @Test
+    public void testFileLayout() throws IOException {
+        Cassette recording = Cassette.record(directory);
+        for (int id = 1; id <= USERS; id++) {
+            record(recording, "GET", BASE + "/users/" + id, null, 200, "{\"id\":" + id + "}");
+        }
+        recording.close();
+
+        byte[] index = Files.readAllBytes(directory.resolve("index.bin"));
+        int recordLength = Fingerprint.KEY_LENGTH + Long.BYTES + Integer.BYTES;
+        assertEquals(USERS * recordLength, index.length);
+        long expectedOffset = 0;
+        long[] offsets = new long[USERS];
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(directory.resolve("index.bin")))) {
+            byte[] previous = null;
+            for (int i = 0; i < USERS; i++) {
+                byte[] key = new byte[Fingerprint.KEY_LENGTH];
+                in.readFully(key);
+                offsets[i] = in.readLong();
+                expectedOffset += in.readInt();
+                if (previous != null) {
+                    assertTrue(Arrays.compareUnsigned(previous, key) < 0);
+                }
+                previous = key;
+            }
+        }
+        // Every entry is a member of its own: the lengths add up to the file, and the offsets all differ
+        assertEquals(Files.size(directory.resolve("exchanges.jsonl.gz")), expectedOffset);
+        assertEquals(USERS, Arrays.stream(offsets).distinct().count());
+
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(directory.resolve("exchanges.jsonl.gz"))), StandardCharsets.UTF_8))) {
+            lines = reader.lines().collect(Collectors.toList());
+        }
+        assertEquals(USERS, lines.size());
+        assertTrue(lines.get(0).contains("/public/v2/users/1\""));
+        assertFalse(Files.readString(directory.resolve("cassette.json")).isEmpty());
+    }
+
+    @DisplayName("Replaying a cassette that was never closed fails with a hint")
+    @Test
+    public void testReplayIncompleteCassette() {
+        Cassette recording = Cassette.record(directory);
+        record(recording, "GET", BASE + "/users/1", null, 200, "{}");
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> Cassette.replay(directory));
+        assertTrue(error.getMessage().contains("record it first"));
+        recording.close();
+    }
+
+    private static void record(Cassette cassette, String method, String uri, byte[] body, int status, String responseBody) {
+        Response response = new ResponseBuilder()
+                .setStatusCode(status)
+                .setStatusLine("HTTP/1.1 " + status + " OK")
+                .setHeader("X-Recorded", method)
+                .setBody(responseBody)
+                .build();
+        cassette.record(cassette.nextFingerprint(method, uri, body), response);
+    }
+
+    private static CassetteEntry find(Cassette cassette, String method, String uri, byte[] body) {
+        return cassette.find(cassette.nextFingerprint(method, uri, body));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,141 @@
+package gorest.api.cassette;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Identifies a request in a cassette: its method, path, sorted query parameters and body hash, and how
+ * many identical requests came before it, so a request sent twice, e.g. a GET before and after a delete,
+ * replays both responses in order. The scheme and host are left out, so a cassette recorded against the
+ * embedded server replays against any base URL.
+ */
+public final class Fingerprint implements Comparable<Fingerprint> {
+
+    /**
+     * Number of bytes of the SHA-256 kept as the index key.
+     */
+    static final int KEY_LENGTH = 16;
+
+    private final String method;
+    private final String path;
+    private final String query;
+    private final String bodySha256;
+    private final int occurrence;
+    private final byte[] key;
+
+    private Fingerprint(String method, String path, String query, String bodySha256, int occurrence) {
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.bodySha256 = bodySha256;
+        this.occurrence = occurrence;
+        this.key = Arrays.copyOf(sha256(getRequest() + '\n' + bodySha256 + '\n' + occurrence), KEY_LENGTH);
+    }
+
+    /**
+     * Gets the part of the fingerprint that identical requests share: method, path, query and body hash.
+     *
+     * @param method the request method
+     * @param uri    the full request URI
+     * @param body   the request body, or {@code null}
+     * @return the fingerprint of the first occurrence of the request
+     */
+    static Fingerprint of(String method, String uri, byte[] body) {
+        URI parsed = URI.create(uri);
+        String query = parsed.getRawQuery() == null ? "" : sortQuery(parsed.getRawQuery());
+        String bodySha256 = body == null || body.length == 0 ? "" : hex(sha256(body));
+        return new Fingerprint(method.toUpperCase(), parsed.getRawPath(), query, bodySha256, 0);
+    }
+
+    /**
+     * Gets the fingerprint of a later occurrence of the same request.
+     *
+     * @param occurrence the occurrence index, from 0
+     * @return the fingerprint
+     */
+    Fingerprint withOccurrence(int occurrence) {
+        return new Fingerprint(method, path, query, bodySha256, occurrence);
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    String getQuery() {
+        return query;
+    }
+
+    String getBodySha256() {
+        return bodySha256;
+    }
+
+    int getOccurrence() {
+        return occurrence;
+    }
+
+    byte[] getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the request line and body hash, shared by every occurrence of the request.
+     *
+     * @return e.g. {@code GET /public/v2/users?gender=male&page=2}
+     */
+    String getRequest() {
+        return method + ' ' + path + (query.isEmpty() ? "" : "?" + query) + (bodySha256.isEmpty() ? "" : " " + bodySha256);
+    }
+
+    @Override
+    public int compareTo(Fingerprint other) {
+        return Arrays.compareUnsigned(key, other.key);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Fingerprint && Arrays.equals(key, ((Fingerprint) other).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(key);
+    }
+
+    @Override
+    public String toString() {
+        return getRequest() + " #" + occurrence;
+    }
+
+    private static String sortQuery(String rawQuery) {
+        String[] parameters = rawQuery.split("&");
+        Arrays.sort(parameters);
+        return String.join("&", parameters);
+    }
+
+    private static byte[] sha256(String text) {
+        return sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+}
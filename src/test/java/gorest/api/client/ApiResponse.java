@@ -0,0 +1,146 @@
+package gorest.api.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.Matcher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static gorest.api.assertions.AssertionSet.assertionSet;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * A response of a typed API client, with its body decoded to the type of the call on demand.
+ * <p>
+ * The assertion methods mirror RestAssured's {@code then()}, so tests read the same on either transport:
+ * <pre>{@code
+ * usersApi().create(user)
+ *         .statusCode(201)
+ *         .body(assertionSet()
+ *                 .that("name", equalTo(user.getName()))
+ *                 .that("id", notNullValue()));
+ * }</pre>
+ *
+ * @param <T> the type of the body of a successful response
+ */
+public final class ApiResponse<T> {
+
+    // Responses may carry fields the models do not have
+    static final ObjectMapper MAPPER = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final TransportResponse response;
+    private final JavaType type;
+    private T entity;
+
+    ApiResponse(TransportResponse response, JavaType type) {
+        this.response = response;
+        this.type = type;
+    }
+
+    /**
+     * Gets the status code.
+     *
+     * @return the status code
+     */
+    public int getStatusCode() {
+        return response.getStatusCode();
+    }
+
+    /**
+     * Gets the first value of a header.
+     *
+     * @param name the header name, case-insensitive
+     * @return the value, or {@code null} if the header is missing
+     */
+    public String getHeader(String name) {
+        return response.getHeader(name);
+    }
+
+    /**
+     * Gets the raw body.
+     *
+     * @return the body, empty if there is none
+     */
+    public byte[] getBody() {
+        return response.getBody();
+    }
+
+    /**
+     * Gets the body as text.
+     *
+     * @return the body, decoded as UTF-8
+     */
+    public String asString() {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the body decoded to the type of the call, e.g. the {@code User} of a created user. The body is
+     * decoded on the first call only.
+     *
+     * @return the decoded body, {@code null} for calls without one, e.g. a delete
+     * @throws UncheckedIOException if the body is not a valid JSON representation of the type
+     */
+    public T getEntity() {
+        if (entity == null && type.getRawClass() != Void.class) {
+            try {
+                entity = MAPPER.readValue(response.getBody(), type);
+            } catch (IOException e) {
+                throw new UncheckedIOException("The body is not a " + type + " (status " + getStatusCode() + "): " + asString(), e);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Asserts the status code.
+     *
+     * @param expected the expected status code
+     * @return this response
+     */
+    public ApiResponse<T> statusCode(int expected) {
+        if (getStatusCode() != expected) {
+            throw new AssertionError("Expected status code <" + expected + "> but was <" + getStatusCode() + ">. Body: " + asString());
+        }
+        return this;
+    }
+
+    /**
+     * Asserts the raw body, e.g. with an {@link gorest.api.assertions.AssertionSet}.
+     *
+     * @param matcher the matcher of the body
+     * @return this response
+     */
+    @SuppressWarnings("unchecked")
+    public ApiResponse<T> body(Matcher<?> matcher) {
+        assertThat(response.getBody(), (Matcher<Object>) matcher);
+        return this;
+    }
+
+    /**
+     * Asserts the value at a path of the body.
+     *
+     * @param path    the path, e.g. {@code message} or {@code [0].field}
+     * @param matcher the matcher of the value
+     * @return this response
+     */
+    public ApiResponse<T> body(String path, Matcher<?> matcher) {
+        return body(assertionSet().that(path, matcher));
+    }
+
+    /**
+     * Asserts the first value of a header.
+     *
+     * @param name    the header name, case-insensitive
+     * @param matcher the matcher of the value
+     * @return this response
+     */
+    @SuppressWarnings("unchecked")
+    public ApiResponse<T> header(String name, Matcher<?> matcher) {
+        assertThat("header " + name, getHeader(name), (Matcher<Object>) matcher);
+        return this;
+    }
+}
@@ -0,0 +1,44 @@
+package gorest.api.client;
+
+import gorest.api.config.Configuration;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends the requests of the typed API clients, {@link UsersApi} and {@link PostsApi}.
+ * <p>
+ * Two transports are available, selected with {@code client.backend} in config.yaml or
+ * {@code -Dgorest.client}: {@link RestAssuredTransport}, which goes through the whole RestAssured filter
+ * chain, and {@link JdkHttpTransport}, a lightweight one on the JDK's HTTP client. Either can be wrapped in
+ * a {@link HedgingTransport}, with {@code hedging.enabled}. Implementations must be thread-safe.
+ */
+public interface ApiTransport {
+
+    /**
+     * Sends a request.
+     *
+     * @param method the HTTP method
+     * @param path   the path, relative to the base URL, e.g. {@code /public/v2/users/42}
+     * @param query  the query parameters, empty for none
+     * @param body   the JSON body, or {@code null} for none
+     * @return the response
+     */
+    TransportResponse send(String method, String path, Map<String, ?> query, byte[] body);
+
+    /**
+     * Gets the transport of the configured backend.
+     *
+     * @param configuration the configuration of the run
+     * @param given         starts a request with the base URI, authorization and filters set, for the
+     *                      {@code restassured} backend
+     * @return the transport, hedging slow GETs if configured
+     */
+    static ApiTransport of(Configuration configuration, Supplier<RequestSpecification> given) {
+        ApiTransport transport = "jdk".equalsIgnoreCase(configuration.getClient().getBackend())
+                ? JdkHttpTransport.getShared(configuration)
+                : new RestAssuredTransport(given);
+        return configuration.getHedging().isEnabled() ? new HedgingTransport(transport, configuration.getHedging(), configuration.getDeadlines()) : transport;
+    }
+}
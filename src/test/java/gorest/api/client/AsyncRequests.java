@@ -0,0 +1,78 @@
+package gorest.api.client;
+
+import gorest.api.extensions.TestContext;
+import gorest.api.utils.VirtualThreads;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Sends requests without waiting for them, so a test or fixture can send independent requests at once
+ * and check their responses afterwards: the whole batch then takes about as long as its slowest request.
+ * <p>
+ * Every request runs on its own thread of one executor shared by the run, a virtual thread when the JVM
+ * supports them, in the {@link TestContext} of the caller, so the filters record it for the test that sent
+ * it. The {@link gorest.api.filters.RateLimitGovernor} still bounds how many are in flight.
+ * <pre>{@code
+ * CompletableFuture<ApiResponse<List<User>>> males = AsyncRequests.send(() -> usersApi().search(Map.of("gender", "male")));
+ * CompletableFuture<ApiResponse<List<User>>> females = AsyncRequests.send(() -> usersApi().search(Map.of("gender", "female")));
+ * AsyncRequests.await(males).statusCode(200);
+ * AsyncRequests.await(females).statusCode(200);
+ * }</pre>
+ */
+public final class AsyncRequests {
+
+    private static final ExecutorService EXECUTOR = VirtualThreads.newThreadPerTaskExecutor("async-request");
+
+    private AsyncRequests() {
+    }
+
+    /**
+     * Sends a request in the background.
+     *
+     * @param request sends the request and returns its response, e.g. a RestAssured {@code Response} or an
+     *                {@link ApiResponse}
+     * @param <T>     the type of the response
+     * @return completes with the response, or exceptionally if the request failed
+     */
+    public static <T> CompletableFuture<T> send(Supplier<T> request) {
+        return CompletableFuture.supplyAsync(TestContext.propagate(request), EXECUTOR);
+    }
+
+    /**
+     * Sends a request in the background outside of any {@link TestContext}, so it is not captured for the
+     * test that sent it, e.g. for pages a crawler fetches ahead of its consumer, whose bodies would
+     * otherwise all stay buffered until the test ends.
+     *
+     * @param request sends the request and returns its response
+     * @param <T>     the type of the response
+     * @return completes with the response, or exceptionally if the request failed
+     */
+    public static <T> CompletableFuture<T> sendDetached(Supplier<T> request) {
+        return CompletableFuture.supplyAsync(request, EXECUTOR);
+    }
+
+    /**
+     * Waits for a request sent with {@link #send(Supplier)} or {@link #sendDetached(Supplier)}.
+     *
+     * @param response the pending response
+     * @param <T>      the type of the response
+     * @return the response
+     * @throws RuntimeException the exception the request failed with, as if it had been sent on the calling thread
+     */
+    public static <T> T await(CompletableFuture<T> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package gorest.api.client;
+
+/**
+ * Counts the GET requests the {@link HedgingTransport}s of the run saw, how many of them were hedged and how
+ * many of the hedges answered first. Also keeps the hedges under their share of the requests.
+ */
+public final class HedgingStats {
+
+    private static final HedgingStats SHARED = new HedgingStats();
+
+    private long requests;
+    private long hedged;
+    private long hedgeWins;
+    private long capped;
+
+    private HedgingStats() {
+    }
+
+    /**
+     * Gets the statistics of the whole test run.
+     *
+     * @return the shared statistics
+     */
+    public static HedgingStats getShared() {
+        return SHARED;
+    }
+
+    synchronized void requested() {
+        requests++;
+    }
+
+    /**
+     * Counts a hedge, unless the run already hedged its share of the requests.
+     *
+     * @param maxExtraRatio the largest share of the requests that may be hedged
+     * @return {@code true} if the hedge may be sent
+     */
+    synchronized boolean tryHedge(double maxExtraRatio) {
+        if (hedged + 1 > requests * maxExtraRatio) {
+            capped++;
+            return false;
+        }
+        hedged++;
+        return true;
+    }
+
+    synchronized void hedgeWon() {
+        hedgeWins++;
+    }
+
+    /**
+     * Gets the number of GET requests seen.
+     *
+     * @return the number of requests
+     */
+    public synchronized long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Gets a one-line summary, e.g. {@code 12 of 480 GETs hedged (2.5%), 9 hedges answered first, 3 not hedged over max_extra_ratio}.
+     *
+     * @return the summary
+     */
+    public synchronized String summary() {
+        return String.format("%d of %d GETs hedged (%.1f%%), %d hedges answered first, %d not hedged over max_extra_ratio",
+                hedged, requests, requests == 0 ? 0.0 : 100.0 * hedged / requests, hedgeWins, capped);
+    }
+}
@@ -0,0 +1,122 @@
+package gorest.api.client;
+
+import gorest.api.config.DeadlineConfiguration;
+import gorest.api.config.HedgingConfiguration;
+import gorest.api.deadline.Deadlines;
+import gorest.api.utils.EndpointTemplates;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hedges the slow GET requests of the typed clients: a GET not answered after the configured percentile of
+ * its endpoint's latencies is sent a second time, and whichever response comes first is used. The other
+ * request is left to finish in the background and its response discarded. Other methods are not idempotent
+ * and are sent once.
+ * <p>
+ * The latencies of each endpoint template are recorded as the run goes; an endpoint is hedged once
+ * {@code min_samples} of its GETs were timed. Hedges are capped at {@code max_extra_ratio} of the GETs, so a
+ * slow server is not sent twice the load. Both requests share the deadline of the call, see {@link Deadlines}.
+ * The counts are kept in {@link HedgingStats}.
+ */
+public class HedgingTransport implements ApiTransport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final ApiTransport delegate;
+    private final HedgingConfiguration configuration;
+    private final long requestBudgetMillis;
+    private final HedgingStats stats = HedgingStats.getShared();
+    private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate      the transport sending the requests
+     * @param configuration the hedging settings
+     * @param deadlines     the deadline settings
+     */
+    public HedgingTransport(ApiTransport delegate, HedgingConfiguration configuration, DeadlineConfiguration deadlines) {
+        this.delegate = delegate;
+        this.configuration = configuration;
+        this.requestBudgetMillis = deadlines.getRequestMs();
+    }
+
+    @Override
+    public TransportResponse send(String method, String path, Map<String, ?> query, byte[] body) {
+        if (!"GET".equalsIgnoreCase(method)) {
+            return delegate.send(method, path, query, body);
+        }
+        stats.requested();
+        Histogram histogram = latencies.computeIfAbsent(EndpointTemplates.of(path), endpoint -> new Histogram(HIGHEST_TRACKABLE_MICROS, 2));
+        return Deadlines.call(requestBudgetMillis, () -> send(path, histogram, Deadlines.propagate(() -> delegate.send(method, path, query, body))));
+    }
+
+    private TransportResponse send(String path, Histogram histogram, Supplier<TransportResponse> request) {
+        long delayNanos = delayNanos(histogram);
+        long start = System.nanoTime();
+        if (delayNanos < 0) {
+            TransportResponse response = request.get();
+            record(histogram, System.nanoTime() - start);
+            return response;
+        }
+
+        CompletableFuture<TransportResponse> primary = AsyncRequests.send(request);
+        primary.thenRun(() -> record(histogram, System.nanoTime() - start));
+        try {
+            return primary.get(delayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Slower than the percentile: hedge it below
+        } catch (ExecutionException e) {
+            return AsyncRequests.await(primary);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for GET " + path, e);
+        }
+        if (!stats.tryHedge(configuration.getMaxExtraRatio())) {
+            return AsyncRequests.await(primary);
+        }
+        CompletableFuture<TransportResponse> hedge = AsyncRequests.send(request);
+        CompletableFuture<TransportResponse> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((response, failure) -> complete(first, response, failure, failures, false));
+        hedge.whenComplete((response, failure) -> complete(first, response, failure, failures, true));
+        return AsyncRequests.await(first);
+    }
+
+    /**
+     * Completes with the first response, or with the last failure once both requests failed.
+     */
+    private void complete(CompletableFuture<TransportResponse> first, TransportResponse response, Throwable failure,
+                          AtomicInteger failures, boolean hedge) {
+        if (failure == null) {
+            if (first.complete(response) && hedge) {
+                stats.hedgeWon();
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            first.completeExceptionally(failure);
+        }
+    }
+
+    private long delayNanos(Histogram histogram) {
+        long percentileMicros;
+        synchronized (histogram) {
+            if (histogram.getTotalCount() < configuration.getMinSamples()) {
+                return -1;
+            }
+            percentileMicros = histogram.getValueAtPercentile(configuration.getPercentile());
+        }
+        return Math.max(TimeUnit.MICROSECONDS.toNanos(percentileMicros), TimeUnit.MILLISECONDS.toNanos(configuration.getMinDelayMs()));
+    }
+
+    private static void record(Histogram histogram, long latencyNanos) {
+        synchronized (histogram) {
+            histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package gorest.api.client;
+
+import gorest.api.cache.CachedResponse;
+import gorest.api.cache.ResponseCache;
+import gorest.api.config.Configuration;
+import gorest.api.config.TransportConfiguration;
+import gorest.api.deadline.Deadlines;
+import gorest.api.filters.LatencyRecordingFilter;
+import gorest.api.filters.RateLimitGovernor;
+import gorest.api.filters.ResourceTrackingFilter;
+import gorest.api.filters.ResponseCacheFilter;
+import gorest.api.filters.SchemaValidationFilter;
+import gorest.api.utils.EndpointTemplates;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends the requests of the typed clients with the JDK's {@link HttpClient}, without RestAssured.
+ * <p>
+ * One client is shared by the whole run, so its connections are pooled and reused by every thread. It asks
+ * for HTTP/2, negotiated with ALPN over TLS, which multiplexes the concurrent requests of a run over a few
+ * connections; servers that only speak HTTP/1.1 are answered in HTTP/1.1. Requests and responses are plain
+ * byte arrays, so the transport adds little more than the request itself, which keeps the client from
+ * being the bottleneck of a load run.
+ * <p>
+ * The cross-cutting concerns that matter for every request apply as with RestAssured: the
+ * {@link RateLimitGovernor}, latency recording, resource tracking for the cleanup, schema validation, the
+ * {@link ResponseCache} and the {@link Deadlines deadlines}. Exchange capture, request timings and cassettes are RestAssured filters and do not apply.
+ */
+public class JdkHttpTransport implements ApiTransport {
+
+    private static volatile JdkHttpTransport shared;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String authorization;
+    private final Duration readTimeout;
+    private final long requestBudgetMillis;
+    private final RateLimitGovernor governor;
+    private final SchemaValidationFilter schemaValidation;
+    private final ResponseCache cache;
+
+    /**
+     * @param configuration the configuration of the run
+     */
+    public JdkHttpTransport(Configuration configuration) {
+        TransportConfiguration transport = configuration.getTransport();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.valueOf(configuration.getClient().getHttpVersion()))
+                .connectTimeout(Duration.ofMillis(transport.getConnectTimeoutMs()))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        this.baseUrl = configuration.getBaseUrl();
+        this.authorization = "Bearer " + configuration.getToken();
+        this.readTimeout = Duration.ofMillis(transport.getReadTimeoutMs());
+        this.requestBudgetMillis = configuration.getDeadlines().getRequestMs();
+        this.governor = configuration.getRateLimit().isEnabled() ? RateLimitGovernor.getShared(configuration.getRateLimit()) : null;
+        this.schemaValidation = configuration.getSchemaValidation().isEnabled()
+                ? new SchemaValidationFilter(configuration.getSchemaValidation())
+                : null;
+        this.cache = configuration.getResponseCache().isEnabled() ? ResponseCache.getShared(configuration.getResponseCache()) : null;
+    }
+
+    /**
+     * Gets the transport shared by the whole test run, creating its HTTP client on first use.
+     *
+     * @param configuration the configuration of the run, only used on the first call
+     * @return the shared transport
+     */
+    public static JdkHttpTransport getShared(Configuration configuration) {
+        if (shared == null) {
+            synchronized (JdkHttpTransport.class) {
+                if (shared == null) {
+                    shared = new JdkHttpTransport(configuration);
+                }
+            }
+        }
+        return shared;
+    }
+
+    @Override
+    public TransportResponse send(String method, String path, Map<String, ?> query, byte[] body) {
+        String uri = baseUrl + path + queryString(query);
+        return Deadlines.call(requestBudgetMillis, () -> send(method, uri, body));
+    }
+
+    private TransportResponse send(String method, String uri, byte[] body) {
+        if (cache == null) {
+            return validated(method, uri, sendLive(method, uri, body, null));
+        }
+        if (!ResponseCache.isCacheable(method)) {
+            cache.invalidate(method, uri);
+            try {
+                return validated(method, uri, sendLive(method, uri, body, null));
+            } finally {
+                cache.invalidate(method, uri);
+            }
+        }
+
+        ResponseCache.Lookup lookup = cache.lookup(uri, authorization);
+        if (lookup.isFresh()) {
+            return validated(method, uri, fromCache(lookup.getResponse(), "hit"));
+        }
+        String eTag = lookup.getETag();
+        LiveResponse response = sendLive(method, uri, body, eTag);
+        if (response.getStatusCode() == 304 && eTag != null) {
+            return validated(method, uri, fromCache(cache.revalidated(lookup), "revalidated"));
+        }
+        cache.store(lookup, lookup.newResponse(response.getStatusCode(), response.headers(), response.getBody()));
+        return validated(method, uri, response);
+    }
+
+    private LiveResponse sendLive(String method, String uri, byte[] body, String eTag) {
+        long remaining = Deadlines.remainingNanos(method + " " + uri);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(uri))
+                .timeout(remaining < readTimeout.toNanos() ? Duration.ofNanos(remaining) : readTimeout)
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(body));
+        if (eTag != null) {
+            builder.header("If-None-Match", eTag);
+        }
+        HttpRequest request = builder.build();
+
+        long start = System.nanoTime();
+        long waited = RateLimitGovernor.waitedNanos();
+        HttpResponse<byte[]> response = governor == null
+                ? exchange(request)
+                : governor.execute(method + " " + uri, () -> exchange(request), () -> exchange(request),
+                HttpResponse::statusCode, (sent, name) -> sent.headers().firstValue(name).orElse(null));
+        LatencyRecordingFilter.record(method, EndpointTemplates.of(uri),
+                System.nanoTime() - start - (RateLimitGovernor.waitedNanos() - waited));
+
+        ResourceTrackingFilter.track(method, uri, response.statusCode(), response::body);
+        return new LiveResponse(response);
+    }
+
+    private TransportResponse validated(String method, String uri, TransportResponse response) {
+        if (schemaValidation != null) {
+            schemaValidation.validate(method, uri, response.getStatusCode(), response.getBody());
+        }
+        return response;
+    }
+
+    private HttpResponse<byte[]> exchange(HttpRequest request) {
+        // A retry may come after a rate-limit wait that used up the rest of the budget
+        Deadlines.remainingNanos(request.method() + " " + request.uri());
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            if (e instanceof HttpTimeoutException && Deadlines.isExceeded()) {
+                throw Deadlines.exceeded(request.method() + " " + request.uri(), e);
+            }
+            throw new UncheckedIOException("Could not send " + request.method() + " " + request.uri() + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending " + request.method() + " " + request.uri(), e);
+        }
+    }
+
+    private static String queryString(Map<String, ?> query) {
+        if (query.isEmpty()) {
+            return "";
+        }
+        StringBuilder queryString = new StringBuilder();
+        for (Map.Entry<String, ?> parameter : query.entrySet()) {
+            queryString.append(queryString.length() == 0 ? '?' : '&')
+                    .append(URLEncoder.encode(parameter.getKey(), StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(String.valueOf(parameter.getValue()), StandardCharsets.UTF_8));
+        }
+        return queryString.toString();
+    }
+
+    private static TransportResponse fromCache(CachedResponse cached, String outcome) {
+        return new TransportResponse() {
+            @Override
+            public int getStatusCode() {
+                return cached.getStatusCode();
+            }
+
+            @Override
+            public String getHeader(String name) {
+                return ResponseCacheFilter.CACHE_HEADER.equalsIgnoreCase(name) ? outcome : cached.getHeader(name);
+            }
+
+            @Override
+            public byte[] getBody() {
+                return cached.getBody();
+            }
+        };
+    }
+
+    private static final class LiveResponse implements TransportResponse {
+        private final HttpResponse<byte[]> response;
+
+        LiveResponse(HttpResponse<byte[]> response) {
+            this.response = response;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return response.headers().firstValue(name).orElse(null);
+        }
+
+        @Override
+        public byte[] getBody() {
+            return response.body();
+        }
+
+        List<Map.Entry<String, String>> headers() {
+            List<Map.Entry<String, String>> headers = new ArrayList<>();
+            response.headers().map().forEach((name, values) -> values.forEach(value -> headers.add(new AbstractMap.SimpleImmutableEntry<>(name, value))));
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package gorest.api.client;
+
+import gorest.api.models.Post;
+
+/**
+ * Typed client of {@code /public/v2/posts}.
+ */
+public class PostsApi extends ResourceApi<Post> {
+
+    /**
+     * @param transport sends the requests
+     */
+    public PostsApi(ApiTransport transport) {
+        super(transport, "/public/v2/posts", Post.class);
+    }
+}
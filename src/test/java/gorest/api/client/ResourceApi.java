@@ -0,0 +1,129 @@
+package gorest.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Typed client of a GoRest resource collection, e.g. {@code /public/v2/users}: create, get, update with
+ * PUT and PATCH, delete, list and search. Thread-safe; every request goes through the {@link ApiTransport}.
+ *
+ * @param <T> the model of the resource
+ */
+public class ResourceApi<T> {
+
+    private final ApiTransport transport;
+    private final String path;
+    private final ObjectWriter writer;
+    private final JavaType type;
+    private final JavaType listType;
+    private final JavaType noBody;
+
+    /**
+     * @param transport sends the requests
+     * @param path      the path of the collection, e.g. {@code /public/v2/users}
+     * @param model     the model of the resource
+     */
+    protected ResourceApi(ApiTransport transport, String path, Class<T> model) {
+        this.transport = transport;
+        this.path = path;
+        this.writer = ApiResponse.MAPPER.writerFor(model);
+        this.type = ApiResponse.MAPPER.constructType(model);
+        this.listType = ApiResponse.MAPPER.getTypeFactory().constructCollectionType(List.class, model);
+        this.noBody = ApiResponse.MAPPER.constructType(Void.class);
+    }
+
+    /**
+     * Creates a resource with POST.
+     *
+     * @param resource the resource, without id
+     * @return the response, with the created resource
+     */
+    public ApiResponse<T> create(T resource) {
+        return send("POST", path, Collections.emptyMap(), resource, type);
+    }
+
+    /**
+     * Gets a resource.
+     *
+     * @param id the id of the resource
+     * @return the response, with the resource
+     */
+    public ApiResponse<T> get(int id) {
+        return send("GET", path + "/" + id, Collections.emptyMap(), null, type);
+    }
+
+    /**
+     * Replaces a resource with PUT.
+     *
+     * @param id       the id of the resource
+     * @param resource the new state of the resource
+     * @return the response, with the updated resource
+     */
+    public ApiResponse<T> put(int id, T resource) {
+        return send("PUT", path + "/" + id, Collections.emptyMap(), resource, type);
+    }
+
+    /**
+     * Updates a resource with PATCH.
+     *
+     * @param id       the id of the resource
+     * @param resource the fields to update
+     * @return the response, with the updated resource
+     */
+    public ApiResponse<T> patch(int id, T resource) {
+        return send("PATCH", path + "/" + id, Collections.emptyMap(), resource, type);
+    }
+
+    /**
+     * Deletes a resource.
+     *
+     * @param id the id of the resource
+     * @return the response, without body
+     */
+    public ApiResponse<Void> delete(int id) {
+        return send("DELETE", path + "/" + id, Collections.emptyMap(), null, noBody);
+    }
+
+    /**
+     * Lists a page of the resources.
+     *
+     * @param page    the page number, from 1
+     * @param perPage the number of resources per page
+     * @return the response, with the resources of the page
+     */
+    public ApiResponse<List<T>> list(int page, int perPage) {
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("page", page);
+        query.put("per_page", perPage);
+        return send("GET", path, query, null, listType);
+    }
+
+    /**
+     * Searches the resources.
+     *
+     * @param filters the query parameters, e.g. {@code name} and {@code status}, and optionally
+     *                {@code page} and {@code per_page}; sent sorted by name, so the same search is the
+     *                same request on every run, as cassettes need
+     * @return the response, with the matching resources of the page
+     */
+    public ApiResponse<List<T>> search(Map<String, ?> filters) {
+        return send("GET", path, new TreeMap<>(filters), null, listType);
+    }
+
+    private <R> ApiResponse<R> send(String method, String path, Map<String, ?> query, T resource, JavaType responseType) {
+        byte[] body;
+        try {
+            body = resource == null ? null : writer.writeValueAsBytes(resource);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize " + resource + ": " + e.getOriginalMessage(), e);
+        }
+        return new ApiResponse<>(transport.send(method, path, query, body), responseType);
+    }
+}
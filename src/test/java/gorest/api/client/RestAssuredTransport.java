@@ -0,0 +1,52 @@
+package gorest.api.client;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends the requests of the typed clients with RestAssured, through the request specification of the
+ * calling thread: every filter applies, from exchange capture and request timings to cassettes and the
+ * rate-limit governor.
+ */
+public class RestAssuredTransport implements ApiTransport {
+
+    private final Supplier<RequestSpecification> given;
+
+    /**
+     * @param given starts a request with the base URI, authorization and filters set
+     */
+    public RestAssuredTransport(Supplier<RequestSpecification> given) {
+        this.given = given;
+    }
+
+    @Override
+    public TransportResponse send(String method, String path, Map<String, ?> query, byte[] body) {
+        RequestSpecification request = given.get();
+        if (!query.isEmpty()) {
+            request.queryParams(query);
+        }
+        if (body != null) {
+            request.body(body);
+        }
+        Response response = request.request(method, path);
+        return new TransportResponse() {
+            @Override
+            public int getStatusCode() {
+                return response.getStatusCode();
+            }
+
+            @Override
+            public String getHeader(String name) {
+                return response.getHeader(name);
+            }
+
+            @Override
+            public byte[] getBody() {
+                return response.asByteArray();
+            }
+        };
+    }
+}
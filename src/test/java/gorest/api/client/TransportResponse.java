@@ -0,0 +1,29 @@
+package gorest.api.client;
+
+/**
+ * A response as received by an {@link ApiTransport}, before the typed clients decode it.
+ */
+public interface TransportResponse {
+
+    /**
+     * Gets the status code.
+     *
+     * @return the status code
+     */
+    int getStatusCode();
+
+    /**
+     * Gets the first value of a header.
+     *
+     * @param name the header name, case-insensitive
+     * @return the value, or {@code null} if the header is missing
+     */
+    String getHeader(String name);
+
+    /**
+     * Gets the body.
+     *
+     * @return the raw body, empty if there is none
+     */
+    byte[] getBody();
+}
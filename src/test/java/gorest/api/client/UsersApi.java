@@ -0,0 +1,16 @@
+package gorest.api.client;
+
+import gorest.api.models.User;
+
+/**
+ * Typed client of {@code /public/v2/users}.
+ */
+public class UsersApi extends ResourceApi<User> {
+
+    /**
+     * @param transport sends the requests
+     */
+    public UsersApi(ApiTransport transport) {
+        super(transport, "/public/v2/users", User.class);
+    }
+}
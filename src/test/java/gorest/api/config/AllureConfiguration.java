@@ -0,0 +1,54 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the settings of the requests attached to the Allure report.
+ */
+public class AllureConfiguration {
+
+    @JsonProperty("capture")
+    private String capture = "failures";
+
+    @JsonProperty("writer_batch_size")
+    private int writerBatchSize = 64;
+
+    /**
+     * Gets the capture mode: {@code failures} attaches full requests and responses to failed tests
+     * and to tests annotated with {@code @CaptureExchanges}, and a compact summary to every other test;
+     * {@code all} attaches full requests and responses to every test; {@code summary} only attaches
+     * summaries; {@code none} attaches nothing.
+     *
+     * @return the capture mode
+     */
+    public String getCapture() {
+        return capture;
+    }
+
+    /**
+     * Sets the capture mode.
+     *
+     * @param capture {@code failures}, {@code all}, {@code summary} or {@code none}
+     */
+    public void setCapture(String capture) {
+        this.capture = capture;
+    }
+
+    /**
+     * Gets the maximum number of attachment files written by the background writer in one go.
+     *
+     * @return the writer batch size
+     */
+    public int getWriterBatchSize() {
+        return writerBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of attachment files written by the background writer in one go.
+     *
+     * @param writerBatchSize the writer batch size
+     */
+    public void setWriterBatchSize(int writerBatchSize) {
+        this.writerBatchSize = writerBatchSize;
+    }
+}
@@ -0,0 +1,72 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the settings of the HTTP cassettes requests are recorded to and replayed from.
+ */
+public class CassetteConfiguration {
+
+    @JsonProperty("mode")
+    private String mode = "off";
+
+    @JsonProperty("directory")
+    private String directory = "cassettes";
+
+    @JsonProperty("name")
+    private String name = "default";
+
+    /**
+     * Gets the cassette mode: off, record or replay.
+     *
+     * @return the cassette mode
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the cassette mode: off, record or replay.
+     *
+     * @param mode the cassette mode
+     */
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Gets the directory cassettes are stored in.
+     *
+     * @return the cassette directory
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Sets the directory cassettes are stored in.
+     *
+     * @param directory the cassette directory
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the name of the cassette recorded or replayed, i.e. its subdirectory.
+     *
+     * @return the cassette name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the name of the cassette recorded or replayed, i.e. its subdirectory.
+     *
+     * @param name the cassette name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,72 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the settings of the cleanup of the users and posts created by the tests.
+ */
+public class CleanupConfiguration {
+
+    @JsonProperty("enabled")
+    private boolean enabled = true;
+
+    @JsonProperty("concurrency")
+    private int concurrency = 8;
+
+    @JsonProperty("timeout_seconds")
+    private int timeoutSeconds = 60;
+
+    /**
+     * Checks whether the created users and posts are deleted after each test class and at the end of the run.
+     *
+     * @return {@code true} if the cleanup is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the created users and posts are deleted after each test class and at the end of the run.
+     *
+     * @param enabled {@code true} to enable the cleanup
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the maximum number of DELETE requests sent at the same time.
+     *
+     * @return the cleanup concurrency
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Sets the maximum number of DELETE requests sent at the same time.
+     *
+     * @param concurrency the cleanup concurrency
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Gets how long the end of the run waits for the pending cleanups.
+     *
+     * @return the timeout in seconds
+     */
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    /**
+     * Sets how long the end of the run waits for the pending cleanups.
+     *
+     * @param timeoutSeconds the timeout in seconds
+     */
+    public void setTimeoutSeconds(int timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+}
@@ -0,0 +1,51 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Configuration for the typed API clients: which transport sends their requests.
+ */
+public class ClientConfiguration {
+
+    @JsonProperty("backend")
+    private String backend = "restassured";
+
+    @JsonProperty("http_version")
+    private String httpVersion = "HTTP_2";
+
+    /**
+     * Gets the transport of the typed clients: {@code restassured} or {@code jdk}.
+     *
+     * @return the transport
+     */
+    public String getBackend() {
+        return backend;
+    }
+
+    /**
+     * Sets the transport of the typed clients: {@code restassured} or {@code jdk}.
+     *
+     * @param backend the transport
+     */
+    public void setBackend(String backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Gets the HTTP version the {@code jdk} transport asks for: {@code HTTP_2} or {@code HTTP_1_1}.
+     *
+     * @return the HTTP version
+     */
+    public String getHttpVersion() {
+        return httpVersion;
+    }
+
+    /**
+     * Sets the HTTP version the {@code jdk} transport asks for: {@code HTTP_2} or {@code HTTP_1_1}.
+     *
+     * @param httpVersion the HTTP version
+     */
+    public void setHttpVersion(String httpVersion) {
+        this.httpVersion = httpVersion;
+    }
+}
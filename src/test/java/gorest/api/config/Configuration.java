@@ -2,6 +2,9 @@ package gorest.api.config;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Represents the configuration settings for the application.
  */
@@ -13,6 +16,66 @@ public class Configuration {
     @JsonProperty("token")
     private String token;
 
+    @JsonProperty("target")
+    private String target = "remote";
+
+    @JsonProperty("targets")
+    private List<TargetConfiguration> targets = new ArrayList<>();
+
+    @JsonProperty("embedded_server")
+    private EmbeddedServerConfiguration embeddedServer = new EmbeddedServerConfiguration();
+
+    @JsonProperty("transport")
+    private TransportConfiguration transport = new TransportConfiguration();
+
+    @JsonProperty("logging")
+    private LoggingConfiguration logging = new LoggingConfiguration();
+
+    @JsonProperty("allure")
+    private AllureConfiguration allure = new AllureConfiguration();
+
+    @JsonProperty("load")
+    private LoadConfiguration load = new LoadConfiguration();
+
+    @JsonProperty("latency")
+    private LatencyConfiguration latency = new LatencyConfiguration();
+
+    @JsonProperty("user_pool")
+    private UserPoolConfiguration userPool = new UserPoolConfiguration();
+
+    @JsonProperty("cleanup")
+    private CleanupConfiguration cleanup = new CleanupConfiguration();
+
+    @JsonProperty("rate_limit")
+    private RateLimitConfiguration rateLimit = new RateLimitConfiguration();
+
+    @JsonProperty("cassette")
+    private CassetteConfiguration cassette = new CassetteConfiguration();
+
+    @JsonProperty("timing_history")
+    private TimingHistoryConfiguration timingHistory = new TimingHistoryConfiguration();
+
+    @JsonProperty("request_timing")
+    private RequestTimingConfiguration requestTiming = new RequestTimingConfiguration();
+
+    @JsonProperty("test_data")
+    private TestDataConfiguration testData = new TestDataConfiguration();
+
+    @JsonProperty("schema_validation")
+    private SchemaValidationConfiguration schemaValidation = new SchemaValidationConfiguration();
+
+    @JsonProperty("client")
+    private ClientConfiguration client = new ClientConfiguration();
+
+    @JsonProperty("response_cache")
+    private ResponseCacheConfiguration responseCache = new ResponseCacheConfiguration();
+
+    @JsonProperty("deadlines")
+    private DeadlineConfiguration deadlines = new DeadlineConfiguration();
+
+    @JsonProperty("hedging")
+    private HedgingConfiguration hedging = new HedgingConfiguration();
+
     /**
      * Gets the base URL for the API.
      *
@@ -48,4 +111,366 @@ public class Configuration {
     public void setToken(String token) {
         this.token = token;
     }
+
+    /**
+     * Gets the target the tests run against: {@code remote} for the API at the base URL,
+     * {@code embedded} for the in-process stand-in server.
+     *
+     * @return the target
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Sets the target the tests run against.
+     *
+     * @param target {@code remote} or {@code embedded}
+     */
+    public void setTarget(String target) {
+        this.target = target;
+    }
+
+    /**
+     * Gets the named targets the suite can run against, one at a time with {@code -Dgorest.target.name}
+     * or all at once with {@link gorest.api.targets.MultiTargetRunner}.
+     *
+     * @return the named targets
+     */
+    public List<TargetConfiguration> getTargets() {
+        return targets;
+    }
+
+    /**
+     * Sets the named targets the suite can run against.
+     *
+     * @param targets the named targets
+     */
+    public void setTargets(List<TargetConfiguration> targets) {
+        this.targets = targets;
+    }
+
+    /**
+     * Gets the settings of the embedded stand-in server.
+     *
+     * @return the embedded server settings
+     */
+    public EmbeddedServerConfiguration getEmbeddedServer() {
+        return embeddedServer;
+    }
+
+    /**
+     * Sets the settings of the embedded stand-in server.
+     *
+     * @param embeddedServer the embedded server settings
+     */
+    public void setEmbeddedServer(EmbeddedServerConfiguration embeddedServer) {
+        this.embeddedServer = embeddedServer;
+    }
+
+    /**
+     * Gets the HTTP transport settings.
+     *
+     * @return the transport settings
+     */
+    public TransportConfiguration getTransport() {
+        return transport;
+    }
+
+    /**
+     * Sets the HTTP transport settings.
+     *
+     * @param transport the transport settings
+     */
+    public void setTransport(TransportConfiguration transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Gets the request/response logging settings.
+     *
+     * @return the request/response logging settings
+     */
+    public LoggingConfiguration getLogging() {
+        return logging;
+    }
+
+    /**
+     * Sets the request/response logging settings.
+     *
+     * @param logging the request/response logging settings
+     */
+    public void setLogging(LoggingConfiguration logging) {
+        this.logging = logging;
+    }
+
+    /**
+     * Gets the Allure report settings.
+     *
+     * @return the Allure report settings
+     */
+    public AllureConfiguration getAllure() {
+        return allure;
+    }
+
+    /**
+     * Sets the Allure report settings.
+     *
+     * @param allure the Allure report settings
+     */
+    public void setAllure(AllureConfiguration allure) {
+        this.allure = allure;
+    }
+
+    /**
+     * Gets the load run settings.
+     *
+     * @return the load run settings
+     */
+    public LoadConfiguration getLoad() {
+        return load;
+    }
+
+    /**
+     * Sets the load run settings.
+     *
+     * @param load the load run settings
+     */
+    public void setLoad(LoadConfiguration load) {
+        this.load = load;
+    }
+
+    /**
+     * Gets the latency budget settings.
+     *
+     * @return the latency budget settings
+     */
+    public LatencyConfiguration getLatency() {
+        return latency;
+    }
+
+    /**
+     * Sets the latency budget settings.
+     *
+     * @param latency the latency budget settings
+     */
+    public void setLatency(LatencyConfiguration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Gets the user pool settings.
+     *
+     * @return the user pool settings
+     */
+    public UserPoolConfiguration getUserPool() {
+        return userPool;
+    }
+
+    /**
+     * Sets the user pool settings.
+     *
+     * @param userPool the user pool settings
+     */
+    public void setUserPool(UserPoolConfiguration userPool) {
+        this.userPool = userPool;
+    }
+
+    /**
+     * Gets the settings of the cleanup of created resources.
+     *
+     * @return the settings of the cleanup of created resources
+     */
+    public CleanupConfiguration getCleanup() {
+        return cleanup;
+    }
+
+    /**
+     * Sets the settings of the cleanup of created resources.
+     *
+     * @param cleanup the settings of the cleanup of created resources
+     */
+    public void setCleanup(CleanupConfiguration cleanup) {
+        this.cleanup = cleanup;
+    }
+
+    /**
+     * Gets the client-side rate limiting settings.
+     *
+     * @return the client-side rate limiting settings
+     */
+    public RateLimitConfiguration getRateLimit() {
+        return rateLimit;
+    }
+
+    /**
+     * Sets the client-side rate limiting settings.
+     *
+     * @param rateLimit the client-side rate limiting settings
+     */
+    public void setRateLimit(RateLimitConfiguration rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    /**
+     * Gets the HTTP cassette settings.
+     *
+     * @return the HTTP cassette settings
+     */
+    public CassetteConfiguration getCassette() {
+        return cassette;
+    }
+
+    /**
+     * Sets the HTTP cassette settings.
+     *
+     * @param cassette the HTTP cassette settings
+     */
+    public void setCassette(CassetteConfiguration cassette) {
+        this.cassette = cassette;
+    }
+
+    /**
+     * Gets the test timing history settings.
+     *
+     * @return the test timing history settings
+     */
+    public TimingHistoryConfiguration getTimingHistory() {
+        return timingHistory;
+    }
+
+    /**
+     * Sets the test timing history settings.
+     *
+     * @param timingHistory the test timing history settings
+     */
+    public void setTimingHistory(TimingHistoryConfiguration timingHistory) {
+        this.timingHistory = timingHistory;
+    }
+
+    /**
+     * Gets the request timing settings.
+     *
+     * @return the request timing settings
+     */
+    public RequestTimingConfiguration getRequestTiming() {
+        return requestTiming;
+    }
+
+    /**
+     * Sets the request timing settings.
+     *
+     * @param requestTiming the request timing settings
+     */
+    public void setRequestTiming(RequestTimingConfiguration requestTiming) {
+        this.requestTiming = requestTiming;
+    }
+
+    /**
+     * Gets the test data factory settings.
+     *
+     * @return the test data factory settings
+     */
+    public TestDataConfiguration getTestData() {
+        return testData;
+    }
+
+    /**
+     * Sets the test data factory settings.
+     *
+     * @param testData the test data factory settings
+     */
+    public void setTestData(TestDataConfiguration testData) {
+        this.testData = testData;
+    }
+
+    /**
+     * Gets the schema validation settings.
+     *
+     * @return the schema validation settings
+     */
+    public SchemaValidationConfiguration getSchemaValidation() {
+        return schemaValidation;
+    }
+
+    /**
+     * Sets the schema validation settings.
+     *
+     * @param schemaValidation the schema validation settings
+     */
+    public void setSchemaValidation(SchemaValidationConfiguration schemaValidation) {
+        this.schemaValidation = schemaValidation;
+    }
+
+    /**
+     * Gets the typed API client settings.
+     *
+     * @return the typed API client settings
+     */
+    public ClientConfiguration getClient() {
+        return client;
+    }
+
+    /**
+     * Sets the typed API client settings.
+     *
+     * @param client the typed API client settings
+     */
+    public void setClient(ClientConfiguration client) {
+        this.client = client;
+    }
+
+    /**
+     * Gets the run-scoped cache of GET responses.
+     *
+     * @return the run-scoped cache of GET responses
+     */
+    public ResponseCacheConfiguration getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Sets the run-scoped cache of GET responses.
+     *
+     * @param responseCache the run-scoped cache of GET responses
+     */
+    public void setResponseCache(ResponseCacheConfiguration responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Gets the deadlines of tests and requests.
+     *
+     * @return the deadlines of tests and requests
+     */
+    public DeadlineConfiguration getDeadlines() {
+        return deadlines;
+    }
+
+    /**
+     * Sets the deadlines of tests and requests.
+     *
+     * @param deadlines the deadlines of tests and requests
+     */
+    public void setDeadlines(DeadlineConfiguration deadlines) {
+        this.deadlines = deadlines;
+    }
+
+    /**
+     * Gets the hedging settings of GET requests.
+     *
+     * @return the hedging settings of GET requests
+     */
+    public HedgingConfiguration getHedging() {
+        return hedging;
+    }
+
+    /**
+     * Sets the hedging settings of GET requests.
+     *
+     * @param hedging the hedging settings of GET requests
+     */
+    public void setHedging(HedgingConfiguration hedging) {
+        this.hedging = hedging;
+    }
 }
@@ -2,15 +2,22 @@ package gorest.api.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import gorest.api.cassette.Cassette;
+import gorest.api.data.TestDataFactory;
+import gorest.api.server.EmbeddedGoRestServer;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
 
 /**
  * Loads the configuration settings for the application.
  */
 public class ConfigurationLoader {
 
-    private static ConfigurationLoader instance;
+    private static volatile ConfigurationLoader instance;
     private Configuration configuration;
 
     /**
@@ -27,7 +34,11 @@ public class ConfigurationLoader {
      */
     public static ConfigurationLoader getInstance() {
         if (instance == null) {
-            instance = new ConfigurationLoader();
+            synchronized (ConfigurationLoader.class) {
+                if (instance == null) {
+                    instance = new ConfigurationLoader();
+                }
+            }
         }
         return instance;
     }
@@ -36,20 +47,25 @@ public class ConfigurationLoader {
      * Loads the configuration from the 'config.yaml' file and sets the Configuration instance.
      */
     private void loadConfiguration() {
-        ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
         InputStream inputStream = getClass().getClassLoader().getResourceAsStream("config.yaml");
 
         if (inputStream != null) {
             try {
-                configuration = mapper.readValue(inputStream, Configuration.class);
-
-                if (configuration.getBaseUrl() == null || configuration.getBaseUrl().isEmpty()) {
-                    throw new RuntimeException("base_url is missing in config.yaml");
-                }
+                configuration = readConfiguration(inputStream);
+                applyNamedTarget();
 
                 if (configuration.getToken() == null || configuration.getToken().isEmpty()) {
                     throw new RuntimeException("token is missing in config.yaml");
                 }
+
+                applyTarget();
+                applyCassette();
+                applyClient();
+                applyResponseCache();
+
+                if (configuration.getBaseUrl() == null || configuration.getBaseUrl().isEmpty()) {
+                    throw new RuntimeException("base_url is missing in config.yaml");
+                }
             } catch (Exception e) {
                 throw new RuntimeException("Error loading config.yaml: " + e.getMessage(), e);
             }
@@ -58,6 +74,133 @@ public class ConfigurationLoader {
         }
     }
 
+    /**
+     * Parses configuration YAML, without validating it or resolving the target.
+     *
+     * @param inputStream the YAML content
+     * @return the parsed configuration
+     * @throws IOException if the YAML cannot be read or parsed
+     */
+    public static Configuration readConfiguration(InputStream inputStream) throws IOException {
+        ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+        return mapper.readValue(inputStream, Configuration.class);
+    }
+
+    /**
+     * Applies the named target selected with the {@code gorest.target.name} system property, if any: its
+     * kind, base URL and token replace the top-level ones. Its timing history, request timings and load
+     * reports are kept in a subdirectory named after it, so targets run side by side by the
+     * {@link gorest.api.targets.MultiTargetRunner} do not overwrite each other's.
+     */
+    private void applyNamedTarget() {
+        String name = System.getProperty("gorest.target.name");
+        if (name == null || name.isEmpty()) {
+            return;
+        }
+        TargetConfiguration named = configuration.getTargets().stream()
+                .filter(target -> name.equals(target.getName()))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Unknown target name '" + name + "', expected one of "
+                        + configuration.getTargets().stream().map(TargetConfiguration::getName).collect(Collectors.toList())));
+
+        configuration.setTarget(named.getTarget());
+        configuration.setBaseUrl(named.getBaseUrl());
+        if (named.getToken() != null && !named.getToken().isEmpty()) {
+            configuration.setToken(named.getToken());
+        }
+
+        Path history = Paths.get(configuration.getTimingHistory().getFile());
+        configuration.getTimingHistory().setFile(history.resolveSibling(Paths.get(name, history.getFileName().toString())).toString());
+        configuration.getRequestTiming().setDirectory(Paths.get(configuration.getRequestTiming().getDirectory(), name).toString());
+        configuration.getLoad().setReportDirectory(Paths.get(configuration.getLoad().getReportDirectory(), name).toString());
+    }
+
+    /**
+     * Resolves the target the tests run against. The {@code gorest.target} system property,
+     * if set, overrides the {@code target} in config.yaml. For the {@code embedded} target the
+     * in-process stand-in server is started and the base URL is pointed at it, and the rate-limit governor
+     * is turned off unless the server enforces a rate limit, see {@link #applyEmbeddedRateLimit}.
+     */
+    private void applyTarget() {
+        String target = System.getProperty("gorest.target", configuration.getTarget());
+        configuration.setTarget(target);
+
+        if ("embedded".equalsIgnoreCase(target)) {
+            EmbeddedGoRestServer server = EmbeddedGoRestServer.startShared(configuration.getEmbeddedServer(), configuration.getToken());
+            configuration.setBaseUrl(server.getBaseUrl());
+            applyEmbeddedRateLimit(configuration);
+        } else if (!"remote".equalsIgnoreCase(target)) {
+            throw new RuntimeException("Unknown target '" + target + "', expected remote or embedded");
+        }
+    }
+
+    /**
+     * Turns the rate-limit governor off for the embedded server unless it answers {@code 429} over a rate
+     * of its own ({@code embedded_server.rate_limit_per_second} above 0): there is no limit to stay under
+     * otherwise, and the governor would cap offline and load runs at its {@code requests_per_second}.
+     *
+     * @param configuration the configuration of an embedded target
+     */
+    static void applyEmbeddedRateLimit(Configuration configuration) {
+        if (configuration.getEmbeddedServer().getRateLimitPerSecond() <= 0) {
+            configuration.getRateLimit().setEnabled(false);
+        }
+    }
+
+    /**
+     * Resolves the cassette mode. The {@code gorest.cassette} system property, if set, overrides the
+     * {@code cassette.mode} in config.yaml. Recording and replaying need the same requests in the same
+     * order, so the user pool does not create users ahead of time, each lease creating its user, the
+     * test classes are not reordered by their timing history, and the test data is seeded by the cassette.
+     */
+    private void applyCassette() {
+        String mode = System.getProperty("gorest.cassette", configuration.getCassette().getMode());
+        configuration.getCassette().setMode(mode);
+
+        if ("record".equalsIgnoreCase(mode) || "replay".equalsIgnoreCase(mode)) {
+            configuration.getUserPool().setSize(0);
+            configuration.getUserPool().setLowWaterMark(0);
+            configuration.getTimingHistory().setEnabled(false);
+            Cassette cassette = Cassette.openShared(configuration.getCassette());
+            TestDataFactory.getShared(configuration.getTestData()).useSequence(cassette.getSeed());
+        } else if (!"off".equalsIgnoreCase(mode)) {
+            throw new RuntimeException("Unknown cassette mode '" + mode + "', expected off, record or replay");
+        }
+    }
+
+    /**
+     * Resolves the transport of the typed API clients. The {@code gorest.client} system property, if set,
+     * overrides the {@code client.backend} in config.yaml. Cassettes are RestAssured filters, so they can
+     * only record and replay the {@code restassured} backend.
+     */
+    private void applyClient() {
+        String backend = System.getProperty("gorest.client", configuration.getClient().getBackend());
+        configuration.getClient().setBackend(backend);
+
+        if (!"restassured".equalsIgnoreCase(backend) && !"jdk".equalsIgnoreCase(backend)) {
+            throw new RuntimeException("Unknown client backend '" + backend + "', expected restassured or jdk");
+        }
+        if ("jdk".equalsIgnoreCase(backend) && !"off".equalsIgnoreCase(configuration.getCassette().getMode())) {
+            throw new RuntimeException("Cassettes need the restassured client backend, not jdk");
+        }
+    }
+
+    /**
+     * Resolves whether GET responses are cached. The {@code gorest.cache} system property, if set, overrides
+     * the {@code response_cache.enabled} in config.yaml. The cache is turned off while recording or replaying
+     * a cassette, as whether a request is sent would depend on the timing of the other threads.
+     */
+    private void applyResponseCache() {
+        ResponseCacheConfiguration responseCache = configuration.getResponseCache();
+        String enabled = System.getProperty("gorest.cache");
+        if (enabled != null && !enabled.isEmpty()) {
+            responseCache.setEnabled(Boolean.parseBoolean(enabled));
+        }
+        if (!"off".equalsIgnoreCase(configuration.getCassette().getMode())) {
+            responseCache.setEnabled(false);
+        }
+    }
+
     /**
      * Gets the Configuration instance.
      *
@@ -0,0 +1,43 @@
+package gorest.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConfigurationLoaderTest {
+
+    @DisplayName("The governor is off against an embedded server without a rate limit")
+    @Test
+    public void testEmbeddedWithoutRateLimit() throws IOException {
+        Configuration configuration = readConfiguration();
+        configuration.getRateLimit().setEnabled(true);
+        configuration.getEmbeddedServer().setRateLimitPerSecond(0);
+
+        ConfigurationLoader.applyEmbeddedRateLimit(configuration);
+
+        assertFalse(configuration.getRateLimit().isEnabled());
+    }
+
+    @DisplayName("The governor stays on against an embedded server answering 429 over its rate limit")
+    @Test
+    public void testEmbeddedWithRateLimit() throws IOException {
+        Configuration configuration = readConfiguration();
+        configuration.getRateLimit().setEnabled(true);
+        configuration.getEmbeddedServer().setRateLimitPerSecond(100);
+
+        ConfigurationLoader.applyEmbeddedRateLimit(configuration);
+
+        assertTrue(configuration.getRateLimit().isEnabled());
+    }
+
+    private static Configuration readConfiguration() throws IOException {
+        try (InputStream in = ConfigurationLoaderTest.class.getClassLoader().getResourceAsStream("config.yaml")) {
+            return ConfigurationLoader.readConfiguration(in);
+        }
+    }
+}
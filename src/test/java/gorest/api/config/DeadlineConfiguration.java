@@ -0,0 +1,51 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Configuration for the deadlines of tests and requests, which bound how long a stalled server can hold a run.
+ */
+public class DeadlineConfiguration {
+
+    @JsonProperty("test_ms")
+    private long testMs = 120000;
+
+    @JsonProperty("request_ms")
+    private long requestMs = 60000;
+
+    /**
+     * Gets the time budget of each test, and of each test class's setup, in milliseconds; 0 for none.
+     *
+     * @return the test budget in milliseconds
+     */
+    public long getTestMs() {
+        return testMs;
+    }
+
+    /**
+     * Sets the time budget of each test, and of each test class's setup, in milliseconds; 0 for none.
+     *
+     * @param testMs the test budget in milliseconds
+     */
+    public void setTestMs(long testMs) {
+        this.testMs = testMs;
+    }
+
+    /**
+     * Gets the time budget of each request, rate-limit waits and retries included, in milliseconds; 0 for none.
+     *
+     * @return the request budget in milliseconds
+     */
+    public long getRequestMs() {
+        return requestMs;
+    }
+
+    /**
+     * Sets the time budget of each request, rate-limit waits and retries included, in milliseconds; 0 for none.
+     *
+     * @param requestMs the request budget in milliseconds
+     */
+    public void setRequestMs(long requestMs) {
+        this.requestMs = requestMs;
+    }
+}
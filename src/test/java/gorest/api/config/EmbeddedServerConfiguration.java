@@ -0,0 +1,116 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the settings of the embedded GoRest stand-in server.
+ */
+public class EmbeddedServerConfiguration {
+
+    @JsonProperty("port")
+    private int port = 0;
+
+    @JsonProperty("threads")
+    private int threads = 32;
+
+    @JsonProperty("seed_users")
+    private int seedUsers = 200;
+
+    @JsonProperty("seed_posts")
+    private int seedPosts = 200;
+
+    @JsonProperty("rate_limit_per_second")
+    private int rateLimitPerSecond = 0;
+
+    /**
+     * Gets the port the server listens on. 0 picks a free port.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Sets the port the server listens on. 0 picks a free port.
+     *
+     * @param port the port
+     */
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Gets the number of threads handling requests.
+     *
+     * @return the number of threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the number of threads handling requests.
+     *
+     * @param threads the number of threads
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Gets the number of users created when the server starts.
+     *
+     * @return the number of seed users
+     */
+    public int getSeedUsers() {
+        return seedUsers;
+    }
+
+    /**
+     * Sets the number of users created when the server starts.
+     *
+     * @param seedUsers the number of seed users
+     */
+    public void setSeedUsers(int seedUsers) {
+        this.seedUsers = seedUsers;
+    }
+
+    /**
+     * Gets the number of posts created when the server starts.
+     *
+     * @return the number of seed posts
+     */
+    public int getSeedPosts() {
+        return seedPosts;
+    }
+
+    /**
+     * Sets the number of posts created when the server starts.
+     *
+     * @param seedPosts the number of seed posts
+     */
+    public void setSeedPosts(int seedPosts) {
+        this.seedPosts = seedPosts;
+    }
+
+    /**
+     * Gets the number of requests the server answers per one-second window before answering 429 Too Many
+     * Requests, as GoRest does. 0 disables the limit and the {@code X-RateLimit-*} headers.
+     *
+     * @return the number of requests per second
+     */
+    public int getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    /**
+     * Sets the number of requests the server answers per one-second window before answering 429 Too Many
+     * Requests, as GoRest does. 0 disables the limit and the {@code X-RateLimit-*} headers.
+     *
+     * @param rateLimitPerSecond the number of requests per second
+     */
+    public void setRateLimitPerSecond(int rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+}
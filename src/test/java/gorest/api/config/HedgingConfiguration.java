@@ -0,0 +1,114 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Configuration for hedged GET requests of the typed API clients.
+ */
+public class HedgingConfiguration {
+
+    @JsonProperty("enabled")
+    private boolean enabled = false;
+
+    @JsonProperty("percentile")
+    private double percentile = 95.0;
+
+    @JsonProperty("min_samples")
+    private int minSamples = 20;
+
+    @JsonProperty("min_delay_ms")
+    private long minDelayMs = 20;
+
+    @JsonProperty("max_extra_ratio")
+    private double maxExtraRatio = 0.1;
+
+    /**
+     * Checks whether slow GET requests are hedged.
+     *
+     * @return {@code true} if slow GET requests are hedged
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether slow GET requests are hedged.
+     *
+     * @param enabled {@code true} to hedge slow GET requests
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the latency percentile of an endpoint after which a GET to it is sent a second time.
+     *
+     * @return the percentile, between 0 and 100
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Sets the latency percentile of an endpoint after which a GET to it is sent a second time.
+     *
+     * @param percentile the percentile, between 0 and 100
+     */
+    public void setPercentile(double percentile) {
+        this.percentile = percentile;
+    }
+
+    /**
+     * Gets how many GETs to an endpoint are timed before its requests are hedged.
+     *
+     * @return the minimum number of samples
+     */
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    /**
+     * Sets how many GETs to an endpoint are timed before its requests are hedged.
+     *
+     * @param minSamples the minimum number of samples
+     */
+    public void setMinSamples(int minSamples) {
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Gets the shortest wait before a hedge is sent, however fast the endpoint.
+     *
+     * @return the minimum delay in milliseconds
+     */
+    public long getMinDelayMs() {
+        return minDelayMs;
+    }
+
+    /**
+     * Sets the shortest wait before a hedge is sent, however fast the endpoint.
+     *
+     * @param minDelayMs the minimum delay in milliseconds
+     */
+    public void setMinDelayMs(long minDelayMs) {
+        this.minDelayMs = minDelayMs;
+    }
+
+    /**
+     * Gets the largest share of GETs that may be hedged, which caps the extra load hedging puts on the server.
+     *
+     * @return the ratio of hedges to GETs, e.g. 0.1 for one hedge per ten GETs
+     */
+    public double getMaxExtraRatio() {
+        return maxExtraRatio;
+    }
+
+    /**
+     * Sets the largest share of GETs that may be hedged, which caps the extra load hedging puts on the server.
+     *
+     * @param maxExtraRatio the ratio of hedges to GETs, e.g. 0.1 for one hedge per ten GETs
+     */
+    public void setMaxExtraRatio(double maxExtraRatio) {
+        this.maxExtraRatio = maxExtraRatio;
+    }
+}
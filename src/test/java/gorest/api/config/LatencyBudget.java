@@ -0,0 +1,128 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the latency budget of one endpoint and method. Limits left at 0 are not checked.
+ */
+public class LatencyBudget {
+
+    @JsonProperty("endpoint")
+    private String endpoint;
+
+    @JsonProperty("method")
+    private String method;
+
+    @JsonProperty("p50_ms")
+    private long p50Ms;
+
+    @JsonProperty("p95_ms")
+    private long p95Ms;
+
+    @JsonProperty("p99_ms")
+    private long p99Ms;
+
+    @JsonProperty("max_ms")
+    private long maxMs;
+
+    @JsonProperty("action")
+    private String action;
+
+    /**
+     * Gets the endpoint template, with ids replaced by {@code {id}}, e.g. {@code /public/v2/users/{id}}.
+     *
+     * @return the endpoint template
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Sets the endpoint template.
+     *
+     * @param endpoint the endpoint template
+     */
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Gets the HTTP method the budget applies to.
+     *
+     * @return the HTTP method, or {@code null} for every method
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Sets the HTTP method the budget applies to.
+     *
+     * @param method the HTTP method, {@code null} or {@code *} for every method
+     */
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public long getP50Ms() {
+        return p50Ms;
+    }
+
+    public void setP50Ms(long p50Ms) {
+        this.p50Ms = p50Ms;
+    }
+
+    public long getP95Ms() {
+        return p95Ms;
+    }
+
+    public void setP95Ms(long p95Ms) {
+        this.p95Ms = p95Ms;
+    }
+
+    public long getP99Ms() {
+        return p99Ms;
+    }
+
+    public void setP99Ms(long p99Ms) {
+        this.p99Ms = p99Ms;
+    }
+
+    public long getMaxMs() {
+        return maxMs;
+    }
+
+    public void setMaxMs(long maxMs) {
+        this.maxMs = maxMs;
+    }
+
+    /**
+     * Gets what happens when the budget is broken.
+     *
+     * @return {@code fail}, {@code warn}, or {@code null} to use the default action
+     */
+    public String getAction() {
+        return action;
+    }
+
+    /**
+     * Sets what happens when the budget is broken.
+     *
+     * @param action {@code fail}, {@code warn}, or {@code null} to use the default action
+     */
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    /**
+     * Checks whether the budget applies to requests of the given method to the given endpoint.
+     *
+     * @param requestMethod   the HTTP method of the requests
+     * @param requestEndpoint the endpoint template of the requests
+     * @return {@code true} if the budget applies
+     */
+    public boolean matches(String requestMethod, String requestEndpoint) {
+        boolean anyMethod = method == null || method.isEmpty() || "*".equals(method);
+        return (anyMethod || method.equalsIgnoreCase(requestMethod)) && requestEndpoint.equals(endpoint);
+    }
+}
@@ -0,0 +1,55 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the latency budgets checked after each test class.
+ */
+public class LatencyConfiguration {
+
+    @JsonProperty("action")
+    private String action = "warn";
+
+    @JsonProperty("budgets")
+    private List<LatencyBudget> budgets = new ArrayList<>();
+
+    /**
+     * Gets what happens when a budget without its own action is broken: {@code fail} fails the
+     * test class, {@code warn} only logs a warning.
+     *
+     * @return the default action
+     */
+    public String getAction() {
+        return action;
+    }
+
+    /**
+     * Sets what happens when a budget without its own action is broken.
+     *
+     * @param action {@code fail} or {@code warn}
+     */
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    /**
+     * Gets the latency budgets, one per endpoint and method.
+     *
+     * @return the latency budgets
+     */
+    public List<LatencyBudget> getBudgets() {
+        return budgets;
+    }
+
+    /**
+     * Sets the latency budgets.
+     *
+     * @param budgets the latency budgets
+     */
+    public void setBudgets(List<LatencyBudget> budgets) {
+        this.budgets = budgets;
+    }
+}
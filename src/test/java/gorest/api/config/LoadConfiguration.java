@@ -0,0 +1,135 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the settings of load runs, where concurrent virtual users loop a CRUD scenario.
+ */
+public class LoadConfiguration {
+
+    @JsonProperty("virtual_users")
+    private int virtualUsers = 20;
+
+    @JsonProperty("duration_seconds")
+    private int durationSeconds = 30;
+
+    @JsonProperty("ramp_up_seconds")
+    private int rampUpSeconds = 5;
+
+    @JsonProperty("think_time_ms")
+    private int thinkTimeMs = 0;
+
+    @JsonProperty("max_error_rate")
+    private double maxErrorRate = 0.01;
+
+    @JsonProperty("report_directory")
+    private String reportDirectory = "target/load";
+
+    /**
+     * Gets the number of concurrent virtual users.
+     *
+     * @return the number of virtual users
+     */
+    public int getVirtualUsers() {
+        return virtualUsers;
+    }
+
+    /**
+     * Sets the number of concurrent virtual users.
+     *
+     * @param virtualUsers the number of virtual users
+     */
+    public void setVirtualUsers(int virtualUsers) {
+        this.virtualUsers = virtualUsers;
+    }
+
+    /**
+     * Gets how long the virtual users keep looping the scenario, in seconds.
+     *
+     * @return the run duration
+     */
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    /**
+     * Sets how long the virtual users keep looping the scenario, in seconds.
+     *
+     * @param durationSeconds the run duration
+     */
+    public void setDurationSeconds(int durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    /**
+     * Gets the time over which the virtual users are started, in seconds.
+     *
+     * @return the ramp-up time
+     */
+    public int getRampUpSeconds() {
+        return rampUpSeconds;
+    }
+
+    /**
+     * Sets the time over which the virtual users are started, in seconds.
+     *
+     * @param rampUpSeconds the ramp-up time
+     */
+    public void setRampUpSeconds(int rampUpSeconds) {
+        this.rampUpSeconds = rampUpSeconds;
+    }
+
+    /**
+     * Gets the pause of a virtual user between two scenario iterations, in milliseconds.
+     *
+     * @return the think time
+     */
+    public int getThinkTimeMs() {
+        return thinkTimeMs;
+    }
+
+    /**
+     * Sets the pause of a virtual user between two scenario iterations, in milliseconds.
+     *
+     * @param thinkTimeMs the think time
+     */
+    public void setThinkTimeMs(int thinkTimeMs) {
+        this.thinkTimeMs = thinkTimeMs;
+    }
+
+    /**
+     * Gets the highest fraction of failed steps for a load run to pass.
+     *
+     * @return the maximum error rate
+     */
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    /**
+     * Sets the highest fraction of failed steps for a load run to pass.
+     *
+     * @param maxErrorRate the maximum error rate
+     */
+    public void setMaxErrorRate(double maxErrorRate) {
+        this.maxErrorRate = maxErrorRate;
+    }
+
+    /**
+     * Gets the directory the load reports are written to.
+     *
+     * @return the report directory
+     */
+    public String getReportDirectory() {
+        return reportDirectory;
+    }
+
+    /**
+     * Sets the directory the load reports are written to.
+     *
+     * @param reportDirectory the report directory
+     */
+    public void setReportDirectory(String reportDirectory) {
+        this.reportDirectory = reportDirectory;
+    }
+}
@@ -0,0 +1,71 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the request/response logging settings.
+ */
+public class LoggingConfiguration {
+
+    @JsonProperty("mode")
+    private String mode = "failures";
+
+    @JsonProperty("sample_rate")
+    private double sampleRate = 0.0;
+
+    /**
+     * Gets the logging mode: {@code failures} logs the exchanges of failed tests only,
+     * {@code all} logs every exchange and {@code none} disables request/response logging.
+     *
+     * @return the logging mode
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the logging mode.
+     *
+     * @param mode {@code failures}, {@code all} or {@code none}
+     */
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Gets the fraction, between 0 and 1, of passing tests and of exchanges made outside of tests
+     * (e.g. in load runs) that are logged anyway in {@code failures} mode.
+     *
+     * @return the sample rate
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Sets the fraction of passing tests and of exchanges made outside of tests that are logged anyway.
+     *
+     * @param sampleRate the sample rate, between 0 and 1
+     */
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Checks whether the exchanges are only logged for failed tests.
+     *
+     * @return {@code true} in {@code failures} mode
+     */
+    public boolean isFailuresOnly() {
+        return "failures".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * Checks whether request/response logging is enabled at all.
+     *
+     * @return {@code false} in {@code none} mode
+     */
+    public boolean isEnabled() {
+        return !"none".equalsIgnoreCase(mode);
+    }
+}
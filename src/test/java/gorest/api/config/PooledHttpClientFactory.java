@@ -0,0 +1,105 @@
+package gorest.api.config;
+
+import gorest.api.metrics.InstrumentedConnectionManager;
+import gorest.api.metrics.InstrumentedRequestExecutor;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import javax.net.ssl.SSLContext;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the HTTP clients RestAssured sends requests with, all backed by one shared
+ * connection pool.
+ * <p>
+ * RestAssured asks the factory for a client on every request and changes the client's
+ * parameters while sending, so each request gets its own lightweight {@link DefaultHttpClient}.
+ * The connections live in the shared {@link PoolingClientConnectionManager}: they are kept alive
+ * between requests, reused by every test class and thread, and share one {@link SSLContext} so
+ * TLS sessions are resumed instead of renegotiated.
+ * <p>
+ * The pool and the clients are instrumented to report the phases of each request, see
+ * {@link gorest.api.metrics.RequestTiming}.
+ */
+@SuppressWarnings("deprecation")
+public class PooledHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    private static PooledHttpClientFactory shared;
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final long keepAliveMillis;
+
+    private PooledHttpClientFactory(TransportConfiguration configuration) {
+        SchemeRegistry schemeRegistry = new SchemeRegistry();
+        schemeRegistry.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+        schemeRegistry.register(new Scheme("https", 443, new SSLSocketFactory(createSslContext(configuration),
+                SSLSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER)));
+
+        connectionManager = new InstrumentedConnectionManager(schemeRegistry);
+        connectionManager.setMaxTotal(configuration.getMaxConnectionsTotal());
+        connectionManager.setDefaultMaxPerRoute(configuration.getMaxConnectionsPerRoute());
+        keepAliveMillis = TimeUnit.SECONDS.toMillis(configuration.getIdleTimeoutSeconds());
+
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(configuration.getIdleTimeoutSeconds(), TimeUnit.SECONDS);
+        }, configuration.getEvictionIntervalSeconds(), configuration.getEvictionIntervalSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Gets the factory shared by the whole test run, creating its connection pool on first use.
+     *
+     * @param configuration the transport settings, only used on the first call
+     * @return the shared factory
+     */
+    public static synchronized PooledHttpClientFactory getShared(TransportConfiguration configuration) {
+        if (shared == null) {
+            shared = new PooledHttpClientFactory(configuration);
+        }
+        return shared;
+    }
+
+    @Override
+    public HttpClient createHttpClient() {
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager) {
+            @Override
+            protected HttpRequestExecutor createRequestExecutor() {
+                return new InstrumentedRequestExecutor();
+            }
+        };
+        client.setKeepAliveStrategy((response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+        });
+        return client;
+    }
+
+    private static SSLContext createSslContext(TransportConfiguration configuration) {
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, null, null);
+            sslContext.getClientSessionContext().setSessionCacheSize(configuration.getTlsSessionCacheSize());
+            sslContext.getClientSessionContext().setSessionTimeout(configuration.getTlsSessionTimeoutSeconds());
+            return sslContext;
+        } catch (NoSuchAlgorithmException | KeyManagementException e) {
+            throw new RuntimeException("Error creating the TLS context: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the settings of the client-side rate limiting shared by every test thread.
+ */
+public class RateLimitConfiguration {
+
+    @JsonProperty("enabled")
+    private boolean enabled = true;
+
+    @JsonProperty("requests_per_second")
+    private double requestsPerSecond = 50;
+
+    @JsonProperty("burst")
+    private int burst = 20;
+
+    @JsonProperty("max_retries")
+    private int maxRetries = 5;
+
+    @JsonProperty("base_backoff_ms")
+    private int baseBackoffMs = 250;
+
+    @JsonProperty("max_backoff_ms")
+    private int maxBackoffMs = 10000;
+
+    @JsonProperty("initial_concurrency")
+    private int initialConcurrency = 16;
+
+    @JsonProperty("min_concurrency")
+    private int minConcurrency = 1;
+
+    @JsonProperty("max_concurrency")
+    private int maxConcurrency = 64;
+
+    @JsonProperty("latency_target_ms")
+    private int latencyTargetMs = 2000;
+
+    /**
+     * Checks whether requests are rate limited and throttled requests retried.
+     *
+     * @return {@code true} if the rate limiting is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether requests are rate limited and throttled requests retried.
+     *
+     * @param enabled {@code true} to enable the rate limiting
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the maximum rate of requests sent by the whole run, lowered when the server reports less.
+     *
+     * @return the number of requests per second
+     */
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * Sets the maximum rate of requests sent by the whole run, lowered when the server reports less.
+     *
+     * @param requestsPerSecond the number of requests per second
+     */
+    public void setRequestsPerSecond(double requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    /**
+     * Gets the number of requests that can be sent at once after an idle period.
+     *
+     * @return the size of the token bucket
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Sets the number of requests that can be sent at once after an idle period.
+     *
+     * @param burst the size of the token bucket
+     */
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    /**
+     * Gets the number of times a request answered with 429 Too Many Requests is sent again.
+     *
+     * @return the maximum number of retries
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Sets the number of times a request answered with 429 Too Many Requests is sent again.
+     *
+     * @param maxRetries the maximum number of retries
+     */
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Gets the upper bound of the random wait before the first retry, doubled for each following one.
+     *
+     * @return the base backoff in milliseconds
+     */
+    public int getBaseBackoffMs() {
+        return baseBackoffMs;
+    }
+
+    /**
+     * Sets the upper bound of the random wait before the first retry, doubled for each following one.
+     *
+     * @param baseBackoffMs the base backoff in milliseconds
+     */
+    public void setBaseBackoffMs(int baseBackoffMs) {
+        this.baseBackoffMs = baseBackoffMs;
+    }
+
+    /**
+     * Gets the maximum wait before a retry, including the wait asked for by a Retry-After header.
+     *
+     * @return the maximum backoff in milliseconds
+     */
+    public int getMaxBackoffMs() {
+        return maxBackoffMs;
+    }
+
+    /**
+     * Sets the maximum wait before a retry, including the wait asked for by a Retry-After header.
+     *
+     * @param maxBackoffMs the maximum backoff in milliseconds
+     */
+    public void setMaxBackoffMs(int maxBackoffMs) {
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    /**
+     * Gets the number of requests allowed in flight at the start of the run.
+     *
+     * @return the initial concurrency limit
+     */
+    public int getInitialConcurrency() {
+        return initialConcurrency;
+    }
+
+    /**
+     * Sets the number of requests allowed in flight at the start of the run.
+     *
+     * @param initialConcurrency the initial concurrency limit
+     */
+    public void setInitialConcurrency(int initialConcurrency) {
+        this.initialConcurrency = initialConcurrency;
+    }
+
+    /**
+     * Gets the lowest the concurrency limit goes when the server throttles or slows down.
+     *
+     * @return the minimum concurrency limit
+     */
+    public int getMinConcurrency() {
+        return minConcurrency;
+    }
+
+    /**
+     * Sets the lowest the concurrency limit goes when the server throttles or slows down.
+     *
+     * @param minConcurrency the minimum concurrency limit
+     */
+    public void setMinConcurrency(int minConcurrency) {
+        this.minConcurrency = minConcurrency;
+    }
+
+    /**
+     * Gets the highest the concurrency limit grows while requests succeed.
+     *
+     * @return the maximum concurrency limit
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Sets the highest the concurrency limit grows while requests succeed.
+     *
+     * @param maxConcurrency the maximum concurrency limit
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Gets the latency above which a response counts as a sign of overload and lowers the concurrency limit.
+     *
+     * @return the latency target in milliseconds
+     */
+    public int getLatencyTargetMs() {
+        return latencyTargetMs;
+    }
+
+    /**
+     * Sets the latency above which a response counts as a sign of overload and lowers the concurrency limit.
+     *
+     * @param latencyTargetMs the latency target in milliseconds
+     */
+    public void setLatencyTargetMs(int latencyTargetMs) {
+        this.latencyTargetMs = latencyTargetMs;
+    }
+}
@@ -0,0 +1,51 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the settings of the per-request timing breakdown.
+ */
+public class RequestTimingConfiguration {
+
+    @JsonProperty("enabled")
+    private boolean enabled = true;
+
+    @JsonProperty("directory")
+    private String directory = "target/timings";
+
+    /**
+     * Checks whether the timing breakdown of every request is exported.
+     *
+     * @return {@code true} if the request timing export is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the timing breakdown of every request is exported.
+     *
+     * @param enabled {@code true} to enable the request timing export
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the directory the JSONL and Prometheus files are written to.
+     *
+     * @return the export directory
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Sets the directory the JSONL and Prometheus files are written to.
+     *
+     * @param directory the export directory
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+}
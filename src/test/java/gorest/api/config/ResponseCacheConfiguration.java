@@ -0,0 +1,97 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration for the run-scoped cache of GET responses.
+ */
+public class ResponseCacheConfiguration {
+
+    @JsonProperty("enabled")
+    private boolean enabled;
+
+    @JsonProperty("max_entries")
+    private int maxEntries = 512;
+
+    @JsonProperty("max_age_seconds")
+    private int maxAgeSeconds = 30;
+
+    @JsonProperty("cascades")
+    private Map<String, List<String>> cascades = new HashMap<>();
+
+    /**
+     * Checks whether GET responses are cached.
+     *
+     * @return {@code true} if GET responses are cached
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether GET responses are cached.
+     *
+     * @param enabled {@code true} to cache GET responses
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the number of responses kept; the least recently used one is evicted beyond it.
+     *
+     * @return the maximum number of cached responses
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Sets the number of responses kept; the least recently used one is evicted beyond it.
+     *
+     * @param maxEntries the maximum number of cached responses
+     */
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets how long a cached response is used without asking the server; older ones are revalidated.
+     *
+     * @return the maximum age in seconds
+     */
+    public int getMaxAgeSeconds() {
+        return maxAgeSeconds;
+    }
+
+    /**
+     * Sets how long a cached response is used without asking the server; older ones are revalidated.
+     *
+     * @param maxAgeSeconds the maximum age in seconds
+     */
+    public void setMaxAgeSeconds(int maxAgeSeconds) {
+        this.maxAgeSeconds = maxAgeSeconds;
+    }
+
+    /**
+     * Gets the collections a write to a collection also changes, e.g. deleting a user deletes their posts.
+     *
+     * @return the dependent collections by collection name
+     */
+    public Map<String, List<String>> getCascades() {
+        return cascades;
+    }
+
+    /**
+     * Sets the collections a write to a collection also changes, e.g. deleting a user deletes their posts.
+     *
+     * @param cascades the dependent collections by collection name
+     */
+    public void setCascades(Map<String, List<String>> cascades) {
+        this.cascades = cascades;
+    }
+}
@@ -1,37 +1,115 @@
 package gorest.api.config;
 
-import io.qameta.allure.restassured.AllureRestAssured;
-import io.restassured.RestAssured;
+import gorest.api.cache.ResponseCache;
+import gorest.api.cassette.Cassette;
+import gorest.api.filters.CassetteFilter;
+import gorest.api.filters.DeadlineFilter;
+import gorest.api.filters.ExchangeCaptureFilter;
+import gorest.api.filters.LatencyRecordingFilter;
+import gorest.api.filters.RateLimitGovernor;
+import gorest.api.filters.ResourceTrackingFilter;
+import gorest.api.filters.ResponseCacheFilter;
+import gorest.api.filters.SchemaValidationFilter;
+import gorest.api.metrics.RequestTimingFilter;
+import gorest.api.metrics.RequestTimingLog;
 import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.filter.log.LogDetail;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.params.CoreConnectionPNames;
 
-import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Builds the RestAssured request specifications used by the tests.
+ * <p>
+ * Nothing here writes to the global {@code RestAssured} state, such as {@code RestAssured.baseURI},
+ * {@code RestAssured.config} or {@code RestAssured.filters}: every test thread gets its own specification,
+ * with its own base URI, config and filter chain, so test classes and methods can safely run in parallel.
+ */
 public class RestAssuredConfigManager {
     private final Configuration configuration;
+    private final RestAssuredConfig restAssuredConfig;
+    private final ThreadLocal<RequestSpecification> threadRequestSpec =
+            ThreadLocal.withInitial(this::getDefaultRequestSpec);
 
     public RestAssuredConfigManager(Configuration configuration) {
         this.configuration = configuration;
+        this.restAssuredConfig = createRestAssuredConfig(configuration.getTransport());
     }
 
-    public void setupRestAssured() {
-        RestAssured.baseURI = configuration.getBaseUrl();
-        RequestLoggingFilter requestLoggingFilter = new RequestLoggingFilter(LogDetail.ALL, true, new PrintStream(System.out));
-        ResponseLoggingFilter responseLoggingFilter = new ResponseLoggingFilter(LogDetail.ALL, true, new PrintStream(System.out));
-        RestAssured.filters(requestLoggingFilter, responseLoggingFilter, new AllureRestAssured());
-    }
-
+    /**
+     * Creates a new request specification with the base URI, headers and filters
+     * needed by every request.
+     *
+     * @return a new request specification
+     */
     public RequestSpecification getDefaultRequestSpec() {
-        System.out.println("Authorization Bearer " + configuration.getToken());
-
         return new RequestSpecBuilder()
+                .setBaseUri(configuration.getBaseUrl())
+                .setConfig(restAssuredConfig)
                 .setContentType(ContentType.JSON)
                 .addHeader("Authorization", "Bearer " + configuration.getToken())
-                //.addFilter(new AllureRestAssured())
+                .addFilters(createFilters())
                 .build();
     }
+
+    /**
+     * Gets the request specification owned by the calling thread. It is built on first use
+     * and never modified afterwards.
+     *
+     * @return the calling thread's request specification
+     */
+    public RequestSpecification getThreadRequestSpec() {
+        return threadRequestSpec.get();
+    }
+
+    /**
+     * Creates the RestAssured config that sends every request through the shared connection pool,
+     * with the configured connect, read and pool timeouts.
+     */
+    @SuppressWarnings("deprecation")
+    private static RestAssuredConfig createRestAssuredConfig(TransportConfiguration transport) {
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+                .httpClientFactory(PooledHttpClientFactory.getShared(transport))
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, transport.getConnectTimeoutMs())
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, transport.getReadTimeoutMs())
+                .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, (long) transport.getPoolTimeoutMs());
+        return RestAssuredConfig.config().httpClient(httpClientConfig);
+    }
+
+    private List<Filter> createFilters() {
+        List<Filter> filters = new ArrayList<>();
+        // Outermost, so the budget of a request covers every filter, rate-limit waits and retries included
+        filters.add(new DeadlineFilter(configuration.getDeadlines()));
+        if (configuration.getSchemaValidation().isEnabled()) {
+            // Outside the capture, so a response breaking its contract is still captured and timed like any other
+            filters.add(new SchemaValidationFilter(configuration.getSchemaValidation()));
+        }
+        filters.add(new ExchangeCaptureFilter(configuration.getLogging()));
+        filters.add(new ResourceTrackingFilter());
+        if (configuration.getResponseCache().isEnabled()) {
+            // Outside the latency recording, so responses answered from the cache do not count as requests
+            filters.add(new ResponseCacheFilter(ResponseCache.getShared(configuration.getResponseCache())));
+        }
+        // Inside the others, so the capture filter's own work is not counted in the latencies
+        filters.add(new LatencyRecordingFilter());
+        if (configuration.getRequestTiming().isEnabled()) {
+            filters.add(new RequestTimingFilter(RequestTimingLog.getShared(configuration.getRequestTiming())));
+        }
+        Cassette cassette = Cassette.getShared();
+        if (cassette != null) {
+            // Outside the governor, so replayed requests do not wait for it and recorded ones are only kept once
+            filters.add(new CassetteFilter(cassette));
+        }
+        if (configuration.getRateLimit().isEnabled()) {
+            // Innermost, so the filters above see a retried request once, with the response of its last attempt
+            filters.add(RateLimitGovernor.getShared(configuration.getRateLimit()));
+        }
+        return filters;
+    }
 }
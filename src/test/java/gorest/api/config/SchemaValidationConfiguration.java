@@ -0,0 +1,72 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the settings of the validation of every response against the JSON Schema contracts.
+ */
+public class SchemaValidationConfiguration {
+
+    @JsonProperty("enabled")
+    private boolean enabled = true;
+
+    @JsonProperty("action")
+    private String action = "fail";
+
+    @JsonProperty("directory")
+    private String directory = "schemas";
+
+    /**
+     * Checks whether responses are validated against their contracts.
+     *
+     * @return {@code true} if responses are validated
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether responses are validated against their contracts.
+     *
+     * @param enabled {@code true} to validate the responses
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets what a response breaking its contract does: fail the request, or warn to only log it.
+     *
+     * @return fail or warn
+     */
+    public String getAction() {
+        return action;
+    }
+
+    /**
+     * Sets what a response breaking its contract does: fail the request, or warn to only log it.
+     *
+     * @param action fail or warn
+     */
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    /**
+     * Gets the classpath directory of {@code contracts.json} and the schemas.
+     *
+     * @return the schema directory
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Sets the classpath directory of {@code contracts.json} and the schemas.
+     *
+     * @param directory the schema directory
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+}
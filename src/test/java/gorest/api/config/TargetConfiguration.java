@@ -0,0 +1,93 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents one named environment the suite can run against, see the {@code targets} section.
+ */
+public class TargetConfiguration {
+
+    @JsonProperty("name")
+    private String name;
+
+    @JsonProperty("target")
+    private String target = "remote";
+
+    @JsonProperty("base_url")
+    private String baseUrl;
+
+    @JsonProperty("token")
+    private String token;
+
+    /**
+     * Gets the name of the target, e.g. staging, selected with {@code -Dgorest.target.name}.
+     *
+     * @return the target name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the name of the target, e.g. staging.
+     *
+     * @param name the target name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the kind of target: remote, or embedded for a stand-in server of its own.
+     *
+     * @return the kind of target
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Sets the kind of target: remote, or embedded for a stand-in server of its own.
+     *
+     * @param target the kind of target
+     */
+    public void setTarget(String target) {
+        this.target = target;
+    }
+
+    /**
+     * Gets the base URL of the target, not used by embedded targets.
+     *
+     * @return the base URL
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Sets the base URL of the target, not used by embedded targets.
+     *
+     * @param baseUrl the base URL
+     */
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Gets the authentication token for the target, or {@code null} to use the top-level token.
+     *
+     * @return the authentication token
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Sets the authentication token for the target, or {@code null} to use the top-level token.
+     *
+     * @param token the authentication token
+     */
+    public void setToken(String token) {
+        this.token = token;
+    }
+}
@@ -0,0 +1,168 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the settings of the {@link gorest.api.data.TestDataFactory} generating users and posts.
+ */
+public class TestDataConfiguration {
+
+    @JsonProperty("node_id")
+    private String nodeId;
+
+    @JsonProperty("run_id")
+    private String runId;
+
+    @JsonProperty("email_domain")
+    private String emailDomain = "email.com";
+
+    @JsonProperty("first_names")
+    private List<String> firstNames = Arrays.asList("Aarav", "Bhavna", "Chetan", "Deepa", "Eshan", "Farah", "Gopal", "Hema", "Ishaan", "Jaya");
+
+    @JsonProperty("last_names")
+    private List<String> lastNames = Arrays.asList("Sharma", "Iyer", "Reddy", "Nair", "Gupta", "Menon", "Patel", "Joshi");
+
+    @JsonProperty("genders")
+    private Map<String, Integer> genders = weights("male", 1, "female", 1);
+
+    @JsonProperty("statuses")
+    private Map<String, Integer> statuses = weights("active", 1, "inactive", 1);
+
+    /**
+     * Gets the id of this node in the generated ids, or {@code null} to derive it from the host name and process id.
+     *
+     * @return the node id
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Sets the id of this node in the generated ids, or {@code null} to derive it from the host name and process id.
+     *
+     * @param nodeId the node id
+     */
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * Gets the id of this run in the generated ids, or {@code null} to derive it from the start time.
+     *
+     * @return the run id
+     */
+    public String getRunId() {
+        return runId;
+    }
+
+    /**
+     * Sets the id of this run in the generated ids, or {@code null} to derive it from the start time.
+     *
+     * @param runId the run id
+     */
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    /**
+     * Gets the domain of the generated emails.
+     *
+     * @return the email domain
+     */
+    public String getEmailDomain() {
+        return emailDomain;
+    }
+
+    /**
+     * Sets the domain of the generated emails.
+     *
+     * @param emailDomain the email domain
+     */
+    public void setEmailDomain(String emailDomain) {
+        this.emailDomain = emailDomain;
+    }
+
+    /**
+     * Gets the first names of the generated users, picked with equal weights.
+     *
+     * @return the first names
+     */
+    public List<String> getFirstNames() {
+        return firstNames;
+    }
+
+    /**
+     * Sets the first names of the generated users, picked with equal weights.
+     *
+     * @param firstNames the first names
+     */
+    public void setFirstNames(List<String> firstNames) {
+        this.firstNames = firstNames;
+    }
+
+    /**
+     * Gets the last names of the generated users, picked with equal weights.
+     *
+     * @return the last names
+     */
+    public List<String> getLastNames() {
+        return lastNames;
+    }
+
+    /**
+     * Sets the last names of the generated users, picked with equal weights.
+     *
+     * @param lastNames the last names
+     */
+    public void setLastNames(List<String> lastNames) {
+        this.lastNames = lastNames;
+    }
+
+    /**
+     * Gets the genders of the generated users with their relative weights.
+     *
+     * @return the gender weights
+     */
+    public Map<String, Integer> getGenders() {
+        return genders;
+    }
+
+    /**
+     * Sets the genders of the generated users with their relative weights.
+     *
+     * @param genders the gender weights
+     */
+    public void setGenders(Map<String, Integer> genders) {
+        this.genders = genders;
+    }
+
+    /**
+     * Gets the statuses of the generated users with their relative weights.
+     *
+     * @return the status weights
+     */
+    public Map<String, Integer> getStatuses() {
+        return statuses;
+    }
+
+    /**
+     * Sets the statuses of the generated users with their relative weights.
+     *
+     * @param statuses the status weights
+     */
+    public void setStatuses(Map<String, Integer> statuses) {
+        this.statuses = statuses;
+    }
+
+    private static Map<String, Integer> weights(String first, int firstWeight, String second, int secondWeight) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put(first, firstWeight);
+        weights.put(second, secondWeight);
+        return weights;
+    }
+}
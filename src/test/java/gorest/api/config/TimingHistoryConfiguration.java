@@ -0,0 +1,93 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the settings of the test timing history and of the scheduling based on it.
+ */
+public class TimingHistoryConfiguration {
+
+    @JsonProperty("enabled")
+    private boolean enabled = true;
+
+    @JsonProperty("file")
+    private String file = ".test-history/timings.json";
+
+    @JsonProperty("failed_first")
+    private boolean failedFirst = false;
+
+    @JsonProperty("failed_first_runs")
+    private int failedFirstRuns = 3;
+
+    /**
+     * Checks whether test durations are recorded and used to order the test classes.
+     *
+     * @return {@code true} if the timing history is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether test durations are recorded and used to order the test classes.
+     *
+     * @param enabled {@code true} to enable the timing history
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the file the durations and failures of the previous runs are kept in.
+     *
+     * @return the path of the history file
+     */
+    public String getFile() {
+        return file;
+    }
+
+    /**
+     * Sets the file the durations and failures of the previous runs are kept in.
+     *
+     * @param file the path of the history file
+     */
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    /**
+     * Checks whether classes and tests that failed recently run before the others.
+     *
+     * @return {@code true} if recently failed classes and tests run first
+     */
+    public boolean isFailedFirst() {
+        return failedFirst;
+    }
+
+    /**
+     * Sets whether classes and tests that failed recently run before the others.
+     *
+     * @param failedFirst {@code true} to run recently failed classes and tests first
+     */
+    public void setFailedFirst(boolean failedFirst) {
+        this.failedFirst = failedFirst;
+    }
+
+    /**
+     * Gets the number of runs a failure keeps a class or test at the front.
+     *
+     * @return the number of runs
+     */
+    public int getFailedFirstRuns() {
+        return failedFirstRuns;
+    }
+
+    /**
+     * Sets the number of runs a failure keeps a class or test at the front.
+     *
+     * @param failedFirstRuns the number of runs
+     */
+    public void setFailedFirstRuns(int failedFirstRuns) {
+        this.failedFirstRuns = failedFirstRuns;
+    }
+}
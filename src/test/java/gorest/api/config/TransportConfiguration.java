@@ -0,0 +1,198 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the HTTP transport settings: connection pool, keep-alive, timeouts and TLS session reuse.
+ */
+public class TransportConfiguration {
+
+    @JsonProperty("max_connections_total")
+    private int maxConnectionsTotal = 200;
+
+    @JsonProperty("max_connections_per_route")
+    private int maxConnectionsPerRoute = 50;
+
+    @JsonProperty("connect_timeout_ms")
+    private int connectTimeoutMs = 10_000;
+
+    @JsonProperty("read_timeout_ms")
+    private int readTimeoutMs = 30_000;
+
+    @JsonProperty("pool_timeout_ms")
+    private int poolTimeoutMs = 10_000;
+
+    @JsonProperty("idle_timeout_seconds")
+    private int idleTimeoutSeconds = 30;
+
+    @JsonProperty("eviction_interval_seconds")
+    private int evictionIntervalSeconds = 5;
+
+    @JsonProperty("tls_session_cache_size")
+    private int tlsSessionCacheSize = 1_000;
+
+    @JsonProperty("tls_session_timeout_seconds")
+    private int tlsSessionTimeoutSeconds = 3_600;
+
+    /**
+     * Gets the maximum number of pooled connections over all hosts.
+     *
+     * @return the maximum number of connections
+     */
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections over all hosts.
+     *
+     * @param maxConnectionsTotal the maximum number of connections
+     */
+    public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+    }
+
+    /**
+     * Gets the maximum number of pooled connections to a single host.
+     *
+     * @return the maximum number of connections per host
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections to a single host.
+     *
+     * @param maxConnectionsPerRoute the maximum number of connections per host
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    /**
+     * Gets the timeout for establishing a connection, in milliseconds.
+     *
+     * @return the connect timeout
+     */
+    public int getConnectTimeoutMs() {
+        return connectTimeoutMs;
+    }
+
+    /**
+     * Sets the timeout for establishing a connection, in milliseconds.
+     *
+     * @param connectTimeoutMs the connect timeout
+     */
+    public void setConnectTimeoutMs(int connectTimeoutMs) {
+        this.connectTimeoutMs = connectTimeoutMs;
+    }
+
+    /**
+     * Gets the maximum time to wait for data on an open connection, in milliseconds.
+     *
+     * @return the read timeout
+     */
+    public int getReadTimeoutMs() {
+        return readTimeoutMs;
+    }
+
+    /**
+     * Sets the maximum time to wait for data on an open connection, in milliseconds.
+     *
+     * @param readTimeoutMs the read timeout
+     */
+    public void setReadTimeoutMs(int readTimeoutMs) {
+        this.readTimeoutMs = readTimeoutMs;
+    }
+
+    /**
+     * Gets the maximum time to wait for a free connection from the pool, in milliseconds.
+     *
+     * @return the pool timeout
+     */
+    public int getPoolTimeoutMs() {
+        return poolTimeoutMs;
+    }
+
+    /**
+     * Sets the maximum time to wait for a free connection from the pool, in milliseconds.
+     *
+     * @param poolTimeoutMs the pool timeout
+     */
+    public void setPoolTimeoutMs(int poolTimeoutMs) {
+        this.poolTimeoutMs = poolTimeoutMs;
+    }
+
+    /**
+     * Gets how long an unused connection is kept alive, in seconds.
+     *
+     * @return the idle timeout
+     */
+    public int getIdleTimeoutSeconds() {
+        return idleTimeoutSeconds;
+    }
+
+    /**
+     * Sets how long an unused connection is kept alive, in seconds.
+     *
+     * @param idleTimeoutSeconds the idle timeout
+     */
+    public void setIdleTimeoutSeconds(int idleTimeoutSeconds) {
+        this.idleTimeoutSeconds = idleTimeoutSeconds;
+    }
+
+    /**
+     * Gets how often idle and expired connections are evicted from the pool, in seconds.
+     *
+     * @return the eviction interval
+     */
+    public int getEvictionIntervalSeconds() {
+        return evictionIntervalSeconds;
+    }
+
+    /**
+     * Sets how often idle and expired connections are evicted from the pool, in seconds.
+     *
+     * @param evictionIntervalSeconds the eviction interval
+     */
+    public void setEvictionIntervalSeconds(int evictionIntervalSeconds) {
+        this.evictionIntervalSeconds = evictionIntervalSeconds;
+    }
+
+    /**
+     * Gets the number of TLS sessions cached for resumption. 0 means no limit.
+     *
+     * @return the TLS session cache size
+     */
+    public int getTlsSessionCacheSize() {
+        return tlsSessionCacheSize;
+    }
+
+    /**
+     * Sets the number of TLS sessions cached for resumption. 0 means no limit.
+     *
+     * @param tlsSessionCacheSize the TLS session cache size
+     */
+    public void setTlsSessionCacheSize(int tlsSessionCacheSize) {
+        this.tlsSessionCacheSize = tlsSessionCacheSize;
+    }
+
+    /**
+     * Gets how long a cached TLS session can be resumed, in seconds.
+     *
+     * @return the TLS session timeout
+     */
+    public int getTlsSessionTimeoutSeconds() {
+        return tlsSessionTimeoutSeconds;
+    }
+
+    /**
+     * Sets how long a cached TLS session can be resumed, in seconds.
+     *
+     * @param tlsSessionTimeoutSeconds the TLS session timeout
+     */
+    public void setTlsSessionTimeoutSeconds(int tlsSessionTimeoutSeconds) {
+        this.tlsSessionTimeoutSeconds = tlsSessionTimeoutSeconds;
+    }
+}
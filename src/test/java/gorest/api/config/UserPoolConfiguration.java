@@ -0,0 +1,93 @@
+package gorest.api.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the settings of the pool of pre-created users.
+ */
+public class UserPoolConfiguration {
+
+    @JsonProperty("size")
+    private int size = 4;
+
+    @JsonProperty("low_water_mark")
+    private int lowWaterMark = 2;
+
+    @JsonProperty("creation_threads")
+    private int creationThreads = 4;
+
+    @JsonProperty("lease_timeout_ms")
+    private int leaseTimeoutMs = 10000;
+
+    /**
+     * Gets the number of users created when the pool starts and kept available afterwards.
+     *
+     * @return the pool size, 0 to create users on demand only
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Sets the number of users created when the pool starts and kept available afterwards.
+     *
+     * @param size the pool size
+     */
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of available users below which the pool is topped up in the background.
+     *
+     * @return the low water mark
+     */
+    public int getLowWaterMark() {
+        return lowWaterMark;
+    }
+
+    /**
+     * Sets the number of available users below which the pool is topped up in the background.
+     *
+     * @param lowWaterMark the low water mark
+     */
+    public void setLowWaterMark(int lowWaterMark) {
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    /**
+     * Gets the number of threads creating users in the background.
+     *
+     * @return the number of creation threads
+     */
+    public int getCreationThreads() {
+        return creationThreads;
+    }
+
+    /**
+     * Sets the number of threads creating users in the background.
+     *
+     * @param creationThreads the number of creation threads
+     */
+    public void setCreationThreads(int creationThreads) {
+        this.creationThreads = creationThreads;
+    }
+
+    /**
+     * Gets how long a lease waits for a user being created in the background before creating one itself.
+     *
+     * @return the lease timeout in milliseconds
+     */
+    public int getLeaseTimeoutMs() {
+        return leaseTimeoutMs;
+    }
+
+    /**
+     * Sets how long a lease waits for a user being created in the background before creating one itself.
+     *
+     * @param leaseTimeoutMs the lease timeout in milliseconds
+     */
+    public void setLeaseTimeoutMs(int leaseTimeoutMs) {
+        this.leaseTimeoutMs = leaseTimeoutMs;
+    }
+}
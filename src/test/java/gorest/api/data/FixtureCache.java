@@ -0,0 +1,102 @@
+package gorest.api.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import gorest.api.models.Post;
+import gorest.api.models.User;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Cache of the JSON test data files.
+ * <p>
+ * Each file is read from the classpath and parsed once, through shared thread-safe readers, and kept
+ * as a template that is never handed out. Callers get their own copy, which they are free to modify,
+ * so the cache can be used by test classes running in parallel.
+ */
+public class FixtureCache {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader USER_READER = MAPPER.readerFor(User.class);
+    private static final ObjectReader POST_READER = MAPPER.readerFor(Post.class);
+
+    private static final Map<String, User> USER_TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<String, Post> POST_TEMPLATES = new ConcurrentHashMap<>();
+
+    private FixtureCache() {
+    }
+
+    /**
+     * Gets a copy of the user defined in a JSON file.
+     *
+     * @param fileName the file name of the JSON data file in the resources folder
+     * @return a new copy of the user
+     * @throws IOException if the file is missing or cannot be parsed
+     */
+    public static User user(String fileName) throws IOException {
+        return new User(template(USER_TEMPLATES, USER_READER, fileName));
+    }
+
+    /**
+     * Gets a copy of the user defined in a JSON file, with some fields overridden.
+     *
+     * @param fileName  the file name of the JSON data file in the resources folder
+     * @param overrides applied to the copy, e.g. {@code u -> u.setEmail(email)}
+     * @return a new copy of the user
+     * @throws IOException if the file is missing or cannot be parsed
+     */
+    public static User user(String fileName, Consumer<User> overrides) throws IOException {
+        User user = user(fileName);
+        overrides.accept(user);
+        return user;
+    }
+
+    /**
+     * Gets a copy of the post defined in a JSON file.
+     *
+     * @param fileName the file name of the JSON data file in the resources folder
+     * @return a new copy of the post
+     * @throws IOException if the file is missing or cannot be parsed
+     */
+    public static Post post(String fileName) throws IOException {
+        return new Post(template(POST_TEMPLATES, POST_READER, fileName));
+    }
+
+    /**
+     * Gets a copy of the post defined in a JSON file, with some fields overridden.
+     *
+     * @param fileName  the file name of the JSON data file in the resources folder
+     * @param overrides applied to the copy, e.g. {@code p -> p.setUserId(userId)}
+     * @return a new copy of the post
+     * @throws IOException if the file is missing or cannot be parsed
+     */
+    public static Post post(String fileName, Consumer<Post> overrides) throws IOException {
+        Post post = post(fileName);
+        overrides.accept(post);
+        return post;
+    }
+
+    private static <T> T template(Map<String, T> templates, ObjectReader reader, String fileName) throws IOException {
+        try {
+            return templates.computeIfAbsent(fileName, name -> read(reader, name));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static <T> T read(ObjectReader reader, String fileName) {
+        try (InputStream inputStream = FixtureCache.class.getClassLoader().getResourceAsStream(fileName)) {
+            if (inputStream == null) {
+                throw new IOException("File not found: " + fileName);
+            }
+            return reader.readValue(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package gorest.api.data;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import gorest.api.client.AsyncRequests;
+import gorest.api.models.Post;
+import gorest.api.models.User;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily walks every page of a paginated collection, e.g. {@code /public/v2/users}.
+ * <p>
+ * The first page is fetched when iteration starts; its {@code X-Pagination-Pages} header tells how many
+ * pages follow, and the next pages are then fetched concurrently with {@link AsyncRequests}, at most
+ * {@code window} pages ahead of the consumer. Only those pages are held in memory, whatever the size of
+ * the collection: they are fetched outside of the test context, so their exchanges are not buffered for
+ * the test either. Pages are computed once, from the first page, so items created or deleted during
+ * the crawl may be missed or seen twice.
+ *
+ * @param <T> the type of the items
+ */
+public class PaginatedCrawler<T> implements Iterable<T> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Supplier<RequestSpecification> given;
+    private final String path;
+    private final ObjectReader pageReader;
+    private final Map<String, Object> queryParams = new LinkedHashMap<>();
+    private int perPage = 100;
+    private int window = 4;
+
+    private PaginatedCrawler(Supplier<RequestSpecification> given, String path, Class<T> itemType) {
+        this.given = given;
+        this.path = path;
+        this.pageReader = MAPPER.readerFor(MAPPER.getTypeFactory().constructCollectionType(List.class, itemType));
+    }
+
+    /**
+     * Creates a crawler over {@code /public/v2/users}.
+     *
+     * @param given starts a request with the base URI, authorization and filters set
+     * @return a new crawler
+     */
+    public static PaginatedCrawler<User> users(Supplier<RequestSpecification> given) {
+        return new PaginatedCrawler<>(given, "/public/v2/users", User.class);
+    }
+
+    /**
+     * Creates a crawler over {@code /public/v2/posts}.
+     *
+     * @param given starts a request with the base URI, authorization and filters set
+     * @return a new crawler
+     */
+    public static PaginatedCrawler<Post> posts(Supplier<RequestSpecification> given) {
+        return new PaginatedCrawler<>(given, "/public/v2/posts", Post.class);
+    }
+
+    /**
+     * Sets the number of items requested per page.
+     *
+     * @param perPage the page size, 100 by default, which is the maximum allowed by GoRest
+     * @return this crawler
+     */
+    public PaginatedCrawler<T> perPage(int perPage) {
+        this.perPage = perPage;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pages fetched ahead of the consumer.
+     *
+     * @param window the prefetch window, 4 by default
+     * @return this crawler
+     */
+    public PaginatedCrawler<T> window(int window) {
+        this.window = Math.max(1, window);
+        return this;
+    }
+
+    /**
+     * Adds a query parameter sent with every page request, e.g. a search filter.
+     *
+     * @param name  the parameter name
+     * @param value the parameter value
+     * @return this crawler
+     */
+    public PaginatedCrawler<T> queryParam(String name, Object value) {
+        queryParams.put(name, value);
+        return this;
+    }
+
+    /**
+     * Starts a new crawl. Each iterator fetches the pages again.
+     *
+     * @return an iterator over the items of every page
+     */
+    @Override
+    public Crawl iterator() {
+        return new Crawl();
+    }
+
+    /**
+     * Starts a new crawl as a sequential stream. Closing the stream stops the prefetching.
+     *
+     * @return a stream of the items of every page
+     */
+    public Stream<T> stream() {
+        Crawl crawl = iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(crawl, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(crawl::close);
+    }
+
+    private Page fetch(int page) {
+        Response response = given.get()
+                .queryParams(queryParams)
+                .queryParam("page", page)
+                .queryParam("per_page", perPage)
+                .get(path);
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " page " + page + " failed: " + response.getStatusLine());
+        }
+        try {
+            List<T> items = pageReader.readValue(response.asByteArray());
+            String pages = response.getHeader("X-Pagination-Pages");
+            String total = response.getHeader("X-Pagination-Total");
+            return new Page(items, pages == null ? 1 : Integer.parseInt(pages), total == null ? -1 : Long.parseLong(total));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not parse page " + page + " of " + path, e);
+        }
+    }
+
+    private class Page {
+        private final List<T> items;
+        private final int pages;
+        private final long total;
+
+        Page(List<T> items, int pages, long total) {
+            this.items = items;
+            this.pages = pages;
+            this.total = total;
+        }
+    }
+
+    /**
+     * One walk over the collection. Stops prefetching once exhausted or closed.
+     */
+    public class Crawl implements Iterator<T>, AutoCloseable {
+
+        private final ArrayDeque<CompletableFuture<Page>> prefetched = new ArrayDeque<>();
+        private Iterator<T> current = Collections.emptyIterator();
+        private int pages = -1;
+        private long total = -1;
+        private int nextToFetch;
+        private int currentPage;
+        private int page;
+
+        /**
+         * Gets the number of pages announced by the first page.
+         *
+         * @return the number of pages
+         */
+        public int getPages() {
+            start();
+            return pages;
+        }
+
+        /**
+         * Gets the number of items announced by the first page.
+         *
+         * @return the total number of items, or -1 if the header is missing
+         */
+        public long getTotal() {
+            start();
+            return total;
+        }
+
+        /**
+         * Gets the page the item last returned by {@link #next()} came from.
+         *
+         * @return the page number, from 1, or 0 before the first item
+         */
+        public int getPage() {
+            return page;
+        }
+
+        @Override
+        public boolean hasNext() {
+            start();
+            while (!current.hasNext()) {
+                if (prefetched.isEmpty()) {
+                    close();
+                    return false;
+                }
+                current = join(prefetched.poll()).items.iterator();
+                currentPage++;
+                prefetchNext();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            page = currentPage;
+            return current.next();
+        }
+
+        @Override
+        public void close() {
+            prefetched.forEach(page -> page.cancel(true));
+            prefetched.clear();
+        }
+
+        private void start() {
+            if (pages >= 0) {
+                return;
+            }
+            Page first = fetch(1);
+            pages = first.pages;
+            total = first.total;
+            current = first.items.iterator();
+            currentPage = 1;
+            nextToFetch = 2;
+            for (int i = 0; i < window; i++) {
+                prefetchNext();
+            }
+        }
+
+        private void prefetchNext() {
+            if (nextToFetch > pages) {
+                return;
+            }
+            int page = nextToFetch++;
+            prefetched.add(AsyncRequests.sendDetached(() -> fetch(page)));
+        }
+
+        private Page join(CompletableFuture<Page> page) {
+            try {
+                return page.join();
+            } catch (CompletionException e) {
+                close();
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+    }
+}
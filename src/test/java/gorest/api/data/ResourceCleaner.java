@@ -0,0 +1,140 @@
+package gorest.api.data;
+
+import gorest.api.config.CleanupConfiguration;
+import gorest.api.config.Configuration;
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.config.RestAssuredConfigManager;
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Deletes the resources of a {@link ResourceRegistry} in the background, posts before users,
+ * with a bounded number of DELETE requests in flight.
+ * <p>
+ * Failed deletions are logged and never fail a test; the end of the run waits for the pending
+ * cleanups up to the configured timeout.
+ */
+public class ResourceCleaner {
+
+    private static final Logger logger = LogManager.getLogger(ResourceCleaner.class);
+
+    private static volatile ResourceCleaner shared;
+
+    private final CleanupConfiguration configuration;
+    private final Supplier<RequestSpecification> given;
+    private final ExecutorService executor;
+    private final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param configuration the cleanup settings
+     * @param given         starts a request with the base URI, authorization and filters set
+     */
+    public ResourceCleaner(CleanupConfiguration configuration, Supplier<RequestSpecification> given) {
+        this.configuration = configuration;
+        this.given = given;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, configuration.getConcurrency()), runnable -> {
+            Thread thread = new Thread(runnable, "resource-cleaner-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the cleaner shared by the whole test run, creating it on first use.
+     *
+     * @return the shared cleaner
+     */
+    public static ResourceCleaner getShared() {
+        if (shared == null) {
+            synchronized (ResourceCleaner.class) {
+                if (shared == null) {
+                    Configuration configuration = ConfigurationLoader.getInstance().getConfiguration();
+                    RestAssuredConfigManager configManager = new RestAssuredConfigManager(configuration);
+                    shared = new ResourceCleaner(configuration.getCleanup(),
+                            () -> RestAssured.given(configManager.getThreadRequestSpec()));
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Starts deleting the resources still registered in a registry, posts first, then users.
+     *
+     * @param name     what the resources belong to, for the logs
+     * @param registry the registry, drained by this call
+     * @return completes once every deletion has been attempted; never completes exceptionally
+     */
+    public CompletableFuture<Void> cleanup(String name, ResourceRegistry registry) {
+        Set<Integer> posts = registry.drainPosts();
+        Set<Integer> users = registry.drainUsers();
+        if (posts.isEmpty() && users.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<Void> cleanup = deleteAll("/public/v2/posts/", posts, failures)
+                .thenCompose(ignored -> deleteAll("/public/v2/users/", users, failures))
+                .whenComplete((ignored, error) -> {
+                    if (failures.get() > 0) {
+                        logger.warn("Cleanup of {}: {} of {} posts and {} users could not be deleted",
+                                name, failures.get(), posts.size(), users.size());
+                    } else {
+                        logger.debug("Cleanup of {}: deleted {} posts and {} users", name, posts.size(), users.size());
+                    }
+                });
+        pending.add(cleanup);
+        cleanup.whenComplete((ignored, error) -> pending.remove(cleanup));
+        return cleanup;
+    }
+
+    /**
+     * Waits for the pending cleanups, up to the configured timeout.
+     */
+    public void awaitPending() {
+        CompletableFuture<Void> all = CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]));
+        try {
+            all.get(configuration.getTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Cleanup still running after {} s, leaving the remaining resources behind", configuration.getTimeoutSeconds());
+        } catch (ExecutionException e) {
+            logger.warn("Cleanup failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompletableFuture<Void> deleteAll(String path, Set<Integer> ids, AtomicInteger failures) {
+        CompletableFuture<?>[] deletions = ids.stream()
+                .map(id -> CompletableFuture.runAsync(() -> delete(path + id, failures), executor))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(deletions);
+    }
+
+    private void delete(String path, AtomicInteger failures) {
+        try {
+            int status = given.get().delete(path).getStatusCode();
+            // 404: already gone, e.g. posts deleted along with their user
+            if (status != 204 && status != 404) {
+                failures.incrementAndGet();
+                logger.warn("Could not delete {}: status {}", path, status);
+            }
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            logger.warn("Could not delete {}", path, e);
+        }
+    }
+}
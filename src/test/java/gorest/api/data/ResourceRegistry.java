@@ -0,0 +1,97 @@
+package gorest.api.data;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids of the users and posts created by a test, a test class or the rest of the run, so they can
+ * be deleted once it is over.
+ * <p>
+ * A resource may be deleted by another test than the one that created it, e.g. a user created in a
+ * class setup and deleted by a test method; such deletions are remembered and applied when the
+ * registry of the method is merged into the registry of its class.
+ */
+public class ResourceRegistry {
+
+    private static final ResourceRegistry SUITE = new ResourceRegistry();
+
+    private final Set<Integer> users = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> posts = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> deletedUsers = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> deletedPosts = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Gets the registry of the resources created outside of a test, e.g. by the user pool or a load run.
+     *
+     * @return the suite registry
+     */
+    public static ResourceRegistry suite() {
+        return SUITE;
+    }
+
+    public void addUser(int id) {
+        users.add(id);
+        deletedUsers.remove(id);
+    }
+
+    public void addPost(int id) {
+        posts.add(id);
+        deletedPosts.remove(id);
+    }
+
+    public void removeUser(int id) {
+        if (!users.remove(id)) {
+            deletedUsers.add(id);
+        }
+    }
+
+    public void removePost(int id) {
+        if (!posts.remove(id)) {
+            deletedPosts.add(id);
+        }
+    }
+
+    /**
+     * Adds the resources created by another registry to this one, and removes those it deleted.
+     *
+     * @param other the registry to merge in
+     */
+    public void merge(ResourceRegistry other) {
+        other.users.forEach(this::addUser);
+        other.posts.forEach(this::addPost);
+        other.deletedUsers.forEach(this::removeUser);
+        other.deletedPosts.forEach(this::removePost);
+    }
+
+    /**
+     * Takes the ids of the users still registered, leaving the registry without users.
+     *
+     * @return the user ids
+     */
+    public Set<Integer> drainUsers() {
+        return drain(users);
+    }
+
+    /**
+     * Takes the ids of the posts still registered, leaving the registry without posts.
+     *
+     * @return the post ids
+     */
+    public Set<Integer> drainPosts() {
+        return drain(posts);
+    }
+
+    public boolean isEmpty() {
+        return users.isEmpty() && posts.isEmpty();
+    }
+
+    private static Set<Integer> drain(Set<Integer> ids) {
+        Set<Integer> drained = ConcurrentHashMap.newKeySet();
+        for (Integer id : ids) {
+            if (ids.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+}
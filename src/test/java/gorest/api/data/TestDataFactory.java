@@ -0,0 +1,193 @@
+package gorest.api.data;
+
+import gorest.api.config.TestDataConfiguration;
+import gorest.api.models.Post;
+import gorest.api.models.User;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates users and posts for the tests, the {@link UserPool} and the load scenarios, with ids that are
+ * unique across threads, JVMs and nodes.
+ * <p>
+ * An id is {@code <node>-<run>-<sequence>}. The node id tells apart the JVMs of a run, on one host or
+ * several: by default it is derived from the host name and process id, and it can be set with
+ * {@code test_data.node_id} or {@code -Dgorest.node.id}, e.g. to a CI worker index, to guarantee it is
+ * unique. The run id tells apart the runs of a node, by default from the start time. The sequence is an
+ * atomic counter, so generating takes no lock.
+ * <p>
+ * The name, gender and status of a user are picked from the configured weighted values with a hash of its
+ * sequence number instead of a shared random generator: threads do not contend on it, and a seeded
+ * sequence, see {@link #useSequence(long)}, generates the same users again.
+ */
+public class TestDataFactory {
+
+    private static volatile TestDataFactory shared;
+
+    private final String emailDomain;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final WeightedValues genders;
+    private final WeightedValues statuses;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile String prefix;
+
+    /**
+     * @param configuration the test data settings
+     */
+    public TestDataFactory(TestDataConfiguration configuration) {
+        String nodeId = System.getProperty("gorest.node.id", configuration.getNodeId());
+        String runId = configuration.getRunId();
+        this.prefix = (nodeId == null || nodeId.isEmpty() ? defaultNodeId() : nodeId) + "-"
+                + (runId == null || runId.isEmpty() ? Long.toString(System.currentTimeMillis(), 36) : runId);
+        this.emailDomain = configuration.getEmailDomain();
+        this.firstNames = configuration.getFirstNames().toArray(new String[0]);
+        this.lastNames = configuration.getLastNames().toArray(new String[0]);
+        this.genders = new WeightedValues("genders", configuration.getGenders());
+        this.statuses = new WeightedValues("statuses", configuration.getStatuses());
+        if (firstNames.length == 0 || lastNames.length == 0) {
+            throw new RuntimeException("test_data.first_names and test_data.last_names must not be empty");
+        }
+    }
+
+    /**
+     * Gets the factory shared by the whole test run, creating it on first use.
+     *
+     * @param configuration the test data settings, only used on the first call
+     * @return the shared factory
+     */
+    public static TestDataFactory getShared(TestDataConfiguration configuration) {
+        if (shared == null) {
+            synchronized (TestDataFactory.class) {
+                if (shared == null) {
+                    shared = new TestDataFactory(configuration);
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Makes the following ids a numbered sequence starting from the seed, {@code <seed>-1}, {@code <seed>-2}
+     * and so on, so two runs with the same seed generate the same data in the same order. Used when
+     * recording and replaying cassettes.
+     *
+     * @param seed the seed, e.g. the time the sequence was first used
+     */
+    public void useSequence(long seed) {
+        prefix = Long.toString(seed);
+        sequence.set(0);
+    }
+
+    /**
+     * Generates a unique id.
+     *
+     * @return the id, e.g. {@code 3k9f1a.1b2-lx4q2c8w-17}
+     */
+    public String nextId() {
+        return id(sequence.incrementAndGet());
+    }
+
+    /**
+     * Generates a unique email address.
+     *
+     * @return the email address, e.g. {@code 3k9f1a.1b2-lx4q2c8w-17@email.com}
+     */
+    public String email() {
+        return id(sequence.incrementAndGet()) + "@" + emailDomain;
+    }
+
+    /**
+     * Generates a user with a unique email and a name, gender and status picked from the configured values.
+     *
+     * @return a new user, without id
+     */
+    public User user() {
+        long number = sequence.incrementAndGet();
+        long hash = mix(number);
+        User user = new User();
+        user.setName(firstNames[(int) ((hash & 0xFFFF) % firstNames.length)] + " "
+                + lastNames[(int) (((hash >>> 16) & 0xFFFF) % lastNames.length)]);
+        user.setEmail(id(number) + "@" + emailDomain);
+        user.setGender(genders.pick((int) ((hash >>> 32) & 0xFFFF)));
+        user.setStatus(statuses.pick((int) (hash >>> 48)));
+        return user;
+    }
+
+    /**
+     * Generates a post with a unique title.
+     *
+     * @param userId the id of the user owning the post
+     * @return a new post, without id
+     */
+    public Post post(int userId) {
+        String id = nextId();
+        Post post = new Post();
+        post.setUserId(userId);
+        post.setTitle("Post " + id);
+        post.setBody("Body of post " + id);
+        return post;
+    }
+
+    private String id(long number) {
+        return prefix + "-" + number;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "localhost";
+        }
+        return Integer.toString(host.hashCode() & Integer.MAX_VALUE, 36) + "." + Long.toString(ProcessHandle.current().pid(), 36);
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads consecutive sequence numbers over all 64 bits.
+     */
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Values with relative weights, picked with a 16-bit random number.
+     */
+    private static final class WeightedValues {
+        private final String[] values;
+        private final int[] cumulativeWeights;
+
+        WeightedValues(String name, Map<String, Integer> weights) {
+            this.values = new String[weights.size()];
+            this.cumulativeWeights = new int[weights.size()];
+            int total = 0;
+            int i = 0;
+            for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+                if (weight.getValue() == null || weight.getValue() < 0) {
+                    throw new RuntimeException("test_data." + name + "." + weight.getKey() + " must be a weight >= 0");
+                }
+                total += weight.getValue();
+                values[i] = weight.getKey();
+                cumulativeWeights[i++] = total;
+            }
+            if (total == 0) {
+                throw new RuntimeException("test_data." + name + " needs a value with a weight > 0");
+            }
+        }
+
+        String pick(int random) {
+            int point = random % cumulativeWeights[cumulativeWeights.length - 1];
+            int i = 0;
+            while (cumulativeWeights[i] <= point) {
+                i++;
+            }
+            return values[i];
+        }
+    }
+}
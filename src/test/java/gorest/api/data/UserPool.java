@@ -0,0 +1,220 @@
+package gorest.api.data;
+
+import gorest.api.config.Configuration;
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.config.RestAssuredConfigManager;
+import gorest.api.config.UserPoolConfiguration;
+import gorest.api.models.User;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool of users created ahead of time, for test classes and load scenarios that only need an
+ * existing user, e.g. to own posts.
+ * <p>
+ * The pool creates its users concurrently when it starts and tops itself up in the background when
+ * the number of available users falls below the low water mark. A lease never fails for lack of users:
+ * if none becomes available in time, one is created right away. Leased users should be released
+ * once the caller is done with them; releasing a user that is not leased, e.g. twice, is ignored, so a
+ * user is never handed to two callers at once.
+ */
+public class UserPool implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(UserPool.class);
+
+    private static volatile UserPool shared;
+
+    private final UserPoolConfiguration configuration;
+    private final Supplier<RequestSpecification> given;
+    private final TestDataFactory testData;
+    private final ExecutorService creator;
+    private final LinkedBlockingQueue<User> available = new LinkedBlockingQueue<>();
+    private final Map<Integer, User> created = new ConcurrentHashMap<>();
+    private final Set<Integer> leased = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pending = new AtomicInteger();
+    // Background creations no waiting lease has counted on yet
+    private final AtomicInteger unclaimed = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * @param configuration the pool settings
+     * @param given         starts a request with the base URI, authorization and filters set
+     * @param testData      generates the users
+     */
+    public UserPool(UserPoolConfiguration configuration, Supplier<RequestSpecification> given, TestDataFactory testData) {
+        this.configuration = configuration;
+        this.given = given;
+        this.testData = testData;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.creator = Executors.newFixedThreadPool(Math.max(1, configuration.getCreationThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "user-pool-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the pool shared by the whole test run, creating and starting it on first use.
+     *
+     * @return the shared pool
+     */
+    public static UserPool getShared() {
+        if (shared == null) {
+            synchronized (UserPool.class) {
+                if (shared == null) {
+                    Configuration configuration = ConfigurationLoader.getInstance().getConfiguration();
+                    RestAssuredConfigManager configManager = new RestAssuredConfigManager(configuration);
+                    UserPool pool = new UserPool(configuration.getUserPool(),
+                            () -> RestAssured.given(configManager.getThreadRequestSpec()),
+                            TestDataFactory.getShared(configuration.getTestData()));
+                    pool.start();
+                    shared = pool;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Closes the shared pool, if it was created.
+     */
+    public static void closeShared() {
+        synchronized (UserPool.class) {
+            if (shared != null) {
+                shared.close();
+                shared = null;
+            }
+        }
+    }
+
+    /**
+     * Starts creating the configured number of users in the background.
+     */
+    public void start() {
+        topUp(configuration.getSize());
+    }
+
+    /**
+     * Leases a user, waiting for one being created in the background if none is available and
+     * no other lease is already waiting for it, or creating one right away otherwise.
+     *
+     * @return a user that exists on the server, for the caller's exclusive use until released
+     */
+    public User lease() {
+        User user = available.poll();
+        try {
+            if (user == null && claimPendingCreation()) {
+                user = available.poll(configuration.getLeaseTimeoutMs(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (user == null) {
+            user = createNow();
+        }
+        if (available.size() + pending.get() < configuration.getLowWaterMark()) {
+            topUp(configuration.getSize());
+        }
+        leased.add(user.getId());
+        return new User(user);
+    }
+
+    /**
+     * Returns a leased user to the pool.
+     *
+     * @param user the leased user; {@code null} and users that are not currently leased are ignored
+     */
+    public void release(User user) {
+        if (user == null || closed) {
+            return;
+        }
+        if (!leased.remove(user.getId())) {
+            logger.warn("Ignored the release of user {}, which is not leased", user.getId());
+            return;
+        }
+        User pooled = created.get(user.getId());
+        if (pooled != null) {
+            available.offer(pooled);
+        }
+    }
+
+    /**
+     * Stops the background creation. The users of the pool were created outside of any test, so they
+     * are deleted by the cleanup of the run, see {@link ResourceCleaner}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        creator.shutdownNow();
+        available.clear();
+        created.clear();
+        leased.clear();
+    }
+
+    private boolean claimPendingCreation() {
+        int count;
+        do {
+            count = unclaimed.get();
+            if (count <= 0) {
+                return false;
+            }
+        } while (!unclaimed.compareAndSet(count, count - 1));
+        return true;
+    }
+
+    private void topUp(int target) {
+        int missing = target - available.size() - pending.get();
+        for (int i = 0; i < missing && !closed; i++) {
+            pending.incrementAndGet();
+            unclaimed.incrementAndGet();
+            creator.execute(() -> {
+                try {
+                    available.offer(create());
+                } catch (RuntimeException e) {
+                    logger.warn("Could not create pooled user", e);
+                } finally {
+                    pending.decrementAndGet();
+                    unclaimed.updateAndGet(count -> Math.min(count, pending.get()));
+                }
+            });
+        }
+    }
+
+    /**
+     * Creates a user on a pool thread, even when called by a test: users created outside of a test
+     * are owned by the run, so the cleanup of the calling test class does not delete them.
+     */
+    private User createNow() {
+        try {
+            return CompletableFuture.supplyAsync(this::create, creator).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private User create() {
+        User user = testData.user();
+        Response response = given.get().body(user).post("/public/v2/users");
+        if (response.getStatusCode() != 201) {
+            throw new IllegalStateException("Could not create user: " + response.getStatusLine() + " " + response.asString());
+        }
+        user.setId(response.jsonPath().getInt("id"));
+        created.put(user.getId(), user);
+        return user;
+    }
+}
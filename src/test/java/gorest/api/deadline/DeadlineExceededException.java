@@ -0,0 +1,15 @@
+package gorest.api.deadline;
+
+/**
+ * Thrown when a request or test runs out of its time budget, see {@link Deadlines}.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    /**
+     * @param message what ran out of time, and which budget
+     * @param cause   the timeout or closed connection the deadline caused, or {@code null}
+     */
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,197 @@
+package gorest.api.deadline;
+
+import gorest.api.extensions.TestContext;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The deadlines of the tests and requests of the run, so a stalled connection fails its request instead of
+ * holding the test for minutes.
+ * <p>
+ * A test's deadline is kept in its {@link TestContext}, so it also applies to the requests the test sends on
+ * other threads. A request's deadline is bound to the thread sending it, from the first filter until its
+ * response comes back: its own budget, or what is left of its test's if that is less. The HTTP clients read
+ * it with {@link #remainingNanos(String)} and shorten their timeouts to it.
+ */
+public final class Deadlines {
+
+    private static final ThreadLocal<Deadline> REQUEST_DEADLINE = new ThreadLocal<>();
+    private static final ScheduledThreadPoolExecutor WATCHDOG = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "deadline-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        // Most watches are cancelled long before they fire
+        WATCHDOG.setRemoveOnCancelPolicy(true);
+    }
+
+    private Deadlines() {
+    }
+
+    /**
+     * Starts the deadline of a test or test class setup, for the requests sent in its context.
+     *
+     * @param context      the context of the test or class
+     * @param budgetMillis the budget of the test, {@code 0} for none
+     */
+    public static void startTest(TestContext context, long budgetMillis) {
+        if (budgetMillis > 0) {
+            String name = context.getMethodName() == null ? context.getClassName() + " setup" : context.getClassName() + "." + context.getMethodName();
+            context.getOrCreate(Deadline.class, () -> new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis),
+                    "the " + budgetMillis + " ms budget of " + name));
+        }
+    }
+
+    /**
+     * Ends the deadline of a test or test class setup, so the requests sent after it, e.g. to clean up,
+     * are only bound by their own budget.
+     *
+     * @param context the context of the test or class
+     */
+    public static void endTest(TestContext context) {
+        Deadline deadline = context.get(Deadline.class);
+        if (deadline != null) {
+            deadline.ended = true;
+        }
+    }
+
+    /**
+     * Sends a request under its deadline. A request sent while another one is on the same thread, e.g. by a
+     * transport under a filter that already set it, keeps the deadline of the outer one.
+     *
+     * @param budgetMillis the budget of the request, {@code 0} for none
+     * @param request      sends the request
+     * @param <T>          the type of the response
+     * @return the response
+     */
+    public static <T> T call(long budgetMillis, Supplier<T> request) {
+        if (REQUEST_DEADLINE.get() != null) {
+            return request.get();
+        }
+        Deadline deadline = budgetMillis > 0
+                ? new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis), "the " + budgetMillis + " ms request budget")
+                : null;
+        TestContext context = TestContext.current();
+        Deadline test = context == null ? null : context.get(Deadline.class);
+        if (test != null && !test.ended && (deadline == null || test.nanoTime - deadline.nanoTime < 0)) {
+            deadline = test;
+        }
+        if (deadline == null) {
+            return request.get();
+        }
+        REQUEST_DEADLINE.set(deadline);
+        try {
+            return request.get();
+        } finally {
+            REQUEST_DEADLINE.remove();
+        }
+    }
+
+    /**
+     * Wraps a request so it runs under the deadline of the request the calling thread is sending, wherever it
+     * runs, e.g. a hedge sent on another thread for the same call.
+     *
+     * @param request sends the request
+     * @param <T>     the type of the response
+     * @return the request bound to the current deadline
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> request) {
+        Deadline deadline = REQUEST_DEADLINE.get();
+        if (deadline == null) {
+            return request;
+        }
+        return () -> {
+            Deadline previous = REQUEST_DEADLINE.get();
+            REQUEST_DEADLINE.set(deadline);
+            try {
+                return request.get();
+            } finally {
+                if (previous == null) {
+                    REQUEST_DEADLINE.remove();
+                } else {
+                    REQUEST_DEADLINE.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Gets the time left to the request being sent by the calling thread.
+     *
+     * @param request the request, e.g. {@code GET https://gorest.co.in/public/v2/users}, for the error message
+     * @return the time left in nanoseconds, {@link Long#MAX_VALUE} if the request has no deadline
+     * @throws DeadlineExceededException if there is no time left
+     */
+    public static long remainingNanos(String request) {
+        Deadline deadline = REQUEST_DEADLINE.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        long remaining = deadline.nanoTime - System.nanoTime();
+        if (remaining <= 0) {
+            throw exceeded(request, null);
+        }
+        return remaining;
+    }
+
+    /**
+     * Checks whether the request being sent by the calling thread is past its deadline, e.g. to tell a
+     * timeout caused by the deadline from one caused by the configured socket timeouts.
+     *
+     * @return {@code true} if the request has a deadline and it has passed
+     */
+    public static boolean isExceeded() {
+        Deadline deadline = REQUEST_DEADLINE.get();
+        return deadline != null && deadline.nanoTime - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Creates the exception of a request that ran out of time.
+     *
+     * @param request the request, for the message
+     * @param cause   the timeout or closed connection the deadline caused, or {@code null}
+     * @return the exception
+     */
+    public static DeadlineExceededException exceeded(String request, Throwable cause) {
+        Deadline deadline = REQUEST_DEADLINE.get();
+        return new DeadlineExceededException(request + " ran out of " + (deadline == null ? "its deadline" : deadline.description), cause);
+    }
+
+    /**
+     * Runs an action when a request's deadline passes, e.g. to close a connection blocked on a read.
+     *
+     * @param remainingNanos the time left to the request, from {@link #remainingNanos(String)}
+     * @param action         the action
+     * @return the watch, to cancel once the request is answered
+     */
+    public static ScheduledFuture<?> watch(long remainingNanos, Runnable action) {
+        return WATCHDOG.schedule(action, remainingNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets how far a test or test class setup has run past its deadline.
+     *
+     * @param context the context of the test or class
+     * @return the overrun in milliseconds, {@code 0} if it is within its budget or has none
+     */
+    public static long overrunMillis(TestContext context) {
+        Deadline deadline = context.get(Deadline.class);
+        return deadline == null || deadline.ended ? 0 : Math.max(0, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - deadline.nanoTime));
+    }
+
+    private static final class Deadline {
+        private final long nanoTime;
+        private final String description;
+        private volatile boolean ended;
+
+        Deadline(long nanoTime, String description) {
+            this.nanoTime = nanoTime;
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package gorest.api.extensions;
+
+import gorest.api.config.AllureConfiguration;
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.filters.Exchange;
+import gorest.api.filters.ExchangeBuffer;
+import gorest.api.reporting.AttachmentWriter;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Attaches the requests made by each test to the Allure report once the test is over.
+ * <p>
+ * Failed tests and tests annotated with {@link CaptureExchanges} get one attachment per request with
+ * the full request and response; other tests get a single compact summary. Attachment files are
+ * written by the background {@link AttachmentWriter}, which is flushed after each test class.
+ */
+public class AllureCaptureExtension implements AfterEachCallback, AfterAllCallback {
+
+    private final AllureConfiguration configuration = ConfigurationLoader.getInstance().getConfiguration().getAllure();
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TestContext testContext = TestContextExtension.getTestContext(context);
+        ExchangeBuffer buffer = testContext == null ? null : testContext.get(ExchangeBuffer.class);
+        if (buffer == null || "none".equalsIgnoreCase(configuration.getCapture())) {
+            return;
+        }
+        List<Exchange> exchanges = buffer.getExchanges();
+        if (exchanges.isEmpty()) {
+            return;
+        }
+        if (isFullCapture(context)) {
+            for (Exchange exchange : exchanges) {
+                attach(exchange.getMethod() + " " + exchange.getUri() + " -> " + exchange.getStatusCode(), exchange.format());
+            }
+        } else {
+            StringBuilder summary = new StringBuilder();
+            for (Exchange exchange : exchanges) {
+                summary.append(exchange.summary()).append('\n');
+            }
+            attach("Requests (" + exchanges.size() + ")", summary.toString());
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        AttachmentWriter.getShared(configuration.getWriterBatchSize()).flush();
+    }
+
+    private boolean isFullCapture(ExtensionContext context) {
+        String capture = configuration.getCapture();
+        if ("all".equalsIgnoreCase(capture)) {
+            return true;
+        }
+        if ("summary".equalsIgnoreCase(capture)) {
+            return false;
+        }
+        return context.getExecutionException().isPresent()
+                || AnnotationSupport.isAnnotated(context.getTestMethod(), CaptureExchanges.class)
+                || AnnotationSupport.isAnnotated(context.getTestClass(), CaptureExchanges.class);
+    }
+
+    private void attach(String name, String content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isEmpty()) {
+            return;
+        }
+        String source = lifecycle.prepareAttachment(name, "text/plain", "txt");
+        AttachmentWriter.getShared(configuration.getWriterBatchSize()).write(source, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
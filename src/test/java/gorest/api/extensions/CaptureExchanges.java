@@ -0,0 +1,17 @@
+package gorest.api.extensions;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Attaches the full requests and responses of the annotated test, or of every test of the
+ * annotated class, to the Allure report even when the test passes.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface CaptureExchanges {
+}
@@ -0,0 +1,77 @@
+package gorest.api.extensions;
+
+import gorest.api.client.HedgingStats;
+import gorest.api.config.Configuration;
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.deadline.DeadlineExceededException;
+import gorest.api.deadline.Deadlines;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Starts the deadline of each test class setup and test, see {@link Deadlines}, and fails the tests that ran
+ * past it. Load tests last as long as {@code load.duration_seconds} says, so they have no deadline.
+ * <p>
+ * A deadline ends with its test, or with the setup of its class when the first test starts. Register this
+ * extension after the ones sending requests once a test is over, such as the cleanup, so its after
+ * callbacks run first and those requests are not cut short by the deadline of a test that overran.
+ * <p>
+ * Once the whole run is over, logs how many GET requests were hedged, see {@link gorest.api.client.HedgingTransport}.
+ */
+public class DeadlineExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback, AfterAllCallback {
+
+    private static final Logger logger = LogManager.getLogger(DeadlineExtension.class);
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(DeadlineExtension.class);
+
+    private final Configuration configuration = ConfigurationLoader.getInstance().getConfiguration();
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (configuration.getHedging().isEnabled()) {
+            // The root store is closed at the end of the run
+            context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(HedgingStats.class,
+                    k -> (ExtensionContext.Store.CloseableResource) () -> logger.info("Hedging: {}", HedgingStats.getShared().summary()));
+        }
+        start(context);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getParent().map(TestContextExtension::getTestContext).ifPresent(Deadlines::endTest);
+        start(context);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TestContext testContext = TestContextExtension.getTestContext(context);
+        if (testContext == null) {
+            return;
+        }
+        long overrun = Deadlines.overrunMillis(testContext);
+        Deadlines.endTest(testContext);
+        if (overrun > 0) {
+            throw new DeadlineExceededException(context.getDisplayName() + " ran " + overrun + " ms past its "
+                    + configuration.getDeadlines().getTestMs() + " ms budget", null);
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        TestContext testContext = TestContextExtension.getTestContext(context);
+        if (testContext != null) {
+            Deadlines.endTest(testContext);
+        }
+    }
+
+    private void start(ExtensionContext context) {
+        TestContext testContext = TestContextExtension.getTestContext(context);
+        if (testContext != null && !context.getTags().contains("load")) {
+            Deadlines.startTest(testContext, configuration.getDeadlines().getTestMs());
+        }
+    }
+}
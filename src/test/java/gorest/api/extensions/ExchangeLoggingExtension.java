@@ -0,0 +1,47 @@
+package gorest.api.extensions;
+
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.config.LoggingConfiguration;
+import gorest.api.filters.Exchange;
+import gorest.api.filters.ExchangeBuffer;
+import gorest.api.filters.ExchangeLog;
+import gorest.api.filters.ExchangeCaptureFilter;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+
+/**
+ * Logs the requests buffered by {@link ExchangeCaptureFilter} once a test or test class has finished,
+ * in logging mode {@code failures}: always when it failed, otherwise only if it is picked by the
+ * configured sample rate.
+ */
+public class ExchangeLoggingExtension implements AfterEachCallback, AfterAllCallback {
+
+    private final LoggingConfiguration configuration = ConfigurationLoader.getInstance().getConfiguration().getLogging();
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        flush(context);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        flush(context);
+    }
+
+    private void flush(ExtensionContext context) {
+        TestContext testContext = TestContextExtension.getTestContext(context);
+        ExchangeBuffer buffer = testContext == null ? null : testContext.get(ExchangeBuffer.class);
+        if (buffer == null || !configuration.isFailuresOnly()) {
+            return;
+        }
+        List<Exchange> exchanges = buffer.getExchanges();
+        if (context.getExecutionException().isPresent()) {
+            ExchangeLog.logFailed(testContext.getDisplayName(), exchanges);
+        } else if (ExchangeCaptureFilter.isSampled(configuration)) {
+            ExchangeLog.log("Requests of sampled test " + testContext.getDisplayName(), exchanges);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package gorest.api.extensions;
+
+import gorest.api.config.AllureConfiguration;
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.config.LatencyBudget;
+import gorest.api.config.LatencyConfiguration;
+import gorest.api.filters.LatencyCollector;
+import gorest.api.filters.LatencyRecordingFilter;
+import gorest.api.load.StepStats;
+import gorest.api.reporting.AttachmentWriter;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the latencies recorded by {@link LatencyRecordingFilter} against the budgets configured in
+ * the {@code latency} section of {@code config.yaml}.
+ * <p>
+ * After each test its percentiles are attached to the Allure report and merged into its class's.
+ * Once the class is over, every budget is checked against the requests of the whole class:
+ * broken budgets fail the class or are logged as warnings, depending on their action.
+ */
+public class LatencyBudgetExtension implements AfterEachCallback, AfterAllCallback {
+
+    private static final Logger logger = LogManager.getLogger(LatencyBudgetExtension.class);
+
+    private final LatencyConfiguration configuration = ConfigurationLoader.getInstance().getConfiguration().getLatency();
+    private final AllureConfiguration allure = ConfigurationLoader.getInstance().getConfiguration().getAllure();
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TestContext testContext = TestContextExtension.getTestContext(context);
+        LatencyCollector collector = testContext == null ? null : testContext.get(LatencyCollector.class);
+        if (collector == null) {
+            return;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isPresent()) {
+            String source = lifecycle.prepareAttachment("Latency", "text/plain", "txt");
+            AttachmentWriter.getShared(allure.getWriterBatchSize()).write(source, collector.toTable().getBytes(StandardCharsets.UTF_8));
+        }
+        TestContext classContext = context.getParent().map(TestContextExtension::getTestContext).orElse(null);
+        if (classContext != null) {
+            classContext.getOrCreate(LatencyCollector.class, LatencyCollector::new).add(collector);
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        TestContext testContext = TestContextExtension.getTestContext(context);
+        LatencyCollector collector = testContext == null ? null : testContext.get(LatencyCollector.class);
+        if (collector == null || configuration.getBudgets().isEmpty()) {
+            return;
+        }
+        Map<String, StepStats> stats = collector.getStats();
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, StepStats> entry : stats.entrySet()) {
+            String method = entry.getKey().substring(0, entry.getKey().indexOf(' '));
+            String endpoint = entry.getKey().substring(entry.getKey().indexOf(' ') + 1);
+            for (LatencyBudget budget : configuration.getBudgets()) {
+                if (!budget.matches(method, endpoint)) {
+                    continue;
+                }
+                List<String> broken = check(budget, entry.getValue());
+                if (broken.isEmpty()) {
+                    continue;
+                }
+                String message = entry.getKey() + " " + String.join(", ", broken) + " (" + entry.getValue().getCount() + " requests)";
+                String action = budget.getAction() == null ? configuration.getAction() : budget.getAction();
+                if ("fail".equalsIgnoreCase(action)) {
+                    failures.add(message);
+                } else {
+                    logger.warn("Latency budget broken in {}: {}", testContext.getDisplayName(), message);
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError("Latency budgets broken in " + testContext.getDisplayName() + ":\n  "
+                    + String.join("\n  ", failures) + "\n" + collector.toTable());
+        }
+    }
+
+    private static List<String> check(LatencyBudget budget, StepStats stats) {
+        List<String> broken = new ArrayList<>();
+        checkLimit(broken, "p50", stats.getPercentileMillis(50), budget.getP50Ms());
+        checkLimit(broken, "p95", stats.getPercentileMillis(95), budget.getP95Ms());
+        checkLimit(broken, "p99", stats.getPercentileMillis(99), budget.getP99Ms());
+        checkLimit(broken, "max", stats.getMaxMillis(), budget.getMaxMs());
+        return broken;
+    }
+
+    private static void checkLimit(List<String> broken, String name, double measuredMillis, long limitMillis) {
+        if (limitMillis > 0 && measuredMillis > limitMillis) {
+            broken.add(String.format("%s %.1f ms > %d ms", name, measuredMillis, limitMillis));
+        }
+    }
+}
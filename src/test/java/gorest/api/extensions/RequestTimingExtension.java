@@ -0,0 +1,50 @@
+package gorest.api.extensions;
+
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.config.RequestTimingConfiguration;
+import gorest.api.metrics.RequestTiming;
+import gorest.api.metrics.RequestTimingLog;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Completes the last request of each test, and of each class's setup and teardown, once the test or class
+ * is over, and closes the {@link RequestTimingLog} once the whole test run is over, which writes its
+ * Prometheus file.
+ */
+public class RequestTimingExtension implements BeforeAllCallback, AfterEachCallback, AfterAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(RequestTimingExtension.class);
+
+    private final RequestTimingConfiguration configuration = ConfigurationLoader.getInstance().getConfiguration().getRequestTiming();
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!configuration.isEnabled()) {
+            return;
+        }
+        // The root store is closed at the end of the run, which closes the log
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(RequestTimingLog.class,
+                k -> (ExtensionContext.Store.CloseableResource) RequestTimingLog::closeShared);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        flush(context);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        flush(context);
+    }
+
+    private void flush(ExtensionContext context) {
+        TestContext testContext = TestContextExtension.getTestContext(context);
+        RequestTiming.Pending pending = testContext == null ? null : testContext.get(RequestTiming.Pending.class);
+        if (pending != null) {
+            RequestTimingLog.getShared(configuration).add(pending.flush());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package gorest.api.extensions;
+
+import gorest.api.config.CleanupConfiguration;
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.data.ResourceCleaner;
+import gorest.api.data.ResourceRegistry;
+import gorest.api.filters.ResourceTrackingFilter;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Deletes the users and posts recorded by {@link ResourceTrackingFilter} that are still around once
+ * a test class is over, in the background, and those created outside of tests once the run is over.
+ * <p>
+ * The resources of each test are merged into its class after the test; the end of the run waits for
+ * the pending cleanups.
+ */
+public class ResourceCleanupExtension implements BeforeAllCallback, AfterEachCallback, AfterAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ResourceCleanupExtension.class);
+
+    private final CleanupConfiguration configuration = ConfigurationLoader.getInstance().getConfiguration().getCleanup();
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!configuration.isEnabled()) {
+            return;
+        }
+        // The root store is closed at the end of the run
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(ResourceRegistry.class,
+                k -> (ExtensionContext.Store.CloseableResource) () -> {
+                    ResourceCleaner cleaner = ResourceCleaner.getShared();
+                    cleaner.cleanup("test run", ResourceRegistry.suite());
+                    cleaner.awaitPending();
+                });
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TestContext testContext = TestContextExtension.getTestContext(context);
+        ResourceRegistry registry = testContext == null ? null : testContext.get(ResourceRegistry.class);
+        TestContext classContext = context.getParent().map(TestContextExtension::getTestContext).orElse(null);
+        if (registry != null && classContext != null) {
+            classContext.getOrCreate(ResourceRegistry.class, ResourceRegistry::new).merge(registry);
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        TestContext testContext = TestContextExtension.getTestContext(context);
+        ResourceRegistry registry = testContext == null ? null : testContext.get(ResourceRegistry.class);
+        if (registry != null && configuration.isEnabled()) {
+            ResourceCleaner.getShared().cleanup(testContext.getDisplayName(), registry);
+        }
+    }
+}
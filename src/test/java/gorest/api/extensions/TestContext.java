@@ -0,0 +1,133 @@
+package gorest.api.extensions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The test class or test method the calling thread is working for.
+ * <p>
+ * {@link TestContextExtension} binds a context to the thread before a class or method runs, so
+ * RestAssured filters, which only see the request, can attach what they record to the test
+ * that made the request. Features keep their per-test state in the context's attributes.
+ */
+public final class TestContext {
+
+    private static final ThreadLocal<TestContext> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PROPAGATED = new ThreadLocal<>();
+
+    private final String className;
+    private final String methodName;
+    private final Map<Object, Object> attributes = new ConcurrentHashMap<>();
+
+    TestContext(String className, String methodName) {
+        this.className = className;
+        this.methodName = methodName;
+    }
+
+    /**
+     * Gets the context bound to the calling thread.
+     *
+     * @return the current context, or {@code null} outside of a test, e.g. in a load run
+     */
+    public static TestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Wraps a task so it runs in the context of the calling thread, wherever it runs: requests sent on
+     * another thread, e.g. by {@link gorest.api.client.AsyncRequests}, are then recorded for the test that
+     * made them. The attributes of a context are thread-safe.
+     *
+     * @param task the task
+     * @param <T>  the result type of the task
+     * @return the task bound to the current context
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        TestContext context = current();
+        return () -> {
+            TestContext previous = current();
+            Boolean wasPropagated = PROPAGATED.get();
+            bind(context);
+            PROPAGATED.set(Boolean.TRUE);
+            try {
+                return task.get();
+            } finally {
+                bind(previous);
+                if (wasPropagated == null) {
+                    PROPAGATED.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * Tells whether the calling thread runs a task for a context it got from another thread, see
+     * {@link #propagate(Supplier)}, so its requests may run concurrently with those of the test itself.
+     *
+     * @return {@code true} inside a propagated task
+     */
+    public static boolean isPropagated() {
+        return PROPAGATED.get() != null;
+    }
+
+    static void bind(TestContext context) {
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+    }
+
+    /**
+     * Gets the simple name of the test class.
+     *
+     * @return the test class name
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Gets the name of the test method.
+     *
+     * @return the test method name, or {@code null} for class-level setup and teardown
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Gets a readable name of the test, {@code Class.method} or {@code Class}.
+     *
+     * @return the test name
+     */
+    public String getDisplayName() {
+        return methodName == null ? className : className + "." + methodName;
+    }
+
+    /**
+     * Gets the attribute stored under the given key, creating it on first use.
+     *
+     * @param key     the attribute key, usually the attribute's class
+     * @param factory creates the attribute when it is missing
+     * @param <T>     the attribute type
+     * @return the attribute
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrCreate(Class<T> key, Supplier<T> factory) {
+        return (T) attributes.computeIfAbsent(key, k -> factory.get());
+    }
+
+    /**
+     * Gets the attribute stored under the given key.
+     *
+     * @param key the attribute key, usually the attribute's class
+     * @param <T> the attribute type
+     * @return the attribute, or {@code null} if it was never created
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Class<T> key) {
+        return (T) attributes.get(key);
+    }
+}
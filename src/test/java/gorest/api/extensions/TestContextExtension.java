@@ -0,0 +1,60 @@
+package gorest.api.extensions;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Optional;
+
+/**
+ * Binds a {@link TestContext} to the thread running each test class and test method.
+ * <p>
+ * Register it before any extension that reads the context, so its before callbacks run first
+ * and its after callbacks run last.
+ */
+public class TestContextExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback, AfterAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestContextExtension.class);
+    private static final String PREVIOUS = "previous";
+
+    /**
+     * Gets the context of a test class or method from its JUnit extension context.
+     *
+     * @param context the JUnit extension context
+     * @return the test context, or {@code null} if it was not created yet
+     */
+    public static TestContext getTestContext(ExtensionContext context) {
+        return context.getStore(NAMESPACE).get(context.getUniqueId(), TestContext.class);
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        TestContext classContext = new TestContext(context.getRequiredTestClass().getSimpleName(), null);
+        context.getStore(NAMESPACE).put(context.getUniqueId(), classContext);
+        TestContext.bind(classContext);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        TestContext methodContext = new TestContext(context.getRequiredTestClass().getSimpleName(),
+                context.getRequiredTestMethod().getName());
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.put(context.getUniqueId(), methodContext);
+        // Methods may run on another thread than their class, so remember what to restore
+        store.put(PREVIOUS, Optional.ofNullable(TestContext.current()));
+        TestContext.bind(methodContext);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Optional<?> previous = context.getStore(NAMESPACE).get(PREVIOUS, Optional.class);
+        TestContext.bind(previous == null ? null : (TestContext) previous.orElse(null));
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        TestContext.bind(null);
+    }
+}
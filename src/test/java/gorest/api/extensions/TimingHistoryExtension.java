@@ -0,0 +1,68 @@
+package gorest.api.extensions;
+
+import gorest.api.scheduling.TimingHistory;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Records how long each test class and test takes, and whether it failed, in the {@link TimingHistory},
+ * which is written to its file once the whole test run is over. Durations include the class's and
+ * tests' own setup and teardown.
+ * <p>
+ * Registered first, so the durations also cover the other extensions' callbacks.
+ */
+public class TimingHistoryExtension implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TimingHistoryExtension.class);
+    private static final String START = "start";
+    private static final String FAILED = "failed";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!TimingHistory.getShared().getConfiguration().isEnabled()) {
+            return;
+        }
+        // The root store is closed at the end of the run, which saves the history
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(TimingHistory.class,
+                k -> (ExtensionContext.Store.CloseableResource) TimingHistory.getShared()::save);
+        context.getStore(NAMESPACE).put(START, System.nanoTime());
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).get(START, Long.class);
+        if (start == null) {
+            return;
+        }
+        boolean failed = context.getExecutionException().isPresent();
+        if (failed) {
+            context.getParent().ifPresent(parent -> parent.getStore(NAMESPACE).put(FAILED, true));
+        }
+        TimingHistory.getShared().recordTest(
+                TimingHistory.testKey(context.getRequiredTestClass(), context.getRequiredTestMethod().getName()),
+                millisSince(start), failed);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).get(START, Long.class);
+        if (start == null) {
+            return;
+        }
+        boolean failed = context.getExecutionException().isPresent()
+                || Boolean.TRUE.equals(context.getStore(NAMESPACE).get(FAILED, Boolean.class));
+        TimingHistory.getShared().recordClass(context.getRequiredTestClass().getName(), millisSince(start), failed);
+    }
+
+    private static double millisSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,23 @@
+package gorest.api.extensions;
+
+import gorest.api.data.UserPool;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Starts the shared {@link UserPool} with the first test class, so its users are being created
+ * while the suite starts, and closes it once the whole test run is over.
+ */
+public class UserPoolExtension implements BeforeAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(UserPoolExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        // The root store is closed at the end of the run, which closes the pool
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(UserPool.class, k -> {
+            UserPool.getShared();
+            return (ExtensionContext.Store.CloseableResource) UserPool::closeShared;
+        });
+    }
+}
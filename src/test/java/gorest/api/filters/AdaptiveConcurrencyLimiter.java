@@ -0,0 +1,125 @@
+package gorest.api.filters;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the number of requests in flight, with a limit adjusted by AIMD (additive increase,
+ * multiplicative decrease): every successful request raises it by {@code 1 / limit}, i.e. by one for
+ * each limit's worth of successes, and a throttled or slow request halves it. Halvings are at least a
+ * second apart, so a burst of 429s answering requests sent together only counts once.
+ * <p>
+ * Waiting threads park on a {@link Condition}, which does not pin virtual threads.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final long DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final LongSupplier nanoClock;
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private int inFlight;
+    private long decreasedAt;
+
+    /**
+     * @param initialLimit the limit at the start
+     * @param minLimit     the lowest the limit goes
+     * @param maxLimit     the highest the limit grows
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+        this.decreasedAt = nanoClock.getAsLong() - DECREASE_INTERVAL_NANOS;
+    }
+
+    /**
+     * Takes a slot, waiting while the number of requests in flight is at the limit.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit) {
+                available.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives a slot back.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a request that went through quickly, raising the limit a little.
+     */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            int before = (int) limit;
+            limit = Math.min(maxLimit, limit + 1 / limit);
+            if ((int) limit > before) {
+                available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records a throttled or slow request, halving the limit unless it was halved less than a second ago.
+     *
+     * @return {@code true} if the limit was lowered
+     */
+    public boolean onCongestion() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            if (now - decreasedAt < DECREASE_INTERVAL_NANOS) {
+                return false;
+            }
+            decreasedAt = now;
+            limit = Math.max(minLimit, limit / 2);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the current limit.
+     *
+     * @return the maximum number of requests in flight
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package gorest.api.filters;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+
+    @DisplayName("Congestion halves the limit, at most once a second and not below the minimum")
+    @Test
+    public void testCongestionHalvesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(16, 3, 32, now::get);
+
+        assertTrue(limiter.onCongestion());
+        assertEquals(8, limiter.getLimit());
+        assertFalse(limiter.onCongestion());
+        assertEquals(8, limiter.getLimit());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(limiter.onCongestion());
+        assertEquals(4, limiter.getLimit());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.onCongestion();
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @DisplayName("Successes raise the limit by one for each limit's worth, up to the maximum")
+    @Test
+    public void testSuccessRaisesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 5, now::get);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(4, limiter.getLimit());
+        limiter.onSuccess();
+        assertEquals(5, limiter.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @DisplayName("The initial limit is kept within the minimum and maximum")
+    @Test
+    public void testInitialLimitIsClamped() {
+        assertEquals(2, new AdaptiveConcurrencyLimiter(0, 2, 8, now::get).getLimit());
+        assertEquals(8, new AdaptiveConcurrencyLimiter(50, 2, 8, now::get).getLimit());
+    }
+
+    @DisplayName("A slot is only granted below the limit")
+    @Test
+    public void testAcquireWaitsAtLimit() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, now::get);
+        limiter.acquire();
+
+        Thread waiting = new Thread(() -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiting.start();
+        waiting.join(200);
+        assertTrue(waiting.isAlive());
+
+        limiter.release();
+        waiting.join(5_000);
+        assertFalse(waiting.isAlive());
+    }
+}
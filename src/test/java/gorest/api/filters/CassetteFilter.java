@@ -0,0 +1,85 @@
+package gorest.api.filters;
+
+import gorest.api.cassette.Cassette;
+import gorest.api.cassette.CassetteEntry;
+import gorest.api.cassette.Fingerprint;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every exchange to the run's {@link Cassette}, or answers requests from it.
+ * <p>
+ * In replay mode, a request found in the cassette gets its recorded response without touching the
+ * network; one that is not there is sent live, and its response is not added to the cassette.
+ */
+public class CassetteFilter implements Filter {
+
+    private static final Logger logger = LogManager.getLogger(CassetteFilter.class);
+
+    private final Cassette cassette;
+
+    /**
+     * @param cassette the cassette to record to or replay from
+     */
+    public CassetteFilter(Cassette cassette) {
+        this.cassette = cassette;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        Fingerprint fingerprint = cassette.nextFingerprint(requestSpec.getMethod(), requestSpec.getURI(), body(requestSpec));
+        if (cassette.isReplaying()) {
+            CassetteEntry entry = cassette.find(fingerprint);
+            if (entry != null) {
+                return toResponse(entry);
+            }
+            logger.info("{} is not in the cassette, sending it live", fingerprint);
+            return ctx.next(requestSpec, responseSpec);
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        cassette.record(fingerprint, response);
+        return response;
+    }
+
+    private static byte[] body(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return null;
+        }
+        return body instanceof byte[] ? (byte[]) body : String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Response toResponse(CassetteEntry entry) {
+        List<Header> headers = new ArrayList<>(entry.getHeaders().size());
+        String contentType = null;
+        for (String line : entry.getHeaders()) {
+            int separator = line.indexOf(':');
+            Header header = new Header(line.substring(0, separator), line.substring(separator + 1).trim());
+            if ("Content-Type".equalsIgnoreCase(header.getName())) {
+                contentType = header.getValue();
+            }
+            headers.add(header);
+        }
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(entry.getStatus())
+                .setStatusLine(entry.getStatusLine())
+                .setHeaders(new Headers(headers))
+                .setBody(entry.getBody() == null ? "" : entry.getBody());
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+}
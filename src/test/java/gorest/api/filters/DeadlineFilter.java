@@ -0,0 +1,30 @@
+package gorest.api.filters;
+
+import gorest.api.config.DeadlineConfiguration;
+import gorest.api.deadline.Deadlines;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Starts the deadline of each request, see {@link Deadlines}: the configured request budget, or what is left
+ * of its test's budget if that is less.
+ */
+public class DeadlineFilter implements Filter {
+
+    private final long requestBudgetMillis;
+
+    /**
+     * @param configuration the deadline settings
+     */
+    public DeadlineFilter(DeadlineConfiguration configuration) {
+        this.requestBudgetMillis = configuration.getRequestMs();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        return Deadlines.call(requestBudgetMillis, () -> ctx.next(requestSpec, responseSpec));
+    }
+}
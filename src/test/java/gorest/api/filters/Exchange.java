@@ -0,0 +1,145 @@
+package gorest.api.filters;
+
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Snapshot of one request and its response.
+ * <p>
+ * Capturing only copies references to data RestAssured already holds in memory; the text
+ * is built in {@link #format()}, which is only called for exchanges that are actually reported.
+ */
+public class Exchange {
+
+    private final String method;
+    private final String uri;
+    private final List<Header> requestHeaders;
+    private final Object requestBody;
+    private final String statusLine;
+    private final int statusCode;
+    private final List<Header> responseHeaders;
+    private final byte[] responseBody;
+    private final String responseCharset;
+    private final long durationMillis;
+
+    Exchange(FilterableRequestSpecification request, Response response, long durationMillis) {
+        this.method = request.getMethod();
+        this.uri = request.getURI();
+        this.requestHeaders = request.getHeaders().asList();
+        this.requestBody = request.getBody();
+        this.statusLine = response.getStatusLine();
+        this.statusCode = response.getStatusCode();
+        this.responseHeaders = response.getHeaders().asList();
+        this.responseBody = response.asByteArray();
+        this.responseCharset = response.getContentType() == null || !response.getContentType().contains("charset=")
+                ? StandardCharsets.UTF_8.name()
+                : response.getContentType().substring(response.getContentType().indexOf("charset=") + 8).trim();
+        this.durationMillis = durationMillis;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Gets the request headers, with the bearer token masked.
+     *
+     * @return the request headers
+     */
+    public List<String> getRequestHeaders() {
+        List<String> headers = new ArrayList<>(requestHeaders.size());
+        for (Header header : requestHeaders) {
+            String value = "Authorization".equalsIgnoreCase(header.getName()) ? "Bearer ********" : header.getValue();
+            headers.add(header.getName() + ": " + value);
+        }
+        return headers;
+    }
+
+    public List<String> getResponseHeaders() {
+        List<String> headers = new ArrayList<>(responseHeaders.size());
+        for (Header header : responseHeaders) {
+            headers.add(header.getName() + ": " + header.getValue());
+        }
+        return headers;
+    }
+
+    public String getRequestBody() {
+        if (requestBody == null) {
+            return "";
+        }
+        return requestBody instanceof byte[] ? new String((byte[]) requestBody, StandardCharsets.UTF_8) : String.valueOf(requestBody);
+    }
+
+    public String getStatusLine() {
+        return statusLine;
+    }
+
+    public String getResponseBody() {
+        if (responseBody == null) {
+            return "";
+        }
+        try {
+            return new String(responseBody, Charset.forName(responseCharset));
+        } catch (IllegalArgumentException e) {
+            return new String(responseBody, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Gets the size of the response body.
+     *
+     * @return the number of bytes of the response body
+     */
+    public int getResponseSize() {
+        return responseBody == null ? 0 : responseBody.length;
+    }
+
+    /**
+     * Builds the one-line summary of the exchange, e.g. {@code GET https://... -> 200 (35 ms)}.
+     *
+     * @return the summary
+     */
+    public String summary() {
+        return method + " " + uri + " -> " + statusCode + " (" + durationMillis + " ms)";
+    }
+
+    /**
+     * Builds the full text of the exchange: request line, headers and bodies.
+     *
+     * @return the formatted exchange
+     */
+    public String format() {
+        StringBuilder text = new StringBuilder(256 + getResponseSize());
+        text.append("Request method:\t").append(method).append('\n');
+        text.append("Request URI:\t").append(uri).append('\n');
+        text.append("Headers:\n");
+        for (String header : getRequestHeaders()) {
+            text.append('\t').append(header).append('\n');
+        }
+        text.append("Body:\n").append(getRequestBody()).append("\n\n");
+        text.append(statusLine).append(" (").append(durationMillis).append(" ms)\n");
+        for (String header : getResponseHeaders()) {
+            text.append(header).append('\n');
+        }
+        text.append('\n').append(getResponseBody()).append('\n');
+        return text.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package gorest.api.filters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The exchanges made by one test, kept in memory until the test's outcome is known.
+ */
+public class ExchangeBuffer {
+
+    private final List<Exchange> exchanges = new ArrayList<>();
+
+    /**
+     * Adds an exchange to the buffer.
+     *
+     * @param exchange the exchange
+     */
+    public synchronized void add(Exchange exchange) {
+        exchanges.add(exchange);
+    }
+
+    /**
+     * Gets the buffered exchanges, oldest first.
+     *
+     * @return a copy of the buffered exchanges
+     */
+    public synchronized List<Exchange> getExchanges() {
+        return new ArrayList<>(exchanges);
+    }
+}
@@ -0,0 +1,59 @@
+package gorest.api.filters;
+
+import gorest.api.config.LoggingConfiguration;
+import gorest.api.extensions.TestContext;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures every request and response.
+ * <p>
+ * Exchanges made by a test are buffered in the current {@link TestContext}; once the test is over,
+ * {@link gorest.api.extensions.ExchangeLoggingExtension} logs them if the test failed and
+ * {@link gorest.api.extensions.AllureCaptureExtension} attaches them to the Allure report.
+ * Exchanges made outside of a test, e.g. by a load run, are only logged if picked by the configured
+ * sample rate. In logging mode {@code all} every exchange is also logged as soon as it completes.
+ */
+public class ExchangeCaptureFilter implements Filter {
+
+    private final LoggingConfiguration logging;
+
+    public ExchangeCaptureFilter(LoggingConfiguration logging) {
+        this.logging = logging;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        Exchange exchange = new Exchange(requestSpec, response, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        TestContext testContext = TestContext.current();
+        if (testContext != null) {
+            testContext.getOrCreate(ExchangeBuffer.class, ExchangeBuffer::new).add(exchange);
+        }
+        if (logging.isEnabled() && !logging.isFailuresOnly()) {
+            ExchangeLog.log(exchange.summary(), List.of(exchange));
+        } else if (testContext == null && logging.isEnabled() && isSampled(logging)) {
+            ExchangeLog.log("Sampled request", List.of(exchange));
+        }
+        return response;
+    }
+
+    /**
+     * Draws whether something should be logged given the configured sample rate.
+     *
+     * @param logging the logging settings
+     * @return {@code true} if it should be logged
+     */
+    public static boolean isSampled(LoggingConfiguration logging) {
+        return logging.getSampleRate() > 0 && ThreadLocalRandom.current().nextDouble() < logging.getSampleRate();
+    }
+}
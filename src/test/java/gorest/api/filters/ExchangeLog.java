@@ -0,0 +1,82 @@
+package gorest.api.filters;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.AsynchronouslyFormattable;
+import org.apache.logging.log4j.message.Message;
+
+import java.util.List;
+
+/**
+ * Writes exchanges to the {@code gorest.api.http} logger, which log4j2.xml routes to an
+ * asynchronous appender. The text of an exchange is built on the appender's thread, not on
+ * the test thread.
+ */
+public final class ExchangeLog {
+
+    private static final Logger logger = LogManager.getLogger("gorest.api.http");
+
+    private ExchangeLog() {
+    }
+
+    /**
+     * Logs the exchanges of a failed test, at WARN level.
+     *
+     * @param testName  the name of the failed test
+     * @param exchanges the exchanges made by the test
+     */
+    public static void logFailed(String testName, List<Exchange> exchanges) {
+        if (!exchanges.isEmpty()) {
+            logger.log(Level.WARN, new ExchangeMessage("Requests of failed test " + testName, exchanges));
+        }
+    }
+
+    /**
+     * Logs exchanges at INFO level.
+     *
+     * @param title     the line logged before the exchanges
+     * @param exchanges the exchanges
+     */
+    public static void log(String title, List<Exchange> exchanges) {
+        if (!exchanges.isEmpty() && logger.isInfoEnabled()) {
+            logger.log(Level.INFO, new ExchangeMessage(title, exchanges));
+        }
+    }
+
+    @AsynchronouslyFormattable
+    private static final class ExchangeMessage implements Message {
+
+        private final String title;
+        private final List<Exchange> exchanges;
+
+        private ExchangeMessage(String title, List<Exchange> exchanges) {
+            this.title = title;
+            this.exchanges = exchanges;
+        }
+
+        @Override
+        public String getFormattedMessage() {
+            StringBuilder text = new StringBuilder(title).append('\n');
+            for (Exchange exchange : exchanges) {
+                text.append(exchange.format()).append('\n');
+            }
+            return text.toString();
+        }
+
+        @Override
+        public String getFormat() {
+            return title;
+        }
+
+        @Override
+        public Object[] getParameters() {
+            return null;
+        }
+
+        @Override
+        public Throwable getThrowable() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package gorest.api.filters;
+
+import gorest.api.load.StepStats;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency histograms of the requests made by one test or test class, per method and endpoint template.
+ * <p>
+ * Methods of a class may run concurrently, so every access is synchronized.
+ */
+public class LatencyCollector {
+
+    private final Map<String, StepStats> stats = new TreeMap<>();
+
+    /**
+     * Records the latency of one request.
+     *
+     * @param method       the HTTP method
+     * @param endpoint     the endpoint template, e.g. {@code /public/v2/users/{id}}
+     * @param latencyNanos the time the request took
+     */
+    public synchronized void record(String method, String endpoint, long latencyNanos) {
+        stats.computeIfAbsent(key(method, endpoint), k -> new StepStats()).record(latencyNanos, true);
+    }
+
+    /**
+     * Adds the latencies recorded by another collector to this one.
+     *
+     * @param other the collector to merge in
+     */
+    public void add(LatencyCollector other) {
+        Map<String, StepStats> otherStats = other.getStats();
+        synchronized (this) {
+            for (Map.Entry<String, StepStats> entry : otherStats.entrySet()) {
+                stats.computeIfAbsent(entry.getKey(), k -> new StepStats()).add(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Gets a copy of the histograms, keyed by {@code METHOD endpoint}, e.g. {@code GET /public/v2/users}.
+     *
+     * @return the histograms
+     */
+    public synchronized Map<String, StepStats> getStats() {
+        Map<String, StepStats> copy = new TreeMap<>();
+        for (Map.Entry<String, StepStats> entry : stats.entrySet()) {
+            StepStats stepStats = new StepStats();
+            stepStats.add(entry.getValue());
+            copy.put(entry.getKey(), stepStats);
+        }
+        return copy;
+    }
+
+    /**
+     * Builds a text table with the percentiles of every endpoint.
+     *
+     * @return the percentiles table
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-34s %6s %9s %9s %9s %9s%n", "endpoint", "count", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (Map.Entry<String, StepStats> entry : getStats().entrySet()) {
+            StepStats stepStats = entry.getValue();
+            table.append(String.format("%-34s %6d %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), stepStats.getCount(),
+                    stepStats.getPercentileMillis(50), stepStats.getPercentileMillis(95),
+                    stepStats.getPercentileMillis(99), stepStats.getMaxMillis()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Builds the key of a method and endpoint template.
+     *
+     * @param method   the HTTP method
+     * @param endpoint the endpoint template
+     * @return the key, e.g. {@code GET /public/v2/users}
+     */
+    public static String key(String method, String endpoint) {
+        return method.toUpperCase() + " " + endpoint;
+    }
+}
@@ -0,0 +1,60 @@
+package gorest.api.filters;
+
+import gorest.api.extensions.TestContext;
+import gorest.api.utils.EndpointTemplates;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Times every request made by a test and records it in the {@link LatencyCollector} of the
+ * current {@link TestContext}, under its method and endpoint template.
+ * {@link gorest.api.extensions.LatencyBudgetExtension} checks the latencies against the configured budgets.
+ * Requests made outside of a test, e.g. by a load run, are not recorded, unless a run-wide collector is
+ * set with {@link #recordRunInto(LatencyCollector)}. The time spent waiting in the {@link RateLimitGovernor}
+ * is left out, so throttling does not count against the budgets.
+ */
+public class LatencyRecordingFilter implements Filter {
+
+    private static volatile LatencyCollector runCollector;
+
+    /**
+     * Also records every request of the run, in or outside of tests, in the given collector.
+     *
+     * @param collector the run-wide collector, or {@code null} to stop
+     */
+    public static void recordRunInto(LatencyCollector collector) {
+        runCollector = collector;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long start = System.nanoTime();
+        long waited = RateLimitGovernor.waitedNanos();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long latencyNanos = System.nanoTime() - start - (RateLimitGovernor.waitedNanos() - waited);
+        record(requestSpec.getMethod(), EndpointTemplates.of(requestSpec.getURI()), latencyNanos);
+        return response;
+    }
+
+    /**
+     * Records the latency of a request in the collectors of the run and of the current test, as the filter
+     * does. Used by the transports that do not go through RestAssured.
+     *
+     * @param method       the HTTP method
+     * @param endpoint     the endpoint template, see {@link EndpointTemplates}
+     * @param latencyNanos the latency of the request, in nanoseconds
+     */
+    public static void record(String method, String endpoint, long latencyNanos) {
+        LatencyCollector run = runCollector;
+        if (run != null) {
+            run.record(method, endpoint, latencyNanos);
+        }
+        TestContext testContext = TestContext.current();
+        if (testContext != null) {
+            testContext.getOrCreate(LatencyCollector.class, LatencyCollector::new).record(method, endpoint, latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package gorest.api.filters;
+
+import gorest.api.config.RateLimitConfiguration;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keeps the whole run under the server's rate limit, whatever the number of test threads.
+ * <p>
+ * Every request takes a token from a shared {@link TokenBucket} and a slot from a shared
+ * {@link AdaptiveConcurrencyLimiter}. The {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset}
+ * headers of each response lower the bucket's rate to what is left of the server's window, and pause it
+ * until the window resets once nothing is left. A 429 Too Many Requests or a response slower than the
+ * latency target halves the concurrency limit; other responses raise it a little.
+ * <p>
+ * A 429 is sent again, up to {@code max_retries} times, after the wait asked for by its
+ * {@code Retry-After} header, which pauses every thread, or else after a random wait of up to
+ * {@code base_backoff_ms} doubled for each retry. RestAssured cannot run the rest of the filter chain
+ * twice, so retries are sent without filters: the governor must be the innermost filter for the other
+ * ones to see the response of the last attempt. Transports that do not go through RestAssured send their
+ * requests through {@link #execute}.
+ * <p>
+ * The time a thread spends waiting for a slot, a token or a retry is added up in {@link #waitedNanos()},
+ * so that latency recording can leave it out: throttling is not the latency of the endpoint.
+ */
+public class RateLimitGovernor implements Filter {
+
+    private static final Logger logger = LogManager.getLogger(RateLimitGovernor.class);
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final ThreadLocal<long[]> WAITED_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private static RateLimitGovernor shared;
+
+    private final RateLimitConfiguration configuration;
+    private final TokenBucket bucket;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    /**
+     * @param configuration the rate limiting settings
+     */
+    public RateLimitGovernor(RateLimitConfiguration configuration) {
+        this.configuration = configuration;
+        this.bucket = new TokenBucket(configuration.getRequestsPerSecond(), configuration.getBurst());
+        this.limiter = new AdaptiveConcurrencyLimiter(configuration.getInitialConcurrency(),
+                configuration.getMinConcurrency(), configuration.getMaxConcurrency());
+    }
+
+    /**
+     * Gets the governor shared by the whole test run, creating it on first use.
+     *
+     * @param configuration the rate limiting settings, only used on the first call
+     * @return the shared governor
+     */
+    public static synchronized RateLimitGovernor getShared(RateLimitConfiguration configuration) {
+        if (shared == null) {
+            shared = new RateLimitGovernor(configuration);
+        }
+        return shared;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        return execute(requestSpec.getMethod() + " " + requestSpec.getURI(), () -> ctx.next(requestSpec, responseSpec),
+                () -> resend(requestSpec), Response::getStatusCode, Response::getHeader);
+    }
+
+    /**
+     * Sends a request under the governor, retrying it while it is throttled. Used by the filter and by
+     * the transports that do not go through RestAssured.
+     *
+     * @param request    the method and URI of the request, for the logs
+     * @param first      sends the request
+     * @param retry      sends the request again after a 429
+     * @param statusCode gets the status code of a response
+     * @param header     gets a header of a response, or {@code null} if missing
+     * @param <R>        the type of the responses
+     * @return the response of the last attempt
+     */
+    public <R> R execute(String request, Supplier<R> first, Supplier<R> retry,
+                         ToIntFunction<R> statusCode, BiFunction<R, String, String> header) {
+        R response = send(request, first, statusCode, header);
+        for (int attempt = 1; statusCode.applyAsInt(response) == TOO_MANY_REQUESTS && attempt <= configuration.getMaxRetries(); attempt++) {
+            long waitMillis = backoffMillis(attempt, header.apply(response, "Retry-After"));
+            logger.debug("{} throttled, retry {} in {} ms", request, attempt, waitMillis);
+            retries.increment();
+            sleep(waitMillis, request);
+            response = send(request, retry, statusCode, header);
+        }
+        return response;
+    }
+
+    /**
+     * Gets the total time the calling thread has spent waiting in any governor, for a slot, a token or
+     * before a retry. Only differences between two calls are meaningful.
+     *
+     * @return the time waited so far, in nanoseconds
+     */
+    public static long waitedNanos() {
+        return WAITED_NANOS.get()[0];
+    }
+
+    /**
+     * Gets the number of 429 responses received.
+     *
+     * @return the number of throttled requests
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Gets the number of requests sent again after a 429.
+     *
+     * @return the number of retries
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * Gets the current concurrency limit.
+     *
+     * @return the maximum number of requests in flight
+     */
+    public int getConcurrencyLimit() {
+        return limiter.getLimit();
+    }
+
+    /**
+     * Gets the current rate of the token bucket.
+     *
+     * @return the number of requests per second
+     */
+    public double getRate() {
+        return bucket.getRate();
+    }
+
+    private <R> R send(String request, Supplier<R> sender, ToIntFunction<R> statusCode, BiFunction<R, String, String> header) {
+        long waitStart = System.nanoTime();
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            throw interrupted(request, e);
+        }
+        try {
+            bucket.acquire();
+            long start = System.nanoTime();
+            WAITED_NANOS.get()[0] += start - waitStart;
+            R response = sender.get();
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            int status = statusCode.applyAsInt(response);
+            observe(status, name -> header.apply(response, name));
+            if (status == TOO_MANY_REQUESTS || latencyMillis > configuration.getLatencyTargetMs()) {
+                if (limiter.onCongestion()) {
+                    logger.debug("Concurrency limit lowered to {} after {} ({}, {} ms)", limiter.getLimit(),
+                            request, status, latencyMillis);
+                }
+            } else {
+                limiter.onSuccess();
+            }
+            return response;
+        } catch (InterruptedException e) {
+            throw interrupted(request, e);
+        } finally {
+            limiter.release();
+        }
+    }
+
+    /**
+     * Applies the rate-limit headers of a response to the shared bucket.
+     */
+    private void observe(int status, Function<String, String> header) {
+        if (status == TOO_MANY_REQUESTS) {
+            throttled.increment();
+        }
+        long remaining = longHeader(header.apply("X-RateLimit-Remaining"));
+        long resetSeconds = Math.max(1, longHeader(header.apply("X-RateLimit-Reset")));
+        if (remaining < 0) {
+            return;
+        }
+        if (remaining == 0) {
+            bucket.pause(TimeUnit.SECONDS.toMillis(resetSeconds));
+        } else {
+            bucket.setRate((double) remaining / resetSeconds);
+        }
+    }
+
+    private long backoffMillis(int retry, String retryAfter) {
+        long retryAfterMillis = retryAfterMillis(retryAfter);
+        if (retryAfterMillis >= 0) {
+            long waitMillis = Math.min(configuration.getMaxBackoffMs(), retryAfterMillis);
+            // Every thread waits for the window the server asked for, not only the throttled one
+            bucket.pause(waitMillis);
+            // Plus a little jitter, so the waiting threads do not all retry at the same instant
+            return waitMillis + ThreadLocalRandom.current().nextLong(configuration.getBaseBackoffMs() + 1L);
+        }
+        long ceiling = Math.min(configuration.getMaxBackoffMs(), (long) configuration.getBaseBackoffMs() << Math.min(retry - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Parses a {@code Retry-After} header, in seconds or as an HTTP date.
+     *
+     * @return the wait in milliseconds, or -1 if the header is missing or invalid
+     */
+    static long retryAfterMillis(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return -1;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+            } catch (DateTimeParseException invalid) {
+                return -1;
+            }
+        }
+    }
+
+    private static long longHeader(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Sends the request again, as it was sent by the filter chain.
+     */
+    private static Response resend(FilterableRequestSpecification requestSpec) {
+        RequestSpecification retry = RestAssured.given()
+                .config(requestSpec.getConfig())
+                .urlEncodingEnabled(false)
+                .noFilters()
+                .headers(requestSpec.getHeaders());
+        Object body = requestSpec.getBody();
+        if (body instanceof byte[]) {
+            retry.body((byte[]) body);
+        } else if (body != null) {
+            retry.body(String.valueOf(body));
+        }
+        return retry.request(requestSpec.getMethod(), requestSpec.getURI());
+    }
+
+    private static void sleep(long millis, String request) {
+        long start = System.nanoTime();
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            throw interrupted(request, e);
+        } finally {
+            WAITED_NANOS.get()[0] += System.nanoTime() - start;
+        }
+    }
+
+    private static IllegalStateException interrupted(String request, InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return new IllegalStateException("Interrupted while waiting to send " + request, e);
+    }
+}
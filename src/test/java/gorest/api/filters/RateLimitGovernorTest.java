@@ -0,0 +1,47 @@
+package gorest.api.filters;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RateLimitGovernorTest {
+
+    @DisplayName("Retry-After in seconds")
+    @Test
+    public void testRetryAfterSeconds() {
+        assertEquals(5_000, RateLimitGovernor.retryAfterMillis("5"));
+        assertEquals(5_000, RateLimitGovernor.retryAfterMillis(" 5 "));
+        assertEquals(0, RateLimitGovernor.retryAfterMillis("0"));
+        assertEquals(0, RateLimitGovernor.retryAfterMillis("-3"));
+    }
+
+    @DisplayName("Retry-After as an HTTP date")
+    @Test
+    public void testRetryAfterHttpDate() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        String inTenSeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(now.plusSeconds(10));
+        String tenSecondsAgo = DateTimeFormatter.RFC_1123_DATE_TIME.format(now.minusSeconds(10));
+
+        // The date has a precision of one second
+        assertThat(RateLimitGovernor.retryAfterMillis(inTenSeconds), allOf(greaterThan(8_000L), lessThanOrEqualTo(10_000L)));
+        assertEquals(0, RateLimitGovernor.retryAfterMillis(tenSecondsAgo));
+    }
+
+    @DisplayName("A missing or invalid Retry-After is ignored")
+    @Test
+    public void testRetryAfterInvalid() {
+        assertEquals(-1, RateLimitGovernor.retryAfterMillis(null));
+        assertEquals(-1, RateLimitGovernor.retryAfterMillis(" "));
+        assertEquals(-1, RateLimitGovernor.retryAfterMillis("soon"));
+        assertEquals(-1, RateLimitGovernor.retryAfterMillis("Mon, 32 Foo 2026 25:00:00 GMT"));
+    }
+}
@@ -0,0 +1,92 @@
+package gorest.api.filters;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import gorest.api.data.ResourceRegistry;
+import gorest.api.extensions.TestContext;
+import gorest.api.utils.EndpointTemplates;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.function.Supplier;
+
+/**
+ * Records the users and posts created with POST in the {@link ResourceRegistry} of the current
+ * {@link TestContext}, or of the suite outside of tests, and forgets them when they are deleted,
+ * so {@link gorest.api.extensions.ResourceCleanupExtension} can delete whatever is left.
+ */
+public class ResourceTrackingFilter implements Filter {
+
+    private static final String USERS = "/public/v2/users";
+    private static final String POSTS = "/public/v2/posts";
+    private static final String ID = "/{id}";
+    private static final ObjectReader READER = new ObjectMapper().reader();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        track(requestSpec.getMethod(), requestSpec.getURI(), response.getStatusCode(), response::asByteArray);
+        return response;
+    }
+
+    /**
+     * Records a created resource or forgets a deleted one, as the filter does. Used by the transports
+     * that do not go through RestAssured.
+     *
+     * @param method the HTTP method
+     * @param uri    the request URI
+     * @param status the status code of the response
+     * @param body   gets the body of the response, only called for a created resource
+     */
+    public static void track(String method, String uri, int status, Supplier<byte[]> body) {
+        boolean created = "POST".equalsIgnoreCase(method) && status == 201;
+        boolean deleted = "DELETE".equalsIgnoreCase(method) && (status == 204 || status == 404);
+        if (!created && !deleted) {
+            return;
+        }
+
+        String endpoint = EndpointTemplates.of(uri);
+        ResourceRegistry registry = registry();
+        if (created && (USERS.equals(endpoint) || POSTS.equals(endpoint))) {
+            JsonNode id = readId(body.get());
+            if (id != null && id.canConvertToInt()) {
+                if (USERS.equals(endpoint)) {
+                    registry.addUser(id.intValue());
+                } else {
+                    registry.addPost(id.intValue());
+                }
+            }
+        } else if (deleted && (endpoint.equals(USERS + ID) || endpoint.equals(POSTS + ID))) {
+            String[] segments = URI.create(uri).getPath().split("/");
+            int id = Integer.parseInt(segments[segments.length - 1]);
+            if (endpoint.startsWith(USERS)) {
+                registry.removeUser(id);
+            } else {
+                registry.removePost(id);
+            }
+        }
+    }
+
+    private static JsonNode readId(byte[] body) {
+        try {
+            // Plain Jackson: much cheaper than JsonPath for a single field
+            JsonNode root = READER.readTree(body);
+            return root == null ? null : root.get("id");
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static ResourceRegistry registry() {
+        TestContext testContext = TestContext.current();
+        return testContext == null
+                ? ResourceRegistry.suite()
+                : testContext.getOrCreate(ResourceRegistry.class, ResourceRegistry::new);
+    }
+}
@@ -0,0 +1,86 @@
+package gorest.api.filters;
+
+import gorest.api.cache.CachedResponse;
+import gorest.api.cache.ResponseCache;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers GET requests from the run's {@link ResponseCache}, and evicts the cached responses of the
+ * collection each write touches.
+ * <p>
+ * Responses answered from the cache carry an {@code X-Response-Cache} header, {@code hit} or
+ * {@code revalidated}, so they can be told apart in the captured exchanges.
+ */
+public class ResponseCacheFilter implements Filter {
+
+    /** The header added to the responses answered from the cache. */
+    public static final String CACHE_HEADER = "X-Response-Cache";
+
+    private final ResponseCache cache;
+
+    /**
+     * @param cache the cache to answer from
+     */
+    public ResponseCacheFilter(ResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String uri = requestSpec.getURI();
+        if (!ResponseCache.isCacheable(method)) {
+            cache.invalidate(method, uri);
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } finally {
+                cache.invalidate(method, uri);
+            }
+        }
+
+        ResponseCache.Lookup lookup = cache.lookup(uri, requestSpec.getHeaders().getValue("Authorization"));
+        if (lookup.isFresh()) {
+            return toResponse(lookup.getResponse(), "hit");
+        }
+        String eTag = lookup.getETag();
+        if (eTag != null) {
+            requestSpec.header("If-None-Match", eTag);
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() == 304 && eTag != null) {
+            return toResponse(cache.revalidated(lookup), "revalidated");
+        }
+        List<Map.Entry<String, String>> headers = new ArrayList<>();
+        response.getHeaders().forEach(header -> headers.add(new AbstractMap.SimpleImmutableEntry<>(header.getName(), header.getValue())));
+        cache.store(lookup, lookup.newResponse(response.getStatusCode(), headers, response.asByteArray()));
+        return response;
+    }
+
+    private static Response toResponse(CachedResponse cached, String outcome) {
+        List<Header> headers = new ArrayList<>(cached.getHeaders().size() + 1);
+        cached.getHeaders().forEach(header -> headers.add(new Header(header.getKey(), header.getValue())));
+        headers.add(new Header(CACHE_HEADER, outcome));
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(cached.getStatusCode())
+                .setStatusLine("HTTP/1.1 " + cached.getStatusCode() + " OK")
+                .setHeaders(new Headers(headers))
+                .setBody(cached.getBody());
+        String contentType = cached.getHeader("Content-Type");
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,74 @@
+package gorest.api.filters;
+
+import gorest.api.config.SchemaValidationConfiguration;
+import gorest.api.schema.JsonSchema;
+import gorest.api.schema.SchemaContracts;
+import gorest.api.schema.SchemaViolationException;
+import gorest.api.schema.StreamingSchemaValidator;
+import gorest.api.utils.EndpointTemplates;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+
+/**
+ * Validates every response covered by a {@link SchemaContracts contract} against its JSON Schema, with the
+ * {@link StreamingSchemaValidator} over the body RestAssured has already read.
+ * <p>
+ * A response breaking its contract fails the request with a {@link SchemaViolationException}, or is only
+ * logged when the action is {@code warn}. Responses without a contract, e.g. {@code 204 No Content}, are
+ * not checked.
+ */
+public class SchemaValidationFilter implements Filter {
+
+    private static final Logger logger = LogManager.getLogger(SchemaValidationFilter.class);
+
+    private final SchemaContracts contracts;
+    private final boolean failOnViolation;
+
+    /**
+     * @param configuration the schema validation settings
+     */
+    public SchemaValidationFilter(SchemaValidationConfiguration configuration) {
+        this.contracts = SchemaContracts.getShared(configuration);
+        this.failOnViolation = !"warn".equalsIgnoreCase(configuration.getAction());
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        validate(requestSpec.getMethod(), requestSpec.getURI(), response.getStatusCode(), response.asByteArray());
+        return response;
+    }
+
+    /**
+     * Validates a response against its contract, as the filter does. Used by the transports that do not
+     * go through RestAssured.
+     *
+     * @param method the HTTP method
+     * @param uri    the request URI
+     * @param status the status code of the response
+     * @param body   the body of the response
+     * @throws SchemaViolationException if the response breaks its contract and the action is {@code fail}
+     */
+    public void validate(String method, String uri, int status, byte[] body) {
+        String endpoint = EndpointTemplates.of(uri);
+        JsonSchema schema = contracts.find(method, endpoint, status);
+        if (schema == null) {
+            return;
+        }
+        List<String> violations = StreamingSchemaValidator.validate(schema, body);
+        if (!violations.isEmpty()) {
+            SchemaViolationException violation = new SchemaViolationException(method + " " + endpoint + " " + status, violations);
+            if (failOnViolation) {
+                throw violation;
+            }
+            logger.warn(violation.getMessage());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package gorest.api.filters;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket shared by every thread sending requests: tokens are added at the current rate, up to
+ * the burst size, and each request takes one.
+ * <p>
+ * A thread that finds the bucket empty reserves the next token and sleeps, outside of the lock, until
+ * it is added; the bucket can also be paused, e.g. until the server's rate-limit window resets.
+ */
+public class TokenBucket {
+
+    // Keeps a rate computed from the server's headers from stalling the bucket
+    private static final double MIN_RATE = 0.1;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongSupplier nanoClock;
+    private final double maxRate;
+    private final double capacity;
+    private double rate;
+    private double tokens;
+    private long refilledAt;
+    private long pausedUntil;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param maxRate the maximum number of tokens added per second
+     * @param burst   the maximum number of tokens held
+     */
+    public TokenBucket(double maxRate, int burst) {
+        this(maxRate, burst, System::nanoTime);
+    }
+
+    TokenBucket(double maxRate, int burst, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.maxRate = Math.max(MIN_RATE, maxRate);
+        this.capacity = Math.max(1, burst);
+        this.rate = this.maxRate;
+        this.tokens = capacity;
+        this.refilledAt = nanoClock.getAsLong();
+        this.pausedUntil = refilledAt;
+    }
+
+    /**
+     * Takes a token, waiting until one is available and the bucket is not paused.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes a token without waiting for it.
+     *
+     * @return how long the caller must wait before using the token, in nanoseconds, 0 or less if not at all
+     */
+    long reserve() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            refill(now);
+            // A negative balance is a reservation, paid back by the next refills
+            tokens -= 1;
+            long waitNanos = tokens >= 0 ? 0 : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+            return Math.max(waitNanos, pausedUntil - now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes the rate tokens are added at, capped by the maximum rate.
+     *
+     * @param rate the number of tokens per second
+     */
+    public void setRate(double rate) {
+        lock.lock();
+        try {
+            refill(nanoClock.getAsLong());
+            this.rate = Math.max(MIN_RATE, Math.min(maxRate, rate));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Keeps every thread from taking a token for a while. Overlapping pauses end with the last one.
+     *
+     * @param millis how long to pause, in milliseconds
+     */
+    public void pause(long millis) {
+        lock.lock();
+        try {
+            long until = nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(millis);
+            if (until - pausedUntil > 0) {
+                pausedUntil = until;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the rate tokens are currently added at.
+     *
+     * @return the number of tokens per second
+     */
+    public double getRate() {
+        lock.lock();
+        try {
+            return rate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * rate / TimeUnit.SECONDS.toNanos(1));
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,81 @@
+package gorest.api.filters;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(1_000 * SECOND);
+
+    @DisplayName("A full bucket serves its burst without waiting")
+    @Test
+    public void testBurstIsFree() {
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(bucket.reserve() <= 0);
+        }
+    }
+
+    @DisplayName("An empty bucket reserves the next tokens one interval apart")
+    @Test
+    public void testEmptyBucketReservesAhead() {
+        TokenBucket bucket = new TokenBucket(10, 1, now::get);
+        bucket.reserve();
+
+        assertEquals(SECOND / 10, bucket.reserve());
+        assertEquals(2 * SECOND / 10, bucket.reserve());
+    }
+
+    @DisplayName("Tokens are refilled at the rate, up to the burst")
+    @Test
+    public void testRefillIsCappedByBurst() {
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        now.addAndGet(SECOND / 10);
+        assertTrue(bucket.reserve() <= 0);
+        assertEquals(SECOND / 10, bucket.reserve());
+
+        now.addAndGet(10 * SECOND);
+        assertTrue(bucket.reserve() <= 0);
+        assertTrue(bucket.reserve() <= 0);
+        assertEquals(SECOND / 10, bucket.reserve());
+    }
+
+    @DisplayName("A lower rate spaces the reservations further apart, a higher one is capped")
+    @Test
+    public void testSetRate() {
+        TokenBucket bucket = new TokenBucket(10, 1, now::get);
+        bucket.reserve();
+
+        bucket.setRate(2);
+        assertEquals(2, bucket.getRate());
+        assertEquals(SECOND / 2, bucket.reserve());
+
+        bucket.setRate(100);
+        assertEquals(10, bucket.getRate());
+    }
+
+    @DisplayName("A pause holds tokens back until it ends, and overlapping pauses end with the last one")
+    @Test
+    public void testPause() {
+        TokenBucket bucket = new TokenBucket(10, 5, now::get);
+
+        bucket.pause(2_000);
+        bucket.pause(500);
+        assertEquals(2 * SECOND, bucket.reserve());
+
+        now.addAndGet(2 * SECOND);
+        assertTrue(bucket.reserve() <= 0);
+    }
+}
@@ -0,0 +1,98 @@
+package gorest.api.load;
+
+import gorest.api.config.LoadConfiguration;
+import gorest.api.utils.VirtualThreads;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop load driver: N virtual users each loop a scenario, back to back, until the
+ * configured duration is over.
+ * <p>
+ * Every virtual user runs on its own virtual thread (platform thread before Java 21) and
+ * records its step latencies in its own histograms, which are merged into the report at the end.
+ */
+public class LoadDriver {
+
+    private static final Logger logger = LogManager.getLogger(LoadDriver.class);
+
+    private final LoadConfiguration configuration;
+
+    public LoadDriver(LoadConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Runs the load and waits for it to finish.
+     *
+     * @param name     the name of the run, used in the report
+     * @param scenario creates the scenario instance of each virtual user
+     * @return the merged results
+     * @throws InterruptedException if interrupted while waiting for the virtual users
+     */
+    public LoadReport run(String name, Supplier<Scenario> scenario) throws InterruptedException {
+        int users = Math.max(1, configuration.getVirtualUsers());
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(configuration.getDurationSeconds());
+        long rampUpStepNanos = TimeUnit.SECONDS.toNanos(configuration.getRampUpSeconds()) / users;
+        logger.info("Starting load run '{}' with {} virtual users for {} s (virtual threads: {})",
+                name, users, configuration.getDurationSeconds(), VirtualThreads.isSupported());
+
+        List<Future<StepRecorder>> virtualUsers = new ArrayList<>(users);
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("load-" + name);
+        try {
+            for (int i = 0; i < users; i++) {
+                long userStartNanos = startNanos + i * rampUpStepNanos;
+                virtualUsers.add(executor.submit(() -> runVirtualUser(scenario, userStartNanos, endNanos)));
+            }
+
+            Map<String, StepStats> merged = new LinkedHashMap<>();
+            long iterations = 0;
+            for (Future<StepRecorder> virtualUser : virtualUsers) {
+                StepRecorder recorder = virtualUser.get();
+                for (Map.Entry<String, StepStats> step : recorder.getStats().entrySet()) {
+                    merged.computeIfAbsent(step.getKey(), k -> new StepStats()).add(step.getValue());
+                }
+                iterations += recorder.getIterations();
+            }
+            double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+            return new LoadReport(name, users, elapsedSeconds, iterations, merged);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A virtual user of load run '" + name + "' failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private StepRecorder runVirtualUser(Supplier<Scenario> scenarioFactory, long startNanos, long endNanos) throws InterruptedException {
+        sleepUntil(startNanos);
+        StepRecorder recorder = new StepRecorder();
+        try (Scenario scenario = scenarioFactory.get()) {
+            while (System.nanoTime() < endNanos && !Thread.currentThread().isInterrupted()) {
+                scenario.iterate(recorder);
+                recorder.completeIteration();
+                if (configuration.getThinkTimeMs() > 0) {
+                    Thread.sleep(configuration.getThinkTimeMs());
+                }
+            }
+        }
+        return recorder;
+    }
+
+    private static void sleepUntil(long nanos) throws InterruptedException {
+        long remaining = nanos - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package gorest.api.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Results of a load run: throughput, error rate and latency percentiles per scenario step.
+ */
+public class LoadReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final String name;
+    private final int virtualUsers;
+    private final double elapsedSeconds;
+    private final long iterations;
+    private final Map<String, StepStats> steps;
+
+    LoadReport(String name, int virtualUsers, double elapsedSeconds, long iterations, Map<String, StepStats> steps) {
+        this.name = name;
+        this.virtualUsers = virtualUsers;
+        this.elapsedSeconds = elapsedSeconds;
+        this.iterations = iterations;
+        this.steps = steps;
+    }
+
+    public Map<String, StepStats> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Gets the total number of requests sent by the run.
+     *
+     * @return the number of requests
+     */
+    public long getRequests() {
+        return steps.values().stream().mapToLong(StepStats::getCount).sum();
+    }
+
+    /**
+     * Gets the fraction of requests that failed or got an unexpected status code.
+     *
+     * @return the error rate, between 0 and 1
+     */
+    public double getErrorRate() {
+        long requests = getRequests();
+        return requests == 0 ? 0 : (double) steps.values().stream().mapToLong(StepStats::getErrors).sum() / requests;
+    }
+
+    /**
+     * Gets the number of requests per second over the whole run.
+     *
+     * @return the throughput
+     */
+    public double getThroughput() {
+        return elapsedSeconds == 0 ? 0 : getRequests() / elapsedSeconds;
+    }
+
+    /**
+     * Builds a text table with one line per step.
+     *
+     * @return the summary table
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("Load run '%s': %d virtual users, %.1f s, %d iterations, %d requests, %.1f req/s, %.2f%% errors%n",
+                name, virtualUsers, elapsedSeconds, iterations, getRequests(), getThroughput(), getErrorRate() * 100));
+        table.append(String.format("%-14s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "step", "count", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms"));
+        for (Map.Entry<String, StepStats> step : steps.entrySet()) {
+            StepStats stats = step.getValue();
+            table.append(String.format("%-14s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    step.getKey(), stats.getCount(), stats.getErrors(), stats.getCount() / elapsedSeconds,
+                    stats.getPercentileMillis(50), stats.getPercentileMillis(90), stats.getPercentileMillis(95),
+                    stats.getPercentileMillis(99), stats.getMaxMillis()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Builds the JSON form of the report.
+     *
+     * @return the report as JSON
+     * @throws IOException if serialization fails
+     */
+    public String toJson() throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", name);
+        json.put("virtual_users", virtualUsers);
+        json.put("elapsed_seconds", elapsedSeconds);
+        json.put("iterations", iterations);
+        json.put("requests", getRequests());
+        json.put("throughput_per_second", getThroughput());
+        json.put("error_rate", getErrorRate());
+        Map<String, Object> stepsJson = new LinkedHashMap<>();
+        for (Map.Entry<String, StepStats> step : steps.entrySet()) {
+            StepStats stats = step.getValue();
+            Map<String, Object> stepJson = new LinkedHashMap<>();
+            stepJson.put("count", stats.getCount());
+            stepJson.put("errors", stats.getErrors());
+            stepJson.put("throughput_per_second", stats.getCount() / elapsedSeconds);
+            stepJson.put("mean_ms", stats.getMeanMillis());
+            stepJson.put("p50_ms", stats.getPercentileMillis(50));
+            stepJson.put("p90_ms", stats.getPercentileMillis(90));
+            stepJson.put("p95_ms", stats.getPercentileMillis(95));
+            stepJson.put("p99_ms", stats.getPercentileMillis(99));
+            stepJson.put("max_ms", stats.getMaxMillis());
+            stepsJson.put(step.getKey(), stepJson);
+        }
+        json.put("steps", stepsJson);
+        return MAPPER.writeValueAsString(json);
+    }
+
+    /**
+     * Writes the JSON report to {@code <directory>/<name>.json}.
+     *
+     * @param directory the report directory
+     * @return the written file
+     * @throws IOException if the file cannot be written
+     */
+    public Path writeJson(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return Files.writeString(directory.resolve(name + ".json"), toJson());
+    }
+}
@@ -0,0 +1,83 @@
+package gorest.api.load;
+
+import gorest.api.client.ApiResponse;
+import gorest.api.client.PostsApi;
+import gorest.api.data.TestDataFactory;
+import gorest.api.data.UserPool;
+import gorest.api.models.Post;
+import gorest.api.models.User;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs the lifecycle covered by {@code PostsTests}: create, get, update with PUT and PATCH,
+ * delete and get the deleted post.
+ * <p>
+ * Each virtual user leases the user owning its posts from the {@link UserPool} on its first
+ * iteration and releases it when the run is over.
+ */
+public class PostCrudScenario implements Scenario {
+
+    private static final Logger logger = LogManager.getLogger(PostCrudScenario.class);
+
+    private final PostsApi posts;
+    private final UserPool userPool;
+    private final TestDataFactory testData;
+    private User owner;
+
+    /**
+     * @param posts    the posts client
+     * @param userPool leases the users owning the posts
+     * @param testData generates the posts
+     */
+    public PostCrudScenario(PostsApi posts, UserPool userPool, TestDataFactory testData) {
+        this.posts = posts;
+        this.userPool = userPool;
+        this.testData = testData;
+    }
+
+    @Override
+    public void iterate(StepRecorder steps) {
+        if (owner == null && !leaseOwner()) {
+            return;
+        }
+        Post post = testData.post(owner.getId());
+
+        ApiResponse<Post> created = steps.step("create", 201, () -> posts.create(post));
+        if (created == null) {
+            return;
+        }
+        int id = created.getEntity().getId();
+
+        if (steps.step("get", 200, () -> posts.get(id)) == null) {
+            return;
+        }
+        post.setTitle(post.getTitle() + " Updated");
+        post.setBody(post.getBody() + ", updated by a load run");
+        if (steps.step("put", 200, () -> posts.put(id, post)) == null) {
+            return;
+        }
+        post.setTitle(post.getTitle() + " Patched");
+        if (steps.step("patch", 200, () -> posts.patch(id, post)) == null) {
+            return;
+        }
+        if (steps.step("delete", 204, () -> posts.delete(id)) == null) {
+            return;
+        }
+        steps.step("get-deleted", 404, () -> posts.get(id));
+    }
+
+    @Override
+    public void close() {
+        userPool.release(owner);
+    }
+
+    private boolean leaseOwner() {
+        try {
+            owner = userPool.lease();
+        } catch (RuntimeException e) {
+            logger.warn("Could not lease the owner of the posts", e);
+        }
+        return owner != null;
+    }
+}
@@ -0,0 +1,24 @@
+package gorest.api.load;
+
+/**
+ * A sequence of requests a virtual user runs over and over during a load run.
+ * <p>
+ * Every virtual user gets its own instance, so implementations can keep per-user state
+ * without synchronization.
+ */
+public interface Scenario extends AutoCloseable {
+
+    /**
+     * Runs one iteration of the scenario, timing each request through the recorder.
+     *
+     * @param steps records the latency and outcome of each step
+     */
+    void iterate(StepRecorder steps);
+
+    /**
+     * Releases whatever the scenario created for its virtual user. Called once, after the last iteration.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,51 @@
+package gorest.api.load;
+
+import gorest.api.client.ApiResponse;
+
+import java.util.Map;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Times the steps of one virtual user and keeps their stats.
+ */
+public class StepRecorder {
+
+    private final Map<String, StepStats> stats = new LinkedHashMap<>();
+    private long iterations;
+
+    /**
+     * Sends the request of a step and records its latency and whether it got the expected status code.
+     *
+     * @param name           the step name, e.g. {@code create}
+     * @param expectedStatus the status code the step should get
+     * @param request        sends the request
+     * @param <T>            the type of the body of the response
+     * @return the response, or {@code null} if the request failed or got another status code,
+     * in which case the rest of the iteration should be skipped
+     */
+    public <T> ApiResponse<T> step(String name, int expectedStatus, Supplier<ApiResponse<T>> request) {
+        long start = System.nanoTime();
+        ApiResponse<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            response = null;
+        }
+        boolean success = response != null && response.getStatusCode() == expectedStatus;
+        stats.computeIfAbsent(name, k -> new StepStats()).record(System.nanoTime() - start, success);
+        return success ? response : null;
+    }
+
+    void completeIteration() {
+        iterations++;
+    }
+
+    long getIterations() {
+        return iterations;
+    }
+
+    Map<String, StepStats> getStats() {
+        return stats;
+    }
+}
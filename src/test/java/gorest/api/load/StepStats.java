@@ -0,0 +1,69 @@
+package gorest.api.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histogram and error count of one scenario step.
+ * <p>
+ * Not thread-safe: each virtual user records into its own instance, and the instances are merged
+ * with {@link #add(StepStats)} when the run is over. {@link gorest.api.filters.LatencyCollector}
+ * reuses it for the per-endpoint latencies of the tests, behind a lock.
+ */
+public class StepStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private long errors;
+
+    /**
+     * Records one execution of the step.
+     *
+     * @param latencyNanos the time the step took
+     * @param success      whether the step got the expected response
+     */
+    public void record(long latencyNanos, boolean success) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * Adds the executions recorded by another instance to this one.
+     *
+     * @param other the stats to merge in
+     */
+    public void add(StepStats other) {
+        histogram.add(other.histogram);
+        errors += other.errors;
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets a latency percentile.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency at that percentile, in milliseconds
+     */
+    public double getPercentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double getMaxMillis() {
+        return histogram.getMaxValue() / 1000.0;
+    }
+
+    public double getMeanMillis() {
+        return histogram.getMean() / 1000.0;
+    }
+}
@@ -0,0 +1,53 @@
+package gorest.api.load;
+
+import gorest.api.client.ApiResponse;
+import gorest.api.client.UsersApi;
+import gorest.api.data.TestDataFactory;
+import gorest.api.models.User;
+
+/**
+ * Runs the lifecycle covered by {@code UsersTests}: create, get, update with PUT and PATCH,
+ * delete and get the deleted user.
+ */
+public class UserCrudScenario implements Scenario {
+
+    private final UsersApi users;
+    private final TestDataFactory testData;
+
+    /**
+     * @param users    the users client
+     * @param testData generates the users, unique across the virtual users of all load runs
+     */
+    public UserCrudScenario(UsersApi users, TestDataFactory testData) {
+        this.users = users;
+        this.testData = testData;
+    }
+
+    @Override
+    public void iterate(StepRecorder steps) {
+        User user = testData.user();
+
+        ApiResponse<User> created = steps.step("create", 201, () -> users.create(user));
+        if (created == null) {
+            return;
+        }
+        int id = created.getEntity().getId();
+
+        if (steps.step("get", 200, () -> users.get(id)) == null) {
+            return;
+        }
+        user.setName(user.getName() + " Updated");
+        user.setStatus("active".equals(user.getStatus()) ? "inactive" : "active");
+        if (steps.step("put", 200, () -> users.put(id, user)) == null) {
+            return;
+        }
+        user.setName(user.getName() + " Patched");
+        if (steps.step("patch", 200, () -> users.patch(id, user)) == null) {
+            return;
+        }
+        if (steps.step("delete", 204, () -> users.delete(id)) == null) {
+            return;
+        }
+        steps.step("get-deleted", 404, () -> users.get(id));
+    }
+}
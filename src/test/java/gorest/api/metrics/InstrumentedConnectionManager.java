@@ -0,0 +1,96 @@
+package gorest.api.metrics;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooling connection manager that reports, to the {@link RequestTiming} of the calling thread, how long
+ * getting a connection from the pool took, and for new connections how long DNS and connecting took.
+ */
+@SuppressWarnings("deprecation")
+public class InstrumentedConnectionManager extends PoolingClientConnectionManager {
+
+    /**
+     * @param schemeRegistry the schemes connections can be opened for
+     */
+    public InstrumentedConnectionManager(SchemeRegistry schemeRegistry) {
+        super(schemeRegistry);
+    }
+
+    @Override
+    public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+        ClientConnectionRequest request = super.requestConnection(route, state);
+        return new ClientConnectionRequest() {
+            @Override
+            public ManagedClientConnection getConnection(long timeout, TimeUnit unit) throws InterruptedException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                ManagedClientConnection connection = request.getConnection(timeout, unit);
+                RequestTiming timing = RequestTiming.current();
+                if (timing != null) {
+                    timing.connectionAcquired(System.nanoTime() - start, connection.isOpen());
+                }
+                return connection;
+            }
+
+            @Override
+            public void abortRequest() {
+                request.abortRequest();
+            }
+        };
+    }
+
+    @Override
+    protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+        return new TimedConnectionOperator(schemeRegistry);
+    }
+
+    private static final class TimedConnectionOperator extends DefaultClientConnectionOperator {
+
+        TimedConnectionOperator(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry, SystemDefaultDnsResolver.INSTANCE);
+        }
+
+        @Override
+        public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local, HttpContext context, HttpParams params) throws IOException {
+            RequestTiming timing = RequestTiming.current();
+            long start = System.nanoTime();
+            long dnsBefore = timing == null ? 0 : timing.getDnsNanos();
+            try {
+                super.openConnection(conn, target, local, context, params);
+            } finally {
+                if (timing != null) {
+                    timing.connected(System.nanoTime() - start - (timing.getDnsNanos() - dnsBefore));
+                }
+            }
+        }
+
+        @Override
+        protected InetAddress[] resolveHostname(String host) throws UnknownHostException {
+            RequestTiming timing = RequestTiming.current();
+            long start = System.nanoTime();
+            try {
+                return super.resolveHostname(host);
+            } finally {
+                if (timing != null) {
+                    timing.hostResolved(System.nanoTime() - start);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package gorest.api.metrics;
+
+import gorest.api.deadline.Deadlines;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpConnectionMetrics;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Request executor that reports when the request was sent and when the response headers came back, with
+ * the bytes written and read on the connection, to the {@link RequestTiming} of the calling thread.
+ * <p>
+ * It also holds the request to its {@link Deadlines deadline}: the socket timeout is shortened to the time
+ * left, and a connection still waiting for the response headers when the deadline passes is shut down.
+ */
+public class InstrumentedRequestExecutor extends HttpRequestExecutor {
+
+    @Override
+    public HttpResponse execute(HttpRequest request, HttpClientConnection conn, HttpContext context) throws IOException, HttpException {
+        String requestLine = request.getRequestLine().getMethod() + " " + request.getRequestLine().getUri();
+        long remaining = Deadlines.remainingNanos(requestLine);
+        if (remaining == Long.MAX_VALUE) {
+            return super.execute(request, conn, context);
+        }
+        // Also bounds the reads of the body, which happen after this method returns
+        int remainingMillis = (int) Math.min(Integer.MAX_VALUE, Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+        if (conn.getSocketTimeout() <= 0 || remainingMillis < conn.getSocketTimeout()) {
+            conn.setSocketTimeout(remainingMillis);
+        }
+        AtomicBoolean expired = new AtomicBoolean();
+        ScheduledFuture<?> watch = Deadlines.watch(remaining, () -> {
+            expired.set(true);
+            try {
+                conn.shutdown();
+            } catch (IOException ignored) {
+                // The connection is discarded either way
+            }
+        });
+        try {
+            return super.execute(request, conn, context);
+        } catch (IOException e) {
+            if (expired.get() || Deadlines.isExceeded()) {
+                throw Deadlines.exceeded(requestLine, e);
+            }
+            throw e;
+        } finally {
+            watch.cancel(false);
+        }
+    }
+
+    @Override
+    protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context) throws IOException, HttpException {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            return super.doSendRequest(request, conn, context);
+        }
+        HttpConnectionMetrics metrics = conn.getMetrics();
+        long sentBefore = metrics.getSentBytesCount();
+        timing.sendStarted(System.nanoTime());
+        HttpResponse response = super.doSendRequest(request, conn, context);
+        // Sent bytes are counted as they leave the connection's buffer, which is flushed by now
+        timing.requestSent(metrics.getSentBytesCount() - sentBefore);
+        return response;
+    }
+
+    @Override
+    protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context) throws HttpException, IOException {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            return super.doReceiveResponse(request, conn, context);
+        }
+        HttpConnectionMetrics metrics = conn.getMetrics();
+        long receivedBefore = metrics.getReceivedBytesCount();
+        HttpResponse response = super.doReceiveResponse(request, conn, context);
+        timing.headersReceived(System.nanoTime(), metrics.getReceivedBytesCount() - receivedBefore);
+        return response;
+    }
+}
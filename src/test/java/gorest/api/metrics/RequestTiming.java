@@ -0,0 +1,236 @@
+package gorest.api.metrics;
+
+/**
+ * Where the time of one request went.
+ * <p>
+ * {@link RequestTimingFilter} binds a timing to the thread sending the request, so the HTTP client hooks
+ * ({@link InstrumentedConnectionManager} and {@link InstrumentedRequestExecutor}) can fill in the phases
+ * they see. Phases that did not happen, e.g. connecting on a reused connection, stay at 0.
+ */
+public class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final String test;
+    private final String method;
+    private final String endpoint;
+    private final long startedAtMillis = System.currentTimeMillis();
+    private int status;
+    private boolean reusedConnection = true;
+    private long acquireNanos;
+    private long dnsNanos;
+    private long connectNanos;
+    private long sendStartedAt;
+    private long headersReceivedAt;
+    private long ttfbNanos;
+    private long transferNanos;
+    private long clientNanos = -1;
+    private long totalNanos;
+    private long requestBytes;
+    private long responseHeaderBytes;
+    private long responseBytes;
+    private long completedAt;
+
+    RequestTiming(String test, String method, String endpoint) {
+        this.test = test;
+        this.method = method;
+        this.endpoint = endpoint;
+    }
+
+    static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    static void bind(RequestTiming timing) {
+        if (timing == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(timing);
+        }
+    }
+
+    void connectionAcquired(long nanos, boolean reused) {
+        acquireNanos += nanos;
+        reusedConnection = reused;
+    }
+
+    void hostResolved(long nanos) {
+        dnsNanos += nanos;
+    }
+
+    /**
+     * @param nanos the time spent opening the connection, DNS excluded: TCP connect and TLS handshake
+     */
+    void connected(long nanos) {
+        connectNanos += nanos;
+    }
+
+    void sendStarted(long now) {
+        sendStartedAt = now;
+    }
+
+    void requestSent(long bytes) {
+        requestBytes = bytes;
+    }
+
+    void headersReceived(long now, long headerBytes) {
+        headersReceivedAt = now;
+        ttfbNanos = now - sendStartedAt;
+        responseHeaderBytes = headerBytes;
+    }
+
+    void completed(long now, long startedAt, int status, long bodyBytes) {
+        this.completedAt = now;
+        this.totalNanos = now - startedAt;
+        this.status = status;
+        this.transferNanos = headersReceivedAt == 0 ? 0 : now - headersReceivedAt;
+        this.responseBytes = responseHeaderBytes + bodyBytes;
+    }
+
+    void clientDone(long now) {
+        clientNanos = now - completedAt;
+    }
+
+    /**
+     * Gets the test that sent the request.
+     *
+     * @return {@code Class.method}, {@code Class} for class-level setup and teardown, or {@code -} outside of tests
+     */
+    public String getTest() {
+        return test;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets the endpoint template, e.g. {@code /public/v2/users/{id}}.
+     *
+     * @return the endpoint template
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Checks whether the request went over a pooled connection that was already open.
+     *
+     * @return {@code false} if a new connection was opened
+     */
+    public boolean isReusedConnection() {
+        return reusedConnection;
+    }
+
+    /**
+     * Gets the time spent waiting for a connection from the pool.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getAcquireNanos() {
+        return acquireNanos;
+    }
+
+    public long getDnsNanos() {
+        return dnsNanos;
+    }
+
+    /**
+     * Gets the time spent opening a new connection, DNS excluded: TCP connect and TLS handshake.
+     *
+     * @return the time in nanoseconds, 0 on a reused connection
+     */
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    /**
+     * Gets the time from the start of sending the request to the response headers: upload and server time.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getTtfbNanos() {
+        return ttfbNanos;
+    }
+
+    /**
+     * Gets the time from the response headers until RestAssured has read the body.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getTransferNanos() {
+        return transferNanos;
+    }
+
+    /**
+     * Gets the time the test spent on the response, parsing it and running its assertions, until its next
+     * request or its end.
+     *
+     * @return the time in nanoseconds, or -1 for requests sent outside of tests or on another thread than the test's
+     */
+    public long getClientNanos() {
+        return clientNanos;
+    }
+
+    /**
+     * Gets the time the filter chain took to return the response, rate limiting included.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets the bytes written for the request, headers and body.
+     *
+     * @return the number of bytes
+     */
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * Gets the bytes of the response: the headers as received and the body as read by RestAssured.
+     *
+     * @return the number of bytes
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * Holds the last request of a test until the test sends another one or ends, which is when the
+     * time it spent on the response is known.
+     */
+    public static final class Pending {
+
+        private RequestTiming timing;
+
+        synchronized RequestTiming replace(RequestTiming next, long now) {
+            RequestTiming previous = timing;
+            if (previous != null) {
+                previous.clientDone(now);
+            }
+            timing = next;
+            return previous;
+        }
+
+        /**
+         * Completes the held request, if any.
+         *
+         * @return the completed timing, or {@code null}
+         */
+        public RequestTiming flush() {
+            return replace(null, System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package gorest.api.metrics;
+
+import gorest.api.extensions.TestContext;
+import gorest.api.utils.EndpointTemplates;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Breaks the time of every request down into phases, see {@link RequestTiming}, and exports it to the
+ * {@link RequestTimingLog}.
+ * <p>
+ * The request's own phases are complete when the chain returns. The time the test then spends on the
+ * response is only known at its next request or at its end, so a test's last request is held in its
+ * {@link TestContext} until then; {@link gorest.api.extensions.RequestTimingExtension} flushes it.
+ * Requests sent on another thread for the test, e.g. by {@link gorest.api.client.AsyncRequests}, run
+ * concurrently with each other, so no client time is attributed to them.
+ */
+public class RequestTimingFilter implements Filter {
+
+    private final RequestTimingLog log;
+
+    /**
+     * @param log the log timings are exported to
+     */
+    public RequestTimingFilter(RequestTimingLog log) {
+        this.log = log;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long start = System.nanoTime();
+        TestContext testContext = TestContext.current();
+        RequestTiming.Pending pending = testContext == null || TestContext.isPropagated()
+                ? null
+                : testContext.getOrCreate(RequestTiming.Pending.class, RequestTiming.Pending::new);
+        if (pending != null) {
+            log.add(pending.replace(null, start));
+        }
+
+        RequestTiming timing = new RequestTiming(testContext == null ? "-" : testContext.getDisplayName(),
+                requestSpec.getMethod(), EndpointTemplates.of(requestSpec.getURI()));
+        RequestTiming.bind(timing);
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } finally {
+            RequestTiming.bind(null);
+        }
+        timing.completed(System.nanoTime(), start, response.getStatusCode(), response.asByteArray().length);
+
+        if (pending != null) {
+            pending.replace(timing, System.nanoTime());
+        } else {
+            log.add(timing);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,214 @@
+package gorest.api.metrics;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import gorest.api.config.RequestTimingConfiguration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exports the {@link RequestTiming} of every request of the run.
+ * <p>
+ * Each timing is appended as it completes to {@code requests.jsonl}, one JSON object per line, and added
+ * to histograms per test, method, endpoint and phase, which are written to {@code requests.prom} in the
+ * Prometheus text format when the run ends. Only the histograms are kept in memory.
+ */
+public class RequestTimingLog implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(RequestTimingLog.class);
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final double[] BUCKETS_SECONDS = {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+    private static final List<String> PHASES = Arrays.asList("acquire", "dns", "connect", "ttfb", "transfer", "client", "total");
+
+    private static RequestTimingLog shared;
+
+    private final Path directory;
+    private final Map<String, Histogram> histograms = new TreeMap<>();
+    private final Map<String, long[]> counters = new TreeMap<>();
+    private Writer jsonl;
+    private boolean closed;
+
+    /**
+     * @param directory the directory the files are written to
+     */
+    public RequestTimingLog(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Gets the log of the run, creating it on first use.
+     *
+     * @param configuration the request timing settings, only used on the first call
+     * @return the shared log
+     */
+    public static synchronized RequestTimingLog getShared(RequestTimingConfiguration configuration) {
+        if (shared == null) {
+            shared = new RequestTimingLog(Paths.get(configuration.getDirectory()));
+        }
+        return shared;
+    }
+
+    /**
+     * Closes the shared log, if it was created.
+     */
+    public static synchronized void closeShared() {
+        if (shared != null) {
+            shared.close();
+            shared = null;
+        }
+    }
+
+    /**
+     * Exports a completed timing.
+     *
+     * @param timing the timing; {@code null} is ignored
+     */
+    public synchronized void add(RequestTiming timing) {
+        if (timing == null || closed) {
+            return;
+        }
+        String labels = "test=\"" + escape(timing.getTest()) + "\",method=\"" + escape(timing.getMethod())
+                + "\",endpoint=\"" + escape(timing.getEndpoint()) + "\"";
+        long[] phaseNanos = {timing.getAcquireNanos(), timing.getDnsNanos(), timing.getConnectNanos(), timing.getTtfbNanos(),
+                timing.getTransferNanos(), timing.getClientNanos(), timing.getTotalNanos()};
+        for (int i = 0; i < PHASES.size(); i++) {
+            if (phaseNanos[i] >= 0) {
+                histograms.computeIfAbsent(labels + ",phase=\"" + PHASES.get(i) + "\"", k -> new Histogram()).add(phaseNanos[i] / 1e9);
+            }
+        }
+        long[] counts = counters.computeIfAbsent(labels, k -> new long[3]);
+        counts[0]++;
+        counts[1] += timing.getRequestBytes();
+        counts[2] += timing.getResponseBytes();
+        try {
+            if (jsonl == null) {
+                Files.createDirectories(directory);
+                jsonl = new BufferedWriter(Files.newBufferedWriter(directory.resolve("requests.jsonl"), StandardCharsets.UTF_8));
+            }
+            jsonl.write(toJson(timing));
+            jsonl.write('\n');
+        } catch (IOException e) {
+            logger.warn("Could not write the request timings to {}: {}", directory, e.getMessage());
+            closed = true;
+        }
+    }
+
+    /**
+     * Writes the Prometheus file and closes the JSONL file.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (jsonl != null) {
+                jsonl.close();
+            }
+            Files.createDirectories(directory);
+            Files.write(directory.resolve("requests.prom"), toPrometheus().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warn("Could not write the request timings to {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Formats the histograms and counters in the Prometheus text exposition format.
+     *
+     * @return the metrics
+     */
+    public synchronized String toPrometheus() {
+        StringBuilder text = new StringBuilder(4096);
+        text.append("# HELP gorest_request_phase_seconds Time spent in each phase of a request\n");
+        text.append("# TYPE gorest_request_phase_seconds histogram\n");
+        histograms.forEach((labels, histogram) -> {
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS_SECONDS.length; i++) {
+                cumulative += histogram.buckets[i];
+                text.append("gorest_request_phase_seconds_bucket{").append(labels).append(",le=\"").append(BUCKETS_SECONDS[i]).append("\"} ")
+                        .append(cumulative).append('\n');
+            }
+            text.append("gorest_request_phase_seconds_bucket{").append(labels).append(",le=\"+Inf\"} ").append(histogram.count).append('\n');
+            text.append("gorest_request_phase_seconds_sum{").append(labels).append("} ").append(histogram.sum).append('\n');
+            text.append("gorest_request_phase_seconds_count{").append(labels).append("} ").append(histogram.count).append('\n');
+        });
+        text.append("# HELP gorest_requests_total Requests sent\n");
+        text.append("# TYPE gorest_requests_total counter\n");
+        counters.forEach((labels, counts) -> text.append("gorest_requests_total{").append(labels).append("} ").append(counts[0]).append('\n'));
+        text.append("# HELP gorest_request_bytes_total Bytes sent and received, headers included\n");
+        text.append("# TYPE gorest_request_bytes_total counter\n");
+        counters.forEach((labels, counts) -> {
+            text.append("gorest_request_bytes_total{").append(labels).append(",direction=\"sent\"} ").append(counts[1]).append('\n');
+            text.append("gorest_request_bytes_total{").append(labels).append(",direction=\"received\"} ").append(counts[2]).append('\n');
+        });
+        return text.toString();
+    }
+
+    private static String toJson(RequestTiming timing) throws IOException {
+        StringWriter line = new StringWriter(384);
+        try (JsonGenerator json = JSON.createGenerator(line)) {
+            json.writeStartObject();
+            json.writeStringField("timestamp", Instant.ofEpochMilli(timing.getStartedAtMillis()).toString());
+            json.writeStringField("test", timing.getTest());
+            json.writeStringField("method", timing.getMethod());
+            json.writeStringField("endpoint", timing.getEndpoint());
+            json.writeNumberField("status", timing.getStatus());
+            json.writeBooleanField("reused_connection", timing.isReusedConnection());
+            json.writeNumberField("acquire_ms", millis(timing.getAcquireNanos()));
+            json.writeNumberField("dns_ms", millis(timing.getDnsNanos()));
+            json.writeNumberField("connect_ms", millis(timing.getConnectNanos()));
+            json.writeNumberField("ttfb_ms", millis(timing.getTtfbNanos()));
+            json.writeNumberField("transfer_ms", millis(timing.getTransferNanos()));
+            if (timing.getClientNanos() >= 0) {
+                json.writeNumberField("client_ms", millis(timing.getClientNanos()));
+            } else {
+                json.writeNullField("client_ms");
+            }
+            json.writeNumberField("total_ms", millis(timing.getTotalNanos()));
+            json.writeNumberField("request_bytes", timing.getRequestBytes());
+            json.writeNumberField("response_bytes", timing.getResponseBytes());
+            json.writeEndObject();
+        }
+        return line.toString();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class Histogram {
+        private final long[] buckets = new long[BUCKETS_SECONDS.length];
+        private long count;
+        private double sum;
+
+        void add(double seconds) {
+            count++;
+            sum += seconds;
+            for (int i = 0; i < BUCKETS_SECONDS.length; i++) {
+                if (seconds <= BUCKETS_SECONDS[i]) {
+                    buckets[i]++;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -16,6 +16,21 @@ public class Post {
     @JsonProperty("body")
     private String body;
 
+    public Post() {
+    }
+
+    /**
+     * Creates a copy of another post.
+     *
+     * @param other the post to copy
+     */
+    public Post(Post other) {
+        this.id = other.id;
+        this.userId = other.userId;
+        this.title = other.title;
+        this.body = other.body;
+    }
+
     // Getters and setters
     public int getId() {
         return id;
@@ -20,6 +20,22 @@ public class User {
     @JsonProperty("status")
     private String status;
 
+    public User() {
+    }
+
+    /**
+     * Creates a copy of another user.
+     *
+     * @param other the user to copy
+     */
+    public User(User other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.email = other.email;
+        this.gender = other.gender;
+        this.status = other.status;
+    }
+
     // Getters and setters for the properties
     public Integer getId() {
         return id;
@@ -0,0 +1,131 @@
+package gorest.api.reporting;
+
+import io.qameta.allure.util.PropertiesUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes Allure attachment files on a background thread, in batches.
+ * <p>
+ * The test thread only registers the attachment with the Allure lifecycle and queues its content;
+ * the file is written to the results directory later. {@link #flush()} waits for every queued file,
+ * and a shutdown hook flushes whatever is left when the JVM exits.
+ */
+public final class AttachmentWriter {
+
+    private static final Logger logger = LogManager.getLogger(AttachmentWriter.class);
+    private static AttachmentWriter shared;
+
+    private final Path resultsDirectory;
+    private final int batchSize;
+    private final LinkedBlockingQueue<PendingAttachment> queue = new LinkedBlockingQueue<>();
+    private final Object flushLock = new Object();
+    private long queued;
+    private long written;
+
+    private AttachmentWriter(Path resultsDirectory, int batchSize) {
+        this.resultsDirectory = resultsDirectory;
+        this.batchSize = Math.max(1, batchSize);
+        Thread thread = new Thread(this::run, "allure-attachment-writer");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "allure-attachment-flush"));
+    }
+
+    /**
+     * Gets the writer shared by the whole test run, writing to Allure's results directory.
+     *
+     * @param batchSize the maximum number of files written in one go, only used on the first call
+     * @return the shared writer
+     */
+    public static synchronized AttachmentWriter getShared(int batchSize) {
+        if (shared == null) {
+            String directory = PropertiesUtils.loadAllureProperties().getProperty("allure.results.directory", "allure-results");
+            shared = new AttachmentWriter(Paths.get(directory), batchSize);
+        }
+        return shared;
+    }
+
+    /**
+     * Queues the content of an attachment.
+     *
+     * @param source  the file name returned by {@code AllureLifecycle.prepareAttachment}
+     * @param content the attachment content
+     */
+    public void write(String source, byte[] content) {
+        synchronized (flushLock) {
+            queued++;
+        }
+        queue.add(new PendingAttachment(source, content));
+    }
+
+    /**
+     * Waits until every queued attachment has been written.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            long target = queued;
+            while (written < target) {
+                try {
+                    flushLock.wait(TimeUnit.SECONDS.toMillis(1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void run() {
+        List<PendingAttachment> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            writeBatch(batch);
+            synchronized (flushLock) {
+                written += batch.size();
+                flushLock.notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<PendingAttachment> batch) {
+        try {
+            Files.createDirectories(resultsDirectory);
+        } catch (IOException e) {
+            logger.error("Could not create Allure results directory {}", resultsDirectory, e);
+            return;
+        }
+        for (PendingAttachment attachment : batch) {
+            try {
+                Files.write(resultsDirectory.resolve(attachment.source), attachment.content);
+            } catch (IOException e) {
+                logger.error("Could not write Allure attachment {}", attachment.source, e);
+            }
+        }
+    }
+
+    private static final class PendingAttachment {
+        private final String source;
+        private final byte[] content;
+
+        private PendingAttachment(String source, byte[] content) {
+            this.source = source;
+            this.content = content;
+        }
+    }
+}
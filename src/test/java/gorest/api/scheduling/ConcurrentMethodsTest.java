@@ -0,0 +1,48 @@
+package gorest.api.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks that the methods of a class without a {@code @TestMethodOrder} of its own run at the same time
+ * with {@code -Pparallel -Dparallel.mode.methods=concurrent}, i.e. that the default method orderer does
+ * not force them onto one thread: each test waits for the other. Skipped unless methods run concurrently.
+ */
+@ExtendWith(ConcurrentMethodsTest.ConcurrentMethodsEnabled.class)
+public class ConcurrentMethodsTest {
+
+    private static final CyclicBarrier BOTH_RUNNING = new CyclicBarrier(2);
+
+    @DisplayName("Runs while the other test runs")
+    @Test
+    public void testFirst() throws Exception {
+        BOTH_RUNNING.await(30, TimeUnit.SECONDS);
+    }
+
+    @DisplayName("Runs while the other test runs too")
+    @Test
+    public void testSecond() throws Exception {
+        BOTH_RUNNING.await(30, TimeUnit.SECONDS);
+    }
+
+    static class ConcurrentMethodsEnabled implements ExecutionCondition {
+
+        @Override
+        public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+            boolean parallel = context.getConfigurationParameter("junit.jupiter.execution.parallel.enabled")
+                    .map(Boolean::parseBoolean).orElse(false);
+            boolean concurrent = context.getConfigurationParameter("junit.jupiter.execution.parallel.mode.default")
+                    .map("concurrent"::equalsIgnoreCase).orElse(false);
+            return parallel && concurrent
+                    ? ConditionEvaluationResult.enabled("Methods run concurrently")
+                    : ConditionEvaluationResult.disabled("Methods do not run concurrently, run with -Pparallel -Dparallel.mode.methods=concurrent");
+        }
+    }
+}
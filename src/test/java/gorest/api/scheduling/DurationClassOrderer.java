@@ -0,0 +1,29 @@
+package gorest.api.scheduling;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+
+/**
+ * Orders the test classes longest first, according to the {@link TimingHistory}, so that in parallel runs
+ * the slow classes start early instead of keeping the build waiting at the end. Classes with no history
+ * come before the others, since they may be slow; with {@code failed_first}, recently failed classes come
+ * before everything else. Without history the discovery order is kept.
+ * <p>
+ * Registered as the default class orderer by the surefire configuration in {@code pom.xml}.
+ */
+public class DurationClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        TimingHistory history = TimingHistory.getShared();
+        if (!history.getConfiguration().isEnabled()) {
+            return;
+        }
+        context.getClassDescriptors().sort(Comparator.comparing(
+                (ClassDescriptor descriptor) -> history.getClassRecord(descriptor.getTestClass().getName()),
+                HistoryOrder.comparator(history)));
+    }
+}
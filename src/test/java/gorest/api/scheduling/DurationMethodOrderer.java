@@ -0,0 +1,38 @@
+package gorest.api.scheduling;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Orders the tests of a class like {@link DurationClassOrderer} orders the classes: recently failed tests
+ * first with {@code failed_first}, then tests with no history, then the longest first.
+ * <p>
+ * Registered as the default method orderer by the surefire configuration in {@code pom.xml}, so it only
+ * applies to classes without a {@code @TestMethodOrder} of their own. Unlike most orderers it does not ask
+ * for the methods to run on a single thread: {@code parallel.mode.methods} still decides, and the order
+ * only matters when they run one after another.
+ */
+public class DurationMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        TimingHistory history = TimingHistory.getShared();
+        if (!history.getConfiguration().isEnabled()) {
+            return;
+        }
+        context.getMethodDescriptors().sort(Comparator.comparing(
+                (MethodDescriptor descriptor) -> history.getTestRecord(
+                        TimingHistory.testKey(context.getTestClass(), descriptor.getMethod().getName())),
+                HistoryOrder.comparator(history)));
+    }
+
+    @Override
+    public Optional<ExecutionMode> getDefaultExecutionMode() {
+        return Optional.empty();
+    }
+}
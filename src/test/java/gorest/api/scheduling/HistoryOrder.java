@@ -0,0 +1,27 @@
+package gorest.api.scheduling;
+
+import java.util.Comparator;
+
+/**
+ * The order shared by the class and method orderers.
+ */
+final class HistoryOrder {
+
+    private HistoryOrder() {
+    }
+
+    /**
+     * Compares records: recently failed first if configured, then missing records, then the longest first.
+     *
+     * @param history the history the records come from
+     * @return the comparator, which accepts {@code null} records
+     */
+    static Comparator<TimingRecord> comparator(TimingHistory history) {
+        Comparator<TimingRecord> order = Comparator.comparing(record -> record != null);
+        order = order.thenComparing(Comparator.comparingDouble((TimingRecord record) -> record == null ? 0 : record.getDurationMs()).reversed());
+        if (history.getConfiguration().isFailedFirst()) {
+            order = Comparator.comparing((TimingRecord record) -> !history.failedRecently(record)).thenComparing(order);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,173 @@
+package gorest.api.scheduling;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.config.TimingHistoryConfiguration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.TreeMap;
+
+/**
+ * Durations and failures of the test classes and tests over the previous runs, kept in a local JSON file.
+ * <p>
+ * The file is read once, when the test classes are ordered; the current run's results are merged into it
+ * as they come and it is written back when the run ends. A missing or unreadable file is an empty history.
+ */
+public class TimingHistory {
+
+    private static final Logger logger = LogManager.getLogger(TimingHistory.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static TimingHistory shared;
+
+    private final TimingHistoryConfiguration configuration;
+    private final Path file;
+    private final Content content;
+    private final int run;
+
+    private TimingHistory(TimingHistoryConfiguration configuration, Content content) {
+        this.configuration = configuration;
+        this.file = Paths.get(configuration.getFile());
+        this.content = content;
+        this.run = content.runs + 1;
+    }
+
+    /**
+     * Gets the history of the run, reading the file on first use.
+     *
+     * @return the shared history
+     */
+    public static synchronized TimingHistory getShared() {
+        if (shared == null) {
+            TimingHistoryConfiguration configuration = ConfigurationLoader.getInstance().getConfiguration().getTimingHistory();
+            shared = new TimingHistory(configuration, read(Paths.get(configuration.getFile())));
+        }
+        return shared;
+    }
+
+    /**
+     * Gets the key a test is recorded under.
+     *
+     * @param testClass  the test class
+     * @param methodName the test method name
+     * @return the key, as {@code ClassName#method}
+     */
+    public static String testKey(Class<?> testClass, String methodName) {
+        return testClass.getName() + "#" + methodName;
+    }
+
+    /**
+     * Gets the settings the history was loaded with.
+     *
+     * @return the timing history settings
+     */
+    public TimingHistoryConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Gets the record of a test class.
+     *
+     * @param className the fully qualified class name
+     * @return the record, or {@code null} if the class never ran
+     */
+    public synchronized TimingRecord getClassRecord(String className) {
+        return content.classes.get(className);
+    }
+
+    /**
+     * Gets the record of a test.
+     *
+     * @param testKey the test, as {@code ClassName#method}
+     * @return the record, or {@code null} if the test never ran
+     */
+    public synchronized TimingRecord getTestRecord(String testKey) {
+        return content.tests.get(testKey);
+    }
+
+    /**
+     * Checks whether a record failed within the configured number of runs.
+     *
+     * @param record the record, may be {@code null}
+     * @return {@code true} if it failed recently
+     */
+    public boolean failedRecently(TimingRecord record) {
+        return record != null && record.getLastFailedRun() >= 0
+                && run - record.getLastFailedRun() <= configuration.getFailedFirstRuns();
+    }
+
+    /**
+     * Adds a class's duration in the current run.
+     *
+     * @param className  the fully qualified class name
+     * @param durationMs the duration in milliseconds
+     * @param failed     whether a test or a class-level callback failed
+     */
+    public synchronized void recordClass(String className, double durationMs, boolean failed) {
+        content.classes.computeIfAbsent(className, k -> new TimingRecord()).add(durationMs, failed, run);
+    }
+
+    /**
+     * Adds a test's duration in the current run.
+     *
+     * @param testKey    the test, as {@code ClassName#method}
+     * @param durationMs the duration in milliseconds
+     * @param failed     whether the test failed
+     */
+    public synchronized void recordTest(String testKey, double durationMs, boolean failed) {
+        content.tests.computeIfAbsent(testKey, k -> new TimingRecord()).add(durationMs, failed, run);
+    }
+
+    /**
+     * Writes the history, with the current run, back to its file.
+     */
+    public synchronized void save() {
+        content.runs = run;
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(temporary.toFile(), content);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not write the timing history {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Content read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return new Content();
+        }
+        try {
+            return MAPPER.readValue(file.toFile(), Content.class);
+        } catch (IOException e) {
+            logger.warn("Ignoring the unreadable timing history {}: {}", file, e.getMessage());
+            return new Content();
+        }
+    }
+
+    /**
+     * The content of the history file.
+     */
+    static class Content {
+
+        @JsonProperty("runs")
+        int runs;
+
+        @JsonProperty("classes")
+        TreeMap<String, TimingRecord> classes = new TreeMap<>();
+
+        @JsonProperty("tests")
+        TreeMap<String, TimingRecord> tests = new TreeMap<>();
+    }
+}
@@ -0,0 +1,65 @@
+package gorest.api.scheduling;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * What the previous runs tell about one test class or test.
+ */
+public class TimingRecord {
+
+    @JsonProperty("duration_ms")
+    private double durationMs;
+
+    @JsonProperty("runs")
+    private int runs;
+
+    @JsonProperty("last_failed_run")
+    private int lastFailedRun = -1;
+
+    /**
+     * Gets the smoothed duration: an exponentially weighted average giving the latest run half the weight.
+     *
+     * @return the duration in milliseconds
+     */
+    public double getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(double durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    /**
+     * Gets the number of runs the duration was measured in.
+     *
+     * @return the number of runs
+     */
+    public int getRuns() {
+        return runs;
+    }
+
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+
+    /**
+     * Gets the number of the last run it failed in.
+     *
+     * @return the run number, or -1 if it never failed
+     */
+    public int getLastFailedRun() {
+        return lastFailedRun;
+    }
+
+    public void setLastFailedRun(int lastFailedRun) {
+        this.lastFailedRun = lastFailedRun;
+    }
+
+    void add(double durationMs, boolean failed, int run) {
+        this.durationMs = runs == 0 ? durationMs : (this.durationMs + durationMs) / 2;
+        runs++;
+        if (failed) {
+            lastFailedRun = run;
+        }
+    }
+}
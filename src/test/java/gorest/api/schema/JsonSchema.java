@@ -0,0 +1,169 @@
+package gorest.api.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * A JSON Schema compiled for the {@link StreamingSchemaValidator}: keywords are parsed, patterns compiled and
+ * {@code $ref}s resolved once, so validating a body only walks its tokens.
+ * <p>
+ * The subset of JSON Schema used by the contracts is supported: {@code type} (a name or a list of names),
+ * {@code properties}, {@code required}, {@code additionalProperties} (a boolean), {@code items} (a schema),
+ * {@code minItems}, {@code maxItems}, {@code enum} (strings), {@code minLength}, {@code maxLength},
+ * {@code pattern}, {@code minimum}, {@code maximum}, and {@code $ref} to another schema file of the same
+ * directory. {@code $schema}, {@code $id}, {@code title} and {@code description} are ignored; any other
+ * keyword fails the compilation, so a contract never silently checks less than it says.
+ */
+public final class JsonSchema {
+
+    static final int OBJECT = 1;
+    static final int ARRAY = 1 << 1;
+    static final int STRING = 1 << 2;
+    static final int INTEGER = 1 << 3;
+    static final int NUMBER = 1 << 4;
+    static final int BOOLEAN = 1 << 5;
+    static final int NULL = 1 << 6;
+
+    private static final List<String> TYPE_NAMES = Arrays.asList("object", "array", "string", "integer", "number", "boolean", "null");
+    private static final Set<String> IGNORED_KEYWORDS = new HashSet<>(Arrays.asList("$schema", "$id", "title", "description"));
+
+    /** Accepts any value. */
+    static final JsonSchema ANY = new JsonSchema();
+
+    int types;
+    Map<String, JsonSchema> properties = new HashMap<>();
+    Map<String, Integer> required = new LinkedHashMap<>();
+    boolean additionalProperties = true;
+    JsonSchema items = ANY;
+    int minItems = -1;
+    int maxItems = -1;
+    Set<String> enumValues;
+    int minLength = -1;
+    int maxLength = -1;
+    Pattern pattern;
+    Double minimum;
+    Double maximum;
+
+    private JsonSchema() {
+    }
+
+    /**
+     * Compiles a schema.
+     *
+     * @param node       the schema
+     * @param references resolves the file name of a {@code $ref} to its compiled schema
+     * @return the compiled schema
+     */
+    public static JsonSchema compile(JsonNode node, Function<String, JsonSchema> references) {
+        if (!node.isObject()) {
+            throw new RuntimeException("A schema must be an object, got " + node);
+        }
+        if (node.has("$ref")) {
+            return references.apply(node.get("$ref").asText());
+        }
+        JsonSchema schema = new JsonSchema();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "type":
+                    if (value.isArray()) {
+                        value.forEach(type -> schema.types |= type(type.asText()));
+                    } else {
+                        schema.types = type(value.asText());
+                    }
+                    break;
+                case "properties":
+                    value.fields().forEachRemaining(property -> schema.properties.put(property.getKey(), compile(property.getValue(), references)));
+                    break;
+                case "required":
+                    value.forEach(name -> schema.required.put(name.asText(), schema.required.size()));
+                    break;
+                case "additionalProperties":
+                    if (!value.isBoolean()) {
+                        throw new RuntimeException("Only boolean additionalProperties are supported, got " + value);
+                    }
+                    schema.additionalProperties = value.asBoolean();
+                    break;
+                case "items":
+                    schema.items = compile(value, references);
+                    break;
+                case "minItems":
+                    schema.minItems = value.asInt();
+                    break;
+                case "maxItems":
+                    schema.maxItems = value.asInt();
+                    break;
+                case "enum":
+                    schema.enumValues = new LinkedHashSet<>();
+                    value.forEach(item -> {
+                        if (!item.isTextual()) {
+                            throw new RuntimeException("Only string enum values are supported, got " + item);
+                        }
+                        schema.enumValues.add(item.asText());
+                    });
+                    break;
+                case "minLength":
+                    schema.minLength = value.asInt();
+                    break;
+                case "maxLength":
+                    schema.maxLength = value.asInt();
+                    break;
+                case "pattern":
+                    schema.pattern = Pattern.compile(value.asText());
+                    break;
+                case "minimum":
+                    schema.minimum = value.asDouble();
+                    break;
+                case "maximum":
+                    schema.maximum = value.asDouble();
+                    break;
+                default:
+                    if (!IGNORED_KEYWORDS.contains(field.getKey())) {
+                        throw new RuntimeException("Unsupported schema keyword '" + field.getKey() + "'");
+                    }
+            }
+        }
+        if (schema.required.size() > Long.SIZE) {
+            throw new RuntimeException("At most " + Long.SIZE + " required properties are supported");
+        }
+        return schema;
+    }
+
+    /**
+     * Gets the name of the types of a bit set, for error messages.
+     *
+     * @param types the bit set of types
+     * @return the names, e.g. {@code string or null}
+     */
+    static String typeNames(int types) {
+        StringBuilder names = new StringBuilder();
+        for (int i = 0; i < TYPE_NAMES.size(); i++) {
+            if ((types & (1 << i)) != 0) {
+                names.append(names.length() == 0 ? "" : " or ").append(TYPE_NAMES.get(i));
+            }
+        }
+        return names.toString();
+    }
+
+    private static int type(String name) {
+        int index = TYPE_NAMES.indexOf(name);
+        if (index < 0) {
+            throw new RuntimeException("Unknown schema type '" + name + "'");
+        }
+        // An integer is also a number
+        return name.equals("number") ? NUMBER | INTEGER : 1 << index;
+    }
+}
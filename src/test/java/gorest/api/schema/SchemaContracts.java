@@ -0,0 +1,130 @@
+package gorest.api.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gorest.api.config.SchemaValidationConfiguration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The response contracts of the API: which JSON Schema the response of each method, endpoint template and
+ * status code must follow.
+ * <p>
+ * The contracts are read from {@code contracts.json} in the configured classpath directory, a list of
+ * routes such as {@code {"method": "GET", "endpoint": "/public/v2/users", "status": 200, "schema": "users.json"}}
+ * where {@code method} and {@code endpoint} can be {@code *}. The first matching route applies. Every schema
+ * is compiled when the contracts are loaded, and the schema of each method, endpoint and status is looked up
+ * once and cached.
+ */
+public class SchemaContracts {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static volatile SchemaContracts shared;
+
+    private final List<Route> routes = new ArrayList<>();
+    private final Map<String, Optional<JsonSchema>> schemasByResponse = new ConcurrentHashMap<>();
+
+    /**
+     * Loads and compiles the contracts.
+     *
+     * @param directory the classpath directory of {@code contracts.json} and the schemas
+     */
+    public SchemaContracts(String directory) {
+        Map<String, JsonSchema> compiled = new HashMap<>();
+        for (JsonNode route : read(directory, "contracts.json", "contracts")) {
+            routes.add(new Route(route.path("method").asText("*"), route.path("endpoint").asText("*"), route.path("status").asInt(),
+                    schema(directory, route.path("schema").asText(), compiled, new HashSet<>())));
+        }
+    }
+
+    /**
+     * Gets the contracts of the run, loading them on first use.
+     *
+     * @param configuration the schema validation settings, only used on the first call
+     * @return the shared contracts
+     */
+    public static SchemaContracts getShared(SchemaValidationConfiguration configuration) {
+        if (shared == null) {
+            synchronized (SchemaContracts.class) {
+                if (shared == null) {
+                    shared = new SchemaContracts(configuration.getDirectory());
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Gets the schema a response must follow.
+     *
+     * @param method   the HTTP method
+     * @param endpoint the endpoint template, e.g. {@code /public/v2/users/{id}}
+     * @param status   the status code
+     * @return the schema, or {@code null} if no contract covers the response
+     */
+    public JsonSchema find(String method, String endpoint, int status) {
+        return schemasByResponse.computeIfAbsent(method.toUpperCase() + " " + endpoint + " " + status, key -> routes.stream()
+                .filter(route -> route.matches(method, endpoint, status))
+                .findFirst()
+                .map(route -> route.schema)).orElse(null);
+    }
+
+    private static JsonSchema schema(String directory, String name, Map<String, JsonSchema> compiled, Set<String> compiling) {
+        JsonSchema schema = compiled.get(name);
+        if (schema != null) {
+            return schema;
+        }
+        if (!compiling.add(name)) {
+            throw new RuntimeException("Schema " + name + " refers to itself through " + compiling);
+        }
+        try {
+            schema = JsonSchema.compile(read(directory, name, "schema"), reference -> schema(directory, reference, compiled, compiling));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid schema " + directory + "/" + name + ": " + e.getMessage(), e);
+        }
+        compiling.remove(name);
+        compiled.put(name, schema);
+        return schema;
+    }
+
+    private static JsonNode read(String directory, String name, String kind) {
+        String resource = directory + "/" + name;
+        try (InputStream inputStream = SchemaContracts.class.getClassLoader().getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new RuntimeException("The " + kind + " " + resource + " is not on the classpath");
+            }
+            return MAPPER.readTree(inputStream);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read the " + kind + " " + resource + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static final class Route {
+        private final String method;
+        private final String endpoint;
+        private final int status;
+        private final JsonSchema schema;
+
+        Route(String method, String endpoint, int status, JsonSchema schema) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.status = status;
+            this.schema = schema;
+        }
+
+        boolean matches(String method, String endpoint, int status) {
+            return this.status == status && ("*".equals(this.method) || this.method.equalsIgnoreCase(method))
+                    && ("*".equals(this.endpoint) || this.endpoint.equals(endpoint));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package gorest.api.schema;
+
+import java.util.List;
+
+/**
+ * Thrown when a response breaks its JSON Schema contract.
+ */
+public class SchemaViolationException extends RuntimeException {
+
+    private final List<String> violations;
+
+    /**
+     * @param response   the method, endpoint template and status of the response, e.g. {@code GET /public/v2/users 200}
+     * @param violations the violations found by the {@link StreamingSchemaValidator}
+     */
+    public SchemaViolationException(String response, List<String> violations) {
+        super(response + " breaks its contract:\n  " + String.join("\n  ", violations));
+        this.violations = violations;
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+}
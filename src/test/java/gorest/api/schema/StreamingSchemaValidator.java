@@ -0,0 +1,191 @@
+package gorest.api.schema;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Validates a JSON body against a compiled {@link JsonSchema} in a single pass of the Jackson streaming
+ * parser, without building a tree of the body. Values not covered by the schema are skipped without being
+ * read, and strings are only read when the schema constrains them.
+ * <p>
+ * Thread-safe: the validation state lives on the stack of the calling thread.
+ */
+public final class StreamingSchemaValidator {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int MAX_VIOLATIONS = 20;
+
+    private StreamingSchemaValidator() {
+    }
+
+    /**
+     * Validates a body.
+     *
+     * @param schema the compiled schema
+     * @param body   the JSON body
+     * @return the violations, each prefixed with the JSON path of the value, e.g.
+     * {@code $[3].gender: "other" is not one of [male, female]}; empty if the body is valid
+     */
+    public static List<String> validate(JsonSchema schema, byte[] body) {
+        List<String> violations = new ArrayList<>(0);
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() == null) {
+                return Collections.singletonList("$: empty body");
+            }
+            validate(parser, schema, new StringBuilder(32).append('$'), violations);
+            if (parser.nextToken() != null) {
+                violations.add("$: unexpected content after the JSON value");
+            }
+        } catch (JsonProcessingException e) {
+            violations.add("$: not valid JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            violations.add("$: could not be read: " + e.getMessage());
+        }
+        return violations;
+    }
+
+    private static void validate(JsonParser parser, JsonSchema schema, StringBuilder path, List<String> violations) throws IOException {
+        JsonToken token = parser.currentToken();
+        int type = type(token);
+        if (schema.types != 0 && (schema.types & type) == 0) {
+            add(violations, path, "expected " + JsonSchema.typeNames(schema.types) + ", got " + JsonSchema.typeNames(type));
+            parser.skipChildren();
+            return;
+        }
+        switch (token) {
+            case START_OBJECT:
+                validateObject(parser, schema, path, violations);
+                break;
+            case START_ARRAY:
+                validateArray(parser, schema, path, violations);
+                break;
+            case VALUE_STRING:
+                validateString(parser, schema, path, violations);
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                if (schema.minimum != null || schema.maximum != null) {
+                    double value = parser.getDoubleValue();
+                    if (schema.minimum != null && value < schema.minimum) {
+                        add(violations, path, parser.getText() + " is less than the minimum " + schema.minimum);
+                    }
+                    if (schema.maximum != null && value > schema.maximum) {
+                        add(violations, path, parser.getText() + " is greater than the maximum " + schema.maximum);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static void validateObject(JsonParser parser, JsonSchema schema, StringBuilder path, List<String> violations) throws IOException {
+        if (schema == JsonSchema.ANY) {
+            parser.skipChildren();
+            return;
+        }
+        long seenRequired = 0;
+        int length = path.length();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            Integer requiredIndex = schema.required.get(name);
+            if (requiredIndex != null) {
+                seenRequired |= 1L << requiredIndex;
+            }
+            JsonSchema property = schema.properties.get(name);
+            if (property == null) {
+                if (!schema.additionalProperties) {
+                    add(violations, path.append('.').append(name), "unexpected property");
+                    path.setLength(length);
+                }
+                parser.skipChildren();
+                continue;
+            }
+            validate(parser, property, path.append('.').append(name), violations);
+            path.setLength(length);
+        }
+        if (Long.bitCount(seenRequired) != schema.required.size()) {
+            for (String name : schema.required.keySet()) {
+                if ((seenRequired & (1L << schema.required.get(name))) == 0) {
+                    add(violations, path, "missing required property '" + name + "'");
+                }
+            }
+        }
+    }
+
+    private static void validateArray(JsonParser parser, JsonSchema schema, StringBuilder path, List<String> violations) throws IOException {
+        if (schema.items == JsonSchema.ANY && schema.minItems < 0 && schema.maxItems < 0) {
+            parser.skipChildren();
+            return;
+        }
+        int length = path.length();
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            validate(parser, schema.items, path.append('[').append(count).append(']'), violations);
+            path.setLength(length);
+            count++;
+        }
+        if (schema.minItems >= 0 && count < schema.minItems) {
+            add(violations, path, count + " items, expected at least " + schema.minItems);
+        }
+        if (schema.maxItems >= 0 && count > schema.maxItems) {
+            add(violations, path, count + " items, expected at most " + schema.maxItems);
+        }
+    }
+
+    private static void validateString(JsonParser parser, JsonSchema schema, StringBuilder path, List<String> violations) throws IOException {
+        if (schema.enumValues == null && schema.pattern == null && schema.minLength < 0 && schema.maxLength < 0) {
+            return;
+        }
+        String value = parser.getText();
+        if (schema.enumValues != null && !schema.enumValues.contains(value)) {
+            add(violations, path, "\"" + value + "\" is not one of " + schema.enumValues);
+        }
+        if (schema.pattern != null && !schema.pattern.matcher(value).find()) {
+            add(violations, path, "\"" + value + "\" does not match " + schema.pattern.pattern());
+        }
+        if (schema.minLength >= 0 || schema.maxLength >= 0) {
+            int length = value.codePointCount(0, value.length());
+            if (schema.minLength >= 0 && length < schema.minLength) {
+                add(violations, path, "\"" + value + "\" is shorter than " + schema.minLength + " characters");
+            }
+            if (schema.maxLength >= 0 && length > schema.maxLength) {
+                add(violations, path, "\"" + value + "\" is longer than " + schema.maxLength + " characters");
+            }
+        }
+    }
+
+    private static int type(JsonToken token) {
+        switch (token) {
+            case START_OBJECT:
+                return JsonSchema.OBJECT;
+            case START_ARRAY:
+                return JsonSchema.ARRAY;
+            case VALUE_STRING:
+                return JsonSchema.STRING;
+            case VALUE_NUMBER_INT:
+                return JsonSchema.INTEGER;
+            case VALUE_NUMBER_FLOAT:
+                return JsonSchema.NUMBER;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return JsonSchema.BOOLEAN;
+            default:
+                return JsonSchema.NULL;
+        }
+    }
+
+    private static void add(List<String> violations, CharSequence path, String message) {
+        if (violations.size() < MAX_VIOLATIONS) {
+            violations.add(path + ": " + message);
+        }
+    }
+}
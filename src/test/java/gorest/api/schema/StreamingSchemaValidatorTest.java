@@ -0,0 +1,119 @@
+package gorest.api.schema;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+
+public class StreamingSchemaValidatorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String USER = "{"
+            + "\"type\": \"object\","
+            + "\"required\": [\"id\", \"name\", \"email\", \"gender\"],"
+            + "\"additionalProperties\": false,"
+            + "\"properties\": {"
+            + "  \"id\": {\"type\": \"integer\", \"minimum\": 1},"
+            + "  \"name\": {\"type\": \"string\", \"minLength\": 1},"
+            + "  \"email\": {\"type\": \"string\", \"pattern\": \"^[^@\\\\s]+@[^@\\\\s]+$\"},"
+            + "  \"gender\": {\"type\": \"string\", \"enum\": [\"male\", \"female\"]}"
+            + "}}";
+    private static final String USERS = "{\"type\": \"array\", \"minItems\": 1, \"items\": {\"$ref\": \"user.json\"}}";
+    private static final String VALID_USER = "{\"id\": 1, \"name\": \"Ann\", \"email\": \"ann@example.com\", \"gender\": \"female\"}";
+
+    private final JsonSchema user = compile(USER);
+    private final JsonSchema users = compile(USERS);
+
+    @DisplayName("A valid body has no violations")
+    @Test
+    public void testValid() {
+        assertThat(validate(user, VALID_USER), empty());
+        assertThat(validate(users, "[" + VALID_USER + ", " + VALID_USER + "]"), empty());
+    }
+
+    @DisplayName("A value of the wrong type is reported with its path")
+    @Test
+    public void testTypeViolation() {
+        assertThat(validate(user, VALID_USER.replace("\"id\": 1", "\"id\": \"1\"")),
+                contains("$.id: expected integer, got string"));
+        assertThat(validate(users, VALID_USER), contains("$: expected array, got object"));
+    }
+
+    @DisplayName("A string outside of its enum is reported")
+    @Test
+    public void testEnumViolation() {
+        assertThat(validate(users, "[" + VALID_USER + ", " + VALID_USER.replace("female", "other") + "]"),
+                contains("$[1].gender: \"other\" is not one of [male, female]"));
+    }
+
+    @DisplayName("A string not matching its pattern is reported")
+    @Test
+    public void testPatternViolation() {
+        assertThat(validate(user, VALID_USER.replace("ann@example.com", "ann.example.com")),
+                contains("$.email: \"ann.example.com\" does not match ^[^@\\s]+@[^@\\s]+$"));
+    }
+
+    @DisplayName("Every missing required property is reported")
+    @Test
+    public void testRequiredViolation() {
+        List<String> violations = validate(user, "{\"id\": 1, \"name\": \"Ann\"}");
+
+        assertThat(violations, contains("$: missing required property 'email'", "$: missing required property 'gender'"));
+    }
+
+    @DisplayName("A property the schema does not allow is reported")
+    @Test
+    public void testAdditionalPropertiesViolation() {
+        assertThat(validate(user, VALID_USER.replace("}", ", \"role\": {\"admin\": true}}")),
+                contains("$.role: unexpected property"));
+    }
+
+    @DisplayName("An array with too few items is reported")
+    @Test
+    public void testMinItemsViolation() {
+        assertThat(validate(users, "[]"), contains("$: 0 items, expected at least 1"));
+    }
+
+    @DisplayName("Numbers and lengths out of range are reported, and violations are capped")
+    @Test
+    public void testRangeViolationsAreCapped() {
+        assertThat(validate(user, VALID_USER.replace("\"id\": 1", "\"id\": 0").replace("Ann", "")),
+                contains("$.id: 0 is less than the minimum 1.0", "$.name: \"\" is shorter than 1 characters"));
+
+        StringBuilder many = new StringBuilder("[");
+        for (int i = 0; i < 50; i++) {
+            many.append(i == 0 ? "" : ",").append("{}");
+        }
+        assertThat(validate(users, many.append(']').toString()), hasSize(20));
+    }
+
+    @DisplayName("A body that is not JSON is reported")
+    @Test
+    public void testInvalidJson() {
+        assertThat(validate(user, ""), contains("$: empty body"));
+        assertThat(validate(user, VALID_USER + " {}"), contains("$: unexpected content after the JSON value"));
+        assertThat(validate(user, "{\"id\": "), hasSize(1));
+    }
+
+    private JsonSchema compile(String schema) {
+        try {
+            return JsonSchema.compile(MAPPER.readTree(schema), Map.of("user.json", user == null ? JsonSchema.ANY : user)::get);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> validate(JsonSchema schema, String body) {
+        return StreamingSchemaValidator.validate(schema, body.getBytes(StandardCharsets.UTF_8));
+    }
+}
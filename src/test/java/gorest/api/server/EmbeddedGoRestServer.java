@@ -0,0 +1,327 @@
+package gorest.api.server;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import gorest.api.config.EmbeddedServerConfiguration;
+import gorest.api.models.Post;
+import gorest.api.models.User;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for the GoRest API, so the suite can run without network access.
+ * <p>
+ * It implements {@code /public/v2/users} and {@code /public/v2/posts}: CRUD, 422 validation
+ * errors, 404 "Resource not found", the list filters and the {@code X-Pagination-*} headers.
+ * Successful GETs carry a weak {@code ETag} and are answered 304 when it matches {@code If-None-Match}.
+ * Writes require a {@code Authorization: Bearer <token>} header with the configured token.
+ * With a rate limit configured, every response carries the {@code X-RateLimit-*} headers and requests
+ * over the limit of the current one-second window are answered 429 with a {@code Retry-After} header.
+ */
+public class EmbeddedGoRestServer {
+
+    private static final Logger logger = LogManager.getLogger(EmbeddedGoRestServer.class);
+    private static final Pattern RESOURCE_PATH = Pattern.compile("^/public/v2/(users|posts)(?:/([^/]+))?/?$");
+    private static final int DEFAULT_PER_PAGE = 10;
+    private static final int MAX_PER_PAGE = 100;
+    private static final byte[] NOT_FOUND = "{\"message\":\"Resource not found\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] UNAUTHORIZED = "{\"message\":\"Authentication failed\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TOO_MANY_REQUESTS = "{\"message\":\"Too many requests\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static EmbeddedGoRestServer shared;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ResourceStore store = new ResourceStore();
+    private final String token;
+    private final int rateLimit;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private long rateLimitWindow;
+    private int rateLimitUsed;
+
+    /**
+     * Creates a server with the given settings. It does not listen until {@link #start()} is called.
+     *
+     * @param configuration the embedded server settings
+     * @param token         the token write requests must present
+     * @throws IOException if the port cannot be bound
+     */
+    public EmbeddedGoRestServer(EmbeddedServerConfiguration configuration, String token) throws IOException {
+        this.token = token;
+        this.rateLimit = configuration.getRateLimitPerSecond();
+        this.store.seed(configuration.getSeedUsers(), configuration.getSeedPosts());
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), configuration.getPort()), 1024);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(configuration.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "gorest-stand-in-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.setExecutor(executor);
+        this.server.createContext("/public/v2/", this::handle);
+    }
+
+    /**
+     * Gets the server shared by the whole test run, starting it on first use.
+     *
+     * @param configuration the embedded server settings
+     * @param token         the token write requests must present
+     * @return the running shared server
+     */
+    public static synchronized EmbeddedGoRestServer startShared(EmbeddedServerConfiguration configuration, String token) {
+        if (shared == null) {
+            try {
+                EmbeddedGoRestServer server = new EmbeddedGoRestServer(configuration, token);
+                server.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "gorest-stand-in-shutdown"));
+                shared = server;
+            } catch (IOException e) {
+                throw new RuntimeException("Error starting the embedded GoRest server: " + e.getMessage(), e);
+            }
+        }
+        return shared;
+    }
+
+    public void start() {
+        // The HTTP dispatcher thread inherits the daemon flag of the thread that starts the server;
+        // starting it from a daemon thread keeps it from holding the JVM open after the run.
+        Thread starter = new Thread(server::start, "gorest-stand-in-starter");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while starting the embedded GoRest server", e);
+        }
+        logger.info("Embedded GoRest server listening on {}", getBaseUrl());
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Gets the base URL to use instead of {@code https://gorest.co.in}.
+     *
+     * @return the base URL of the running server
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            if (rateLimit > 0 && !takeRateLimit(exchange)) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                send(exchange, 429, TOO_MANY_REQUESTS);
+                return;
+            }
+            Matcher matcher = RESOURCE_PATH.matcher(exchange.getRequestURI().getPath());
+            if (!matcher.matches()) {
+                send(exchange, 404, NOT_FOUND);
+                return;
+            }
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !isAuthorized(exchange)) {
+                send(exchange, 401, UNAUTHORIZED);
+                return;
+            }
+            boolean users = "users".equals(matcher.group(1));
+            String id = matcher.group(2);
+            if (id == null) {
+                handleCollection(exchange, method, users, requestBody);
+            } else {
+                handleResource(exchange, method, users, id, requestBody);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Embedded GoRest server failed to handle {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            send(exchange, 500, "{\"message\":\"Internal server error\"}".getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleCollection(HttpExchange exchange, String method, boolean users, byte[] requestBody) throws IOException {
+        switch (method) {
+            case "GET":
+                Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                List<?> matches = users ? store.findUsers(query) : store.findPosts(query);
+                sendPage(exchange, matches, query);
+                break;
+            case "POST":
+                JsonNode body = parseBody(requestBody);
+                ResourceStore.SaveResult<?> result = users ? store.saveUser(null, body) : store.savePost(null, body);
+                sendSaveResult(exchange, 201, result);
+                break;
+            default:
+                send(exchange, 404, NOT_FOUND);
+        }
+    }
+
+    private void handleResource(HttpExchange exchange, String method, boolean users, String rawId, byte[] requestBody) throws IOException {
+        int id;
+        try {
+            id = Integer.parseInt(rawId);
+        } catch (NumberFormatException e) {
+            send(exchange, 404, NOT_FOUND);
+            return;
+        }
+        Object existing = users ? store.getUser(id) : store.getPost(id);
+        if (existing == null) {
+            send(exchange, 404, NOT_FOUND);
+            return;
+        }
+        switch (method) {
+            case "GET":
+                sendConditional(exchange, mapper.writeValueAsBytes(existing));
+                break;
+            case "PUT":
+            case "PATCH":
+                JsonNode body = parseBody(requestBody);
+                ResourceStore.SaveResult<?> result = users
+                        ? store.saveUser((User) existing, body)
+                        : store.savePost((Post) existing, body);
+                sendSaveResult(exchange, 200, result);
+                break;
+            case "DELETE":
+                boolean deleted = users ? store.deleteUser(id) : store.deletePost(id);
+                if (deleted) {
+                    exchange.sendResponseHeaders(204, -1);
+                } else {
+                    send(exchange, 404, NOT_FOUND);
+                }
+                break;
+            default:
+                send(exchange, 404, NOT_FOUND);
+        }
+    }
+
+    private void sendPage(HttpExchange exchange, List<?> matches, Map<String, String> query) throws IOException {
+        int page = positiveInt(query.get("page"), 1);
+        int perPage = Math.min(positiveInt(query.get("per_page"), DEFAULT_PER_PAGE), MAX_PER_PAGE);
+        int total = matches.size();
+        int pages = (total + perPage - 1) / perPage;
+        long from = (long) (page - 1) * perPage;
+        List<?> pageItems = from >= total ? List.of() : matches.subList((int) from, (int) Math.min(from + perPage, total));
+
+        exchange.getResponseHeaders().set("X-Pagination-Total", String.valueOf(total));
+        exchange.getResponseHeaders().set("X-Pagination-Pages", String.valueOf(pages));
+        exchange.getResponseHeaders().set("X-Pagination-Page", String.valueOf(page));
+        exchange.getResponseHeaders().set("X-Pagination-Limit", String.valueOf(perPage));
+        sendConditional(exchange, mapper.writeValueAsBytes(pageItems));
+    }
+
+    private void sendSaveResult(HttpExchange exchange, int successStatus, ResourceStore.SaveResult<?> result) throws IOException {
+        if (result.resource == null) {
+            send(exchange, 422, mapper.writeValueAsBytes(result.errors));
+        } else {
+            send(exchange, successStatus, mapper.writeValueAsBytes(result.resource));
+        }
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        return authorization != null && authorization.equals("Bearer " + token);
+    }
+
+    /**
+     * Counts a request against the current one-second window and sets the rate-limit headers.
+     *
+     * @return {@code false} if the window's limit was already reached
+     */
+    private synchronized boolean takeRateLimit(HttpExchange exchange) {
+        long now = System.currentTimeMillis();
+        long window = now / 1000;
+        if (window != rateLimitWindow) {
+            rateLimitWindow = window;
+            rateLimitUsed = 0;
+        }
+        boolean allowed = rateLimitUsed < rateLimit;
+        if (allowed) {
+            rateLimitUsed++;
+        }
+        exchange.getResponseHeaders().set("X-RateLimit-Limit", String.valueOf(rateLimit));
+        exchange.getResponseHeaders().set("X-RateLimit-Remaining", String.valueOf(rateLimit - rateLimitUsed));
+        exchange.getResponseHeaders().set("X-RateLimit-Reset", "1");
+        return allowed;
+    }
+
+    private JsonNode parseBody(byte[] requestBody) throws IOException {
+        if (requestBody.length == 0) {
+            return mapper.createObjectNode();
+        }
+        try {
+            JsonNode body = mapper.readTree(requestBody);
+            return body != null && body.isObject() ? body : mapper.createObjectNode();
+        } catch (JsonProcessingException e) {
+            return mapper.createObjectNode();
+        }
+    }
+
+    /**
+     * Sends a 200 response with an {@code ETag} derived from its body, or {@code 304 Not Modified} without
+     * the body if the request's {@code If-None-Match} already has that tag.
+     */
+    private static void sendConditional(HttpExchange exchange, byte[] body) throws IOException {
+        String eTag = "W/\"" + Integer.toHexString(Arrays.hashCode(body)) + "-" + Integer.toHexString(body.length) + "\"";
+        exchange.getResponseHeaders().set("ETag", eTag);
+        if (eTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        send(exchange, 200, body);
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static int positiveInt(String value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package gorest.api.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import gorest.api.models.Post;
+import gorest.api.models.User;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Thread-safe in-memory storage of the users and posts served by the embedded server.
+ * <p>
+ * Resources are kept newest first, like GoRest lists them. Validation follows the GoRest
+ * rules and error messages.
+ */
+class ResourceStore {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final String[] FIRST_NAMES = {"Aarav", "Bhavna", "Chetan", "Deepa", "Eshan", "Farah", "Gopal", "Hema", "Ishaan", "Jaya"};
+    private static final String[] LAST_NAMES = {"Sharma", "Iyer", "Reddy", "Nair", "Gupta", "Menon", "Patel", "Joshi"};
+
+    private final ConcurrentNavigableMap<Integer, User> users = new ConcurrentSkipListMap<>(Collections.reverseOrder());
+    private final ConcurrentNavigableMap<Integer, Post> posts = new ConcurrentSkipListMap<>(Collections.reverseOrder());
+    private final Map<String, Integer> userIdsByEmail = new ConcurrentHashMap<>();
+    private final AtomicInteger userSequence = new AtomicInteger(1000);
+    private final AtomicInteger postSequence = new AtomicInteger(1000);
+
+    /**
+     * Creates deterministic seed data so searches and pagination have something to return.
+     *
+     * @param userCount the number of users to create
+     * @param postCount the number of posts to create, spread over the seed users
+     */
+    void seed(int userCount, int postCount) {
+        List<Integer> userIds = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            User user = new User();
+            user.setId(userSequence.incrementAndGet());
+            user.setName(FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[i % LAST_NAMES.length]);
+            user.setEmail("seed-" + i + "@gorest.local");
+            user.setGender(i % 2 == 0 ? "male" : "female");
+            user.setStatus(i % 3 == 0 ? "inactive" : "active");
+            users.put(user.getId(), user);
+            userIdsByEmail.put(user.getEmail(), user.getId());
+            userIds.add(user.getId());
+        }
+        for (int i = 0; i < postCount && !userIds.isEmpty(); i++) {
+            Post post = new Post();
+            post.setId(postSequence.incrementAndGet());
+            post.setUserId(userIds.get(i % userIds.size()));
+            post.setTitle("Seed post " + i);
+            post.setBody("Body of seed post " + i);
+            posts.put(post.getId(), post);
+        }
+    }
+
+    List<User> findUsers(Map<String, String> query) {
+        Predicate<User> filter = user -> true;
+        filter = filter.and(user -> matchesId(query.get("id"), user.getId()));
+        filter = filter.and(user -> contains(query.get("name"), user.getName()));
+        filter = filter.and(user -> contains(query.get("email"), user.getEmail()));
+        filter = filter.and(user -> equalsIgnoreCase(query.get("gender"), user.getGender()));
+        filter = filter.and(user -> equalsIgnoreCase(query.get("status"), user.getStatus()));
+        return select(users, filter);
+    }
+
+    List<Post> findPosts(Map<String, String> query) {
+        Predicate<Post> filter = post -> true;
+        filter = filter.and(post -> matchesId(query.get("id"), post.getId()));
+        filter = filter.and(post -> matchesId(query.get("user_id"), post.getUserId()));
+        filter = filter.and(post -> contains(query.get("title"), post.getTitle()));
+        filter = filter.and(post -> contains(query.get("body"), post.getBody()));
+        return select(posts, filter);
+    }
+
+    User getUser(int id) {
+        return users.get(id);
+    }
+
+    Post getPost(int id) {
+        return posts.get(id);
+    }
+
+    /**
+     * Creates a user, or updates it when {@code existing} is given.
+     *
+     * @return the stored user, or the validation errors
+     */
+    synchronized SaveResult<User> saveUser(User existing, JsonNode body) {
+        User user = new User();
+        user.setId(existing == null ? null : existing.getId());
+        user.setName(text(body, "name", existing == null ? null : existing.getName()));
+        user.setEmail(text(body, "email", existing == null ? null : existing.getEmail()));
+        user.setGender(text(body, "gender", existing == null ? null : existing.getGender()));
+        user.setStatus(text(body, "status", existing == null ? null : existing.getStatus()));
+
+        List<Map<String, String>> errors = new ArrayList<>();
+        if (isBlank(user.getEmail())) {
+            errors.add(error("email", "can't be blank"));
+        } else if (!EMAIL_PATTERN.matcher(user.getEmail()).matches()) {
+            errors.add(error("email", "is invalid"));
+        } else {
+            Integer owner = userIdsByEmail.get(user.getEmail());
+            if (owner != null && !owner.equals(user.getId())) {
+                errors.add(error("email", "has already been taken"));
+            }
+        }
+        if (isBlank(user.getName())) {
+            errors.add(error("name", "can't be blank"));
+        }
+        if (!"male".equals(user.getGender()) && !"female".equals(user.getGender())) {
+            errors.add(error("gender", "can't be blank, can be male of female"));
+        }
+        if (!"active".equals(user.getStatus()) && !"inactive".equals(user.getStatus())) {
+            errors.add(error("status", "can't be blank"));
+        }
+        if (!errors.isEmpty()) {
+            return new SaveResult<>(null, errors);
+        }
+
+        if (existing == null) {
+            user.setId(userSequence.incrementAndGet());
+        } else {
+            userIdsByEmail.remove(existing.getEmail());
+        }
+        users.put(user.getId(), user);
+        userIdsByEmail.put(user.getEmail(), user.getId());
+        return new SaveResult<>(user, errors);
+    }
+
+    /**
+     * Creates a post, or updates it when {@code existing} is given.
+     *
+     * @return the stored post, or the validation errors
+     */
+    synchronized SaveResult<Post> savePost(Post existing, JsonNode body) {
+        Post post = new Post();
+        post.setId(existing == null ? 0 : existing.getId());
+        JsonNode userId = body.get("user_id");
+        post.setUserId(userId != null && userId.canConvertToInt() ? userId.asInt() : existing == null ? 0 : existing.getUserId());
+        post.setTitle(text(body, "title", existing == null ? null : existing.getTitle()));
+        post.setBody(text(body, "body", existing == null ? null : existing.getBody()));
+
+        List<Map<String, String>> errors = new ArrayList<>();
+        if (!users.containsKey(post.getUserId())) {
+            errors.add(error("user", "must exist"));
+        }
+        if (isBlank(post.getTitle())) {
+            errors.add(error("title", "can't be blank"));
+        }
+        if (isBlank(post.getBody())) {
+            errors.add(error("body", "can't be blank"));
+        }
+        if (!errors.isEmpty()) {
+            return new SaveResult<>(null, errors);
+        }
+
+        if (existing == null) {
+            post.setId(postSequence.incrementAndGet());
+        }
+        posts.put(post.getId(), post);
+        return new SaveResult<>(post, errors);
+    }
+
+    synchronized boolean deleteUser(int id) {
+        User removed = users.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        userIdsByEmail.remove(removed.getEmail());
+        posts.values().removeIf(post -> post.getUserId() == id);
+        return true;
+    }
+
+    synchronized boolean deletePost(int id) {
+        return posts.remove(id) != null;
+    }
+
+    private static <T> List<T> select(ConcurrentNavigableMap<Integer, T> resources, Predicate<T> filter) {
+        List<T> result = new ArrayList<>();
+        for (T resource : resources.values()) {
+            if (filter.test(resource)) {
+                result.add(resource);
+            }
+        }
+        return result;
+    }
+
+    private static boolean matchesId(String expected, Integer actual) {
+        if (expected == null) {
+            return true;
+        }
+        try {
+            return actual != null && Integer.parseInt(expected.trim()) == actual;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean contains(String expected, String actual) {
+        return expected == null
+                || actual != null && actual.toLowerCase(Locale.ROOT).contains(expected.toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean equalsIgnoreCase(String expected, String actual) {
+        return expected == null || expected.equalsIgnoreCase(actual);
+    }
+
+    private static String text(JsonNode body, String field, String fallback) {
+        JsonNode value = body.get(field);
+        return value == null || value.isNull() ? fallback : value.asText();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static Map<String, String> error(String field, String message) {
+        Map<String, String> error = new LinkedHashMap<>();
+        error.put("field", field);
+        error.put("message", message);
+        return error;
+    }
+
+    /**
+     * The outcome of a create or update: either the stored resource or the validation errors.
+     */
+    static final class SaveResult<T> {
+        final T resource;
+        final List<Map<String, String>> errors;
+
+        SaveResult(T resource, List<Map<String, String>> errors) {
+            this.resource = resource;
+            this.errors = errors;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package gorest.api.targets;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import gorest.api.config.Configuration;
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.config.TargetConfiguration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the test suite against every named target of the {@code targets} section of {@code config.yaml}
+ * at the same time, so a multi-environment gate takes as long as its slowest target.
+ * <p>
+ * Each target runs in a JVM of its own, started with the {@link TargetSuite}. The shared state of a run
+ * (connection pool, user pool, rate-limit governor, cleanup registry, request specifications) is
+ * process-wide, so a JVM per target keeps the targets isolated from each other. The files of a target
+ * are written to {@code target/multi-target/<name>}: its console output, Allure results and
+ * {@code result.json}. The results of all targets are summarized in {@code target/multi-target/summary.json}.
+ * <p>
+ * {@code -Dgorest.targets=staging,canary} runs only some of the targets. The {@code -Djunit.*} and
+ * {@code -Dgorest.*} system properties are passed on to the target JVMs. Exits with 1 if any target
+ * failed.
+ */
+public final class MultiTargetRunner {
+
+    private static final Logger logger = LogManager.getLogger(MultiTargetRunner.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private MultiTargetRunner() {
+    }
+
+    /**
+     * @param args not used
+     * @throws Exception if a target JVM cannot be started or the summary cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        List<TargetConfiguration> targets = selectTargets(readConfiguration().getTargets(), System.getProperty("gorest.targets"));
+        Path directory = Paths.get(System.getProperty("gorest.targets.directory", "target/multi-target"));
+
+        Map<TargetConfiguration, Process> processes = new LinkedHashMap<>();
+        for (TargetConfiguration target : targets) {
+            Path targetDirectory = directory.resolve(target.getName());
+            Files.createDirectories(targetDirectory);
+            Files.deleteIfExists(targetDirectory.resolve("result.json"));
+            Process process = new ProcessBuilder(command(target, targetDirectory))
+                    .redirectErrorStream(true)
+                    .redirectOutput(targetDirectory.resolve("console.log").toFile())
+                    .start();
+            logger.info("Started target '{}' ({}), output in {}", target.getName(),
+                    "embedded".equalsIgnoreCase(target.getTarget()) ? "embedded" : target.getBaseUrl(), targetDirectory);
+            processes.put(target, process);
+        }
+
+        ArrayNode summary = MAPPER.createArrayNode();
+        boolean passed = true;
+        for (Map.Entry<TargetConfiguration, Process> entry : processes.entrySet()) {
+            int exitCode = entry.getValue().waitFor();
+            Path resultFile = directory.resolve(entry.getKey().getName()).resolve("result.json");
+            JsonNode result;
+            if (Files.exists(resultFile)) {
+                result = MAPPER.readTree(resultFile.toFile());
+            } else {
+                result = MAPPER.createObjectNode().put("name", entry.getKey().getName()).put("crashed", true);
+                logger.error("Target '{}' exited with {} without results, see its console.log", entry.getKey().getName(), exitCode);
+            }
+            passed &= exitCode == 0;
+            summary.add(result);
+        }
+
+        Files.writeString(directory.resolve("summary.json"), MAPPER.writeValueAsString(summary));
+        logger.info("\n{}", toTable(summary));
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static Configuration readConfiguration() throws IOException {
+        try (InputStream inputStream = MultiTargetRunner.class.getClassLoader().getResourceAsStream("config.yaml")) {
+            if (inputStream == null) {
+                throw new RuntimeException("config.yaml not found");
+            }
+            return ConfigurationLoader.readConfiguration(inputStream);
+        }
+    }
+
+    /**
+     * Selects the targets to run.
+     *
+     * @param targets the configured targets
+     * @param names   the comma-separated names of the targets to run, or {@code null} for all
+     * @return the targets to run
+     */
+    private static List<TargetConfiguration> selectTargets(List<TargetConfiguration> targets, String names) {
+        if (targets.isEmpty()) {
+            throw new RuntimeException("No targets in config.yaml");
+        }
+        if (names == null || names.isBlank()) {
+            return targets;
+        }
+        List<String> selected = Arrays.stream(names.split(",")).map(String::trim).collect(Collectors.toList());
+        List<TargetConfiguration> matching = targets.stream().filter(target -> selected.contains(target.getName())).collect(Collectors.toList());
+        if (matching.size() != selected.size()) {
+            throw new RuntimeException("Unknown target in '" + names + "', expected some of "
+                    + targets.stream().map(TargetConfiguration::getName).collect(Collectors.toList()));
+        }
+        return matching;
+    }
+
+    private static List<String> command(TargetConfiguration target, Path targetDirectory) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if ((name.startsWith("junit.") || name.startsWith("gorest.")) && !name.startsWith("gorest.target")) {
+                command.add("-D" + name + "=" + System.getProperty(name));
+            }
+        }
+        command.add("-Dgorest.target.name=" + target.getName());
+        command.add("-Dallure.results.directory=" + targetDirectory.resolve("allure-results"));
+        command.add(TargetSuite.class.getName());
+        command.add(targetDirectory.resolve("result.json").toString());
+        return command;
+    }
+
+    private static String toTable(ArrayNode summary) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-16s %-8s %6s %6s %7s %9s %9s %9s %9s%n",
+                "target", "result", "tests", "failed", "skipped", "seconds", "requests", "p50 ms", "p95 ms"));
+        for (JsonNode result : summary) {
+            if (result.path("crashed").asBoolean()) {
+                table.append(String.format("%-16s %-8s%n", result.path("name").asText(), "CRASHED"));
+                continue;
+            }
+            JsonNode requests = result.path("requests");
+            table.append(String.format("%-16s %-8s %6d %6d %7d %9.1f %9d %9.2f %9.2f%n", result.path("name").asText(),
+                    result.path("failed").asLong() == 0 ? "PASSED" : "FAILED", result.path("tests").asLong(),
+                    result.path("failed").asLong(), result.path("skipped").asLong(), result.path("elapsed_seconds").asDouble(),
+                    requests.path("count").asLong(), requests.path("p50_ms").asDouble(), requests.path("p95_ms").asDouble()));
+            for (JsonNode failure : result.path("failures")) {
+                table.append("    ").append(failure.path("test").asText()).append(": ").append(failure.path("message").asText()).append('\n');
+            }
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,142 @@
+package gorest.api.targets;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import gorest.api.config.Configuration;
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.filters.LatencyCollector;
+import gorest.api.filters.LatencyRecordingFilter;
+import gorest.api.load.StepStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+
+/**
+ * Runs the test suite in this JVM against the named target given by {@code -Dgorest.target.name}, and
+ * writes its results and request latencies as JSON. Started once per target by the
+ * {@link MultiTargetRunner}.
+ * <p>
+ * The tests of {@code gorest.api.tests} are run with the JUnit configuration parameters passed as
+ * {@code -Djunit.*} system properties. {@code -Dgorest.groups} and {@code -Dgorest.excludedGroups} select
+ * and skip tags, like surefire's {@code groups} and {@code excludedGroups}.
+ */
+public final class TargetSuite {
+
+    private static final Logger logger = LogManager.getLogger(TargetSuite.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private TargetSuite() {
+    }
+
+    /**
+     * @param args the file the results are written to
+     * @throws IOException if the results cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: TargetSuite <result file>");
+        }
+        Configuration configuration = ConfigurationLoader.getInstance().getConfiguration();
+        LatencyCollector latency = new LatencyCollector();
+        LatencyRecordingFilter.recordRunInto(latency);
+
+        LauncherDiscoveryRequestBuilder request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectPackage("gorest.api.tests"));
+        String groups = System.getProperty("gorest.groups", "");
+        if (!groups.isBlank()) {
+            request.filters(TagFilter.includeTags(groups.split(",")));
+        }
+        String excludedGroups = System.getProperty("gorest.excludedGroups", "load,full-crawl");
+        if (!excludedGroups.isBlank()) {
+            request.filters(TagFilter.excludeTags(excludedGroups.split(",")));
+        }
+        LauncherDiscoveryRequest discoveryRequest = request.build();
+
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        long start = System.nanoTime();
+        LauncherFactory.create().execute(discoveryRequest, listener);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        LatencyRecordingFilter.recordRunInto(null);
+
+        TestExecutionSummary summary = listener.getSummary();
+        logger.info("Target '{}' ({}): {} tests, {} failed, {} skipped in {} s\n{}",
+                System.getProperty("gorest.target.name"), configuration.getBaseUrl(), summary.getTestsFoundCount(),
+                summary.getTotalFailureCount(), summary.getTestsSkippedCount(), String.format("%.1f", elapsedSeconds), latency.toTable());
+
+        Path resultFile = Paths.get(args[0]);
+        Files.createDirectories(resultFile.toAbsolutePath().getParent());
+        Files.writeString(resultFile, toJson(configuration, summary, elapsedSeconds, latency));
+        System.exit(summary.getTotalFailureCount() == 0 ? 0 : 1);
+    }
+
+    private static String toJson(Configuration configuration, TestExecutionSummary summary, double elapsedSeconds,
+                                 LatencyCollector latency) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", System.getProperty("gorest.target.name"));
+        json.put("base_url", configuration.getBaseUrl());
+        json.put("elapsed_seconds", elapsedSeconds);
+        json.put("tests", summary.getTestsFoundCount());
+        json.put("succeeded", summary.getTestsSucceededCount());
+        json.put("failed", summary.getTotalFailureCount());
+        json.put("skipped", summary.getTestsSkippedCount());
+        List<Map<String, Object>> failures = new ArrayList<>();
+        for (TestExecutionSummary.Failure failure : summary.getFailures()) {
+            Map<String, Object> failureJson = new LinkedHashMap<>();
+            failureJson.put("test", testName(failure));
+            failureJson.put("message", String.valueOf(failure.getException().getMessage()));
+            failures.add(failureJson);
+        }
+        json.put("failures", failures);
+
+        Map<String, StepStats> endpoints = latency.getStats();
+        StepStats all = new StepStats();
+        endpoints.values().forEach(all::add);
+        json.put("requests", toJson(all));
+        Map<String, Object> endpointsJson = new LinkedHashMap<>();
+        endpoints.forEach((endpoint, stats) -> endpointsJson.put(endpoint, toJson(stats)));
+        json.put("endpoints", endpointsJson);
+        return MAPPER.writeValueAsString(json);
+    }
+
+    private static Map<String, Object> toJson(StepStats stats) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("count", stats.getCount());
+        json.put("mean_ms", stats.getMeanMillis());
+        json.put("p50_ms", stats.getPercentileMillis(50));
+        json.put("p95_ms", stats.getPercentileMillis(95));
+        json.put("p99_ms", stats.getPercentileMillis(99));
+        json.put("max_ms", stats.getMaxMillis());
+        return json;
+    }
+
+    private static String testName(TestExecutionSummary.Failure failure) {
+        TestSource source = failure.getTestIdentifier().getSource().orElse(null);
+        if (source instanceof MethodSource) {
+            MethodSource method = (MethodSource) source;
+            return method.getJavaClass().getSimpleName() + "." + method.getMethodName();
+        }
+        if (source instanceof ClassSource) {
+            return ((ClassSource) source).getJavaClass().getSimpleName();
+        }
+        return failure.getTestIdentifier().getDisplayName();
+    }
+}
@@ -1,66 +1,153 @@
 package gorest.api.tests;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import gorest.api.client.ApiTransport;
+import gorest.api.client.AsyncRequests;
+import gorest.api.client.PostsApi;
+import gorest.api.client.UsersApi;
 import gorest.api.config.Configuration;
 import gorest.api.config.ConfigurationLoader;
 import gorest.api.config.RestAssuredConfigManager;
+import gorest.api.data.FixtureCache;
+import gorest.api.data.UserPool;
+import gorest.api.extensions.AllureCaptureExtension;
+import gorest.api.extensions.DeadlineExtension;
+import gorest.api.extensions.ExchangeLoggingExtension;
+import gorest.api.extensions.LatencyBudgetExtension;
+import gorest.api.extensions.RequestTimingExtension;
+import gorest.api.extensions.ResourceCleanupExtension;
+import gorest.api.extensions.TestContextExtension;
+import gorest.api.extensions.TimingHistoryExtension;
+import gorest.api.extensions.UserPoolExtension;
 import gorest.api.models.Post;
 import gorest.api.models.User;
 import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.ExtendWith;
 
-import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  The BaseTest class provides a foundation for all API tests in the gorest.api.tests package.
  It includes common setup and utility methods for loading test data.
  */
+@ExtendWith({TimingHistoryExtension.class, TestContextExtension.class, ExchangeLoggingExtension.class, AllureCaptureExtension.class,
+        LatencyBudgetExtension.class, RequestTimingExtension.class, UserPoolExtension.class, ResourceCleanupExtension.class,
+        DeadlineExtension.class})
 public class BaseTest {
-    private Configuration config = ConfigurationLoader.getInstance().getConfiguration();
-    private RestAssuredConfigManager configManager = new RestAssuredConfigManager(config);
-
-    // Flag to prevent RestAssured from being configured multiple times
-    private static boolean setupDone = false;
+    private static final Configuration config = ConfigurationLoader.getInstance().getConfiguration();
+    private static final RestAssuredConfigManager configManager = new RestAssuredConfigManager(config);
+    private static final ApiTransport transport = ApiTransport.of(config, () -> RestAssured.given(configManager.getThreadRequestSpec()));
+    private static final UsersApi usersApi = new UsersApi(transport);
+    private static final PostsApi postsApi = new PostsApi(transport);
 
     /**
-     * This method sets up RestAssured configuration for the test suite.
-     * It runs once for all tests in the class.
+     * Sets up the test class, once for all its tests. RestAssured itself needs no setup: every request
+     * starts from the calling thread's specification, see {@link #given()}. Subclasses override it to
+     * prepare their own fixtures and call it first.
      *
      * @throws Exception if any errors occur during setup
      */
     @BeforeAll
     public void setup() throws Exception {
-        if (!setupDone) {
-            configManager.setupRestAssured();
-            RestAssured.requestSpecification = configManager.getDefaultRequestSpec();
-            setupDone = true;
-        }
     }
 
     /**
-     * This method loads user test data from the specified JSON file.
+     * Starts a request using the calling thread's request specification, which already
+     * carries the base URI, the authorization header and the logging/reporting filters.
+     * Use this instead of {@link RestAssured#given()} so tests stay isolated when run in parallel.
+     *
+     * @return a new request specification
+     */
+    protected RequestSpecification given() {
+        return RestAssured.given(configManager.getThreadRequestSpec());
+    }
+
+    /**
+     * Gets the typed client of the users, sending its requests with the transport of the configured
+     * {@code client.backend}.
+     *
+     * @return the users client, shared by every test and thread
+     */
+    protected UsersApi usersApi() {
+        return usersApi;
+    }
+
+    /**
+     * Gets the typed client of the posts, sending its requests with the transport of the configured
+     * {@code client.backend}.
+     *
+     * @return the posts client, shared by every test and thread
+     */
+    protected PostsApi postsApi() {
+        return postsApi;
+    }
+
+    /**
+     * Sends a request in the background, with {@link AsyncRequests}, so independent requests can be sent
+     * at once and checked afterwards.
+     *
+     * @param request sends the request, e.g. {@code () -> usersApi().get(id)}
+     * @param <T>     the type of the response
+     * @return the pending response
+     */
+    protected <T> CompletableFuture<T> async(Supplier<T> request) {
+        return AsyncRequests.send(request);
+    }
+
+    /**
+     * Waits for a request sent with {@link #async(Supplier)}.
+     *
+     * @param response the pending response
+     * @param <T>      the type of the response
+     * @return the response
+     */
+    protected <T> T await(CompletableFuture<T> response) {
+        return AsyncRequests.await(response);
+    }
+
+    /**
+     * Leases an existing user from the shared {@link UserPool}, for tests that only need a user to exist,
+     * e.g. to own posts. Release it with {@link #releaseUser(User)} once the test class is done with it.
+     *
+     * @return a user that exists on the server
+     */
+    protected User leaseUser() {
+        return UserPool.getShared().lease();
+    }
+
+    /**
+     * Returns a user leased with {@link #leaseUser()} to the shared pool.
+     *
+     * @param user the leased user
+     */
+    protected void releaseUser(User user) {
+        UserPool.getShared().release(user);
+    }
+
+    /**
+     * This method loads user test data from the specified JSON file. The file is only read and
+     * parsed once; every call returns a new copy that the caller is free to modify.
      *
-     * @param userDataPath the path of the JSON file containing user test data
+     * @param userDataFile the file name of the JSON data file in the resources folder
      * @return a User object containing the loaded data
      * @throws IOException if any errors occur during file reading
      */
-    public User loadUserData(String userDataPath) throws IOException {
-        // Load test data from the JSON file
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(new File(userDataPath), User.class);
+    public User loadUserData(String userDataFile) throws IOException {
+        return FixtureCache.user(userDataFile);
     }
 
     /**
-     * This method loads post test data from the specified JSON file.
+     * This method loads post test data from the specified JSON file. The file is only read and
+     * parsed once; every call returns a new copy that the caller is free to modify.
      *
-     * @param postDataPath the path of the JSON file containing post test data
+     * @param postDataFile the file name of the JSON data file in the resources folder
      * @return a Post object containing the loaded data
      * @throws IOException if any errors occur during file reading
      */
-    public Post loadPostData(String postDataPath) throws IOException {
-        // Load test data from the JSON file
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(new File(postDataPath), Post.class);
+    public Post loadPostData(String postDataFile) throws IOException {
+        return FixtureCache.post(postDataFile);
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package gorest.api.tests;
+
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.config.LoadConfiguration;
+import gorest.api.data.TestDataFactory;
+import gorest.api.data.UserPool;
+import gorest.api.load.LoadDriver;
+import gorest.api.load.LoadReport;
+import gorest.api.load.PostCrudScenario;
+import gorest.api.load.UserCrudScenario;
+import io.qameta.allure.Allure;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Load runs of the user and post CRUD lifecycles. Tagged {@code load}, so they only run
+ * with the {@code load} Maven profile.
+ */
+@DisplayName("Load Tests")
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class LoadTests extends BaseTest {
+
+    private static final Logger logger = LogManager.getLogger(LoadTests.class);
+    private final LoadConfiguration load = ConfigurationLoader.getInstance().getConfiguration().getLoad();
+    private final TestDataFactory testData = TestDataFactory.getShared(ConfigurationLoader.getInstance().getConfiguration().getTestData());
+
+    /**
+     * Test the user lifecycle under load.
+     *
+     * @throws Exception if the run is interrupted or the report cannot be written
+     */
+    @DisplayName("Users CRUD under load")
+    @Test
+    public void usersCrudUnderLoad() throws Exception {
+        verify(new LoadDriver(load).run("users-crud", () -> new UserCrudScenario(usersApi(), testData)));
+    }
+
+    /**
+     * Test the post lifecycle under load.
+     *
+     * @throws Exception if the run is interrupted or the report cannot be written
+     */
+    @DisplayName("Posts CRUD under load")
+    @Test
+    public void postsCrudUnderLoad() throws Exception {
+        verify(new LoadDriver(load).run("posts-crud", () -> new PostCrudScenario(postsApi(), UserPool.getShared(), testData)));
+    }
+
+    private void verify(LoadReport report) throws Exception {
+        logger.info("\n{}", report.toTable());
+        Path file = report.writeJson(Paths.get(load.getReportDirectory()));
+        Allure.addAttachment("Load report", "text/plain", report.toTable(), "txt");
+        Allure.addAttachment("Load report (JSON)", "application/json", report.toJson(), "json");
+        logger.info("Load report written to {}", file);
+
+        assertThat("requests sent", report.getRequests(), greaterThan(0L));
+        assertThat("error rate", report.getErrorRate(), lessThanOrEqualTo(load.getMaxErrorRate()));
+    }
+}
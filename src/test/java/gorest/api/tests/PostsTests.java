@@ -1,14 +1,13 @@
 package gorest.api.tests;
 
+import gorest.api.client.ApiResponse;
 import gorest.api.models.Post;
 import gorest.api.models.User;
-import gorest.api.utils.UniqueEmailGenerator;
-import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.*;
 
-import static io.restassured.RestAssured.given;
+import static gorest.api.assertions.AssertionSet.assertionSet;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 
@@ -26,28 +25,24 @@ public class PostsTests extends BaseTest {
 
     /**
      * Set up the test environment.
-     * Load user data and generate a unique email for the user.
+     * Lease an existing user from the user pool and load the post data.
      *
      * @throws Exception if setup fails
      */
     @BeforeAll
     public void setup() throws Exception {
         super.setup();
-        user = loadUserData("src/test/resources/new_user_data.json");
-        user.setEmail(UniqueEmailGenerator.generateUniqueEmail());
-
-        // create new user
-        Response response =
-                given()
-                .body(user)
-                .post("/public/v2/users").
-                        then()
-                        .extract()
-                        .response();
-        int userId = response.jsonPath().getInt("id");
-        user.setId(userId);
-        post = loadPostData("src/test/resources/post_data.json");
-        post.setUserId(userId);
+        user = leaseUser();
+        post = loadPostData("post_data.json");
+        post.setUserId(user.getId());
+    }
+
+    /**
+     * Return the leased user to the user pool.
+     */
+    @AfterAll
+    public void tearDown() {
+        releaseUser(user);
     }
 
     /**
@@ -58,22 +53,16 @@ public class PostsTests extends BaseTest {
     @Order(1)
     public void createNewPost() {
         logger.info("createNewPost");
-        Response response = given()
-                .body(post)
-                .when()
-                .post("/public/v2/posts")
-                .then()
-                .statusCode(201).assertThat()
-                .body("user_id", equalTo(user.getId()))
-                .body("title", equalTo(post.getTitle()))
-                .body("body", equalTo(post.getBody()))
-                .body("id", notNullValue())
-                .extract()
-                .response();
+        ApiResponse<Post> response = postsApi().create(post)
+                .statusCode(201)
+                .body(assertionSet()
+                        .that("user_id", equalTo(user.getId()))
+                        .that("title", equalTo(post.getTitle()))
+                        .that("body", equalTo(post.getBody()))
+                        .that("id", notNullValue()));
 
         // Store the created user ID for future tests
-        int postId = response.jsonPath().getInt("id");
-        post.setId(postId);
+        post.setId(response.getEntity().getId());
     }
 
     /**
@@ -85,15 +74,13 @@ public class PostsTests extends BaseTest {
     public void getNewPost() {
         logger.info("getNewUser");
         // Retrieve the created post by ID
-        given()
-                .when()
-                .get("/public/v2/posts/" + post.getId())
-                .then()
-                .statusCode(200).assertThat()
-                .body("user_id", equalTo(user.getId()))
-                .body("title", equalTo(post.getTitle()))
-                .body("body", equalTo(post.getBody()))
-                .body("id",equalTo(post.getId()));
+        postsApi().get(post.getId())
+                .statusCode(200)
+                .body(assertionSet()
+                        .that("user_id", equalTo(user.getId()))
+                        .that("title", equalTo(post.getTitle()))
+                        .that("body", equalTo(post.getBody()))
+                        .that("id", equalTo(post.getId())));
     }
 
     /**
@@ -109,16 +96,13 @@ public class PostsTests extends BaseTest {
         post.setBody("New Body");
 
         // Send PUT request to update the post
-        given()
-                .body(post)
-                .when()
-                .put("/public/v2/posts/" + post.getId())
-                .then()
-                .statusCode(200).assertThat()
-                .body("user_id", equalTo(user.getId()))
-                .body("title", equalTo(post.getTitle()))
-                .body("body", equalTo(post.getBody()))
-                .body("id",equalTo(post.getId()));
+        postsApi().put(post.getId(), post)
+                .statusCode(200)
+                .body(assertionSet()
+                        .that("user_id", equalTo(user.getId()))
+                        .that("title", equalTo(post.getTitle()))
+                        .that("body", equalTo(post.getBody()))
+                        .that("id", equalTo(post.getId())));
     }
 
     /**
@@ -135,16 +119,13 @@ public class PostsTests extends BaseTest {
         post.setBody("Another new body");
 
         // Send PATCH request to update the post
-        given()
-                .body(post)
-                .when()
-                .patch("/public/v2/posts/" + post.getId())
-                .then()
-                .statusCode(200).assertThat()
-                .body("user_id", equalTo(user.getId()))
-                .body("title", equalTo(post.getTitle()))
-                .body("body", equalTo(post.getBody()))
-                .body("id",equalTo(post.getId()));
+        postsApi().patch(post.getId(), post)
+                .statusCode(200)
+                .body(assertionSet()
+                        .that("user_id", equalTo(user.getId()))
+                        .that("title", equalTo(post.getTitle()))
+                        .that("body", equalTo(post.getBody()))
+                        .that("id", equalTo(post.getId())));
     }
 
     /**
@@ -156,10 +137,7 @@ public class PostsTests extends BaseTest {
     public void deleteCreatedPost() {
         logger.info("deleteCreatedPost");
         // Send DELETE request to remove the post
-        given()
-                .when()
-                .delete("/public/v2/posts/" + post.getId())
-                .then()
+        postsApi().delete(post.getId())
                 .statusCode(204);
     }
 
@@ -172,11 +150,8 @@ public class PostsTests extends BaseTest {
     public void getDeletedPost() {
         logger.info("getDeletedPost");
         // Attempt to retrieve the deleted user
-        given()
-                .when()
-                .get("/public/v2/posts/" + post.getId())
-                .then()
-                .statusCode(404).assertThat()
+        postsApi().get(post.getId())
+                .statusCode(404)
                 .body("message", equalTo("Resource not found"));
     }
 
@@ -1,16 +1,31 @@
 package gorest.api.tests;
 
+import gorest.api.client.ApiResponse;
+import gorest.api.data.PaginatedCrawler;
+import gorest.api.models.User;
+import gorest.api.utils.UniqueEmailGenerator;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
-import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 @DisplayName("User Pagination Tests")
+// The tests only read, the crawl its own users, so they run at the same time when the run is parallel
+@Execution(ExecutionMode.CONCURRENT)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class UserPaginationTests extends BaseTest {
@@ -143,6 +158,76 @@ public class UserPaginationTests extends BaseTest {
 
     }
 
+    @DisplayName("Test crawling all pages")
+    @Test
+    public void testCrawlAllPages() throws Exception {
+        logger.info("Starting testCrawlAllPages");
+
+        // Users of our own, under a name no other test uses, so the crawled collection cannot change
+        // while it is crawled, even with classes running in parallel
+        int userCount = 12;
+        int perPage = 5;
+        String marker = "Crawler " + UniqueEmailGenerator.generateUniqueEmail().split("@")[0];
+        List<CompletableFuture<ApiResponse<User>>> creations = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            User user = loadUserData("new_user_data.json");
+            user.setName(marker);
+            user.setEmail(UniqueEmailGenerator.generateUniqueEmail());
+            creations.add(async(() -> usersApi().create(user)));
+        }
+        Set<Integer> created = new HashSet<>();
+        for (CompletableFuture<ApiResponse<User>> creation : creations) {
+            created.add(await(creation).statusCode(201).getEntity().getId());
+        }
+
+        PaginatedCrawler<User>.Crawl crawl = PaginatedCrawler.users(this::given)
+                .queryParam("name", marker)
+                .perPage(perPage)
+                .window(2)
+                .iterator();
+        Map<Integer, Integer> itemsPerPage = new TreeMap<>();
+        List<Integer> ids = new ArrayList<>();
+        while (crawl.hasNext()) {
+            ids.add(crawl.next().getId());
+            itemsPerPage.merge(crawl.getPage(), 1, Integer::sum);
+        }
+
+        int pages = (userCount + perPage - 1) / perPage;
+        Assertions.assertEquals(pages, crawl.getPages(), "The number of pages should cover every user");
+        Assertions.assertEquals(userCount, crawl.getTotal(), "The total should count every user");
+        itemsPerPage.forEach((page, items) -> Assertions.assertEquals(page < pages ? perPage : userCount - (pages - 1) * perPage,
+                items, "Every page but the last should be full, page " + page));
+        Assertions.assertEquals(pages, itemsPerPage.size(), "Every page should have items");
+        Assertions.assertEquals(new HashSet<>(ids).size(), ids.size(), "Users should not be returned twice");
+        Assertions.assertEquals(created, new HashSet<>(ids), "Every user should be crawled");
+    }
 
-
+    /**
+     * Crawls the whole collection, which on the public server takes thousands of requests: tagged
+     * {@code full-crawl}, it only runs when asked for.
+     */
+    @DisplayName("Test crawling the whole collection")
+    @Test
+    @Tag("full-crawl")
+    public void testCrawlFullCollection() {
+        logger.info("Starting testCrawlFullCollection");
+
+        int perPage = 100;
+        PaginatedCrawler<User>.Crawl crawl = PaginatedCrawler.users(this::given).perPage(perPage).window(4).iterator();
+        Set<Integer> ids = new HashSet<>();
+        long count = 0;
+        while (crawl.hasNext()) {
+            User user = crawl.next();
+            Assertions.assertNotNull(user.getId(), "Every user should have an id");
+            Assertions.assertNotNull(user.getEmail(), "Every user should have an email");
+            ids.add(user.getId());
+            count++;
+        }
+
+        // Users created or deleted by others while crawling may shift items across pages
+        Assertions.assertTrue(crawl.getPages() >= 1, "There should be at least one page");
+        Assertions.assertTrue(count > (long) (crawl.getPages() - 1) * perPage - perPage,
+                "Every page but the last should be full");
+        Assertions.assertTrue(ids.size() >= count - perPage, "Users should not be returned twice");
+    }
 }
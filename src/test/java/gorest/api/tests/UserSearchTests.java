@@ -3,21 +3,25 @@ package gorest.api.tests;
 import gorest.api.config.Configuration;
 import gorest.api.config.ConfigurationLoader;
 import gorest.api.models.User;
-import gorest.api.utils.UniqueEmailGenerator;
-import io.restassured.http.ContentType;
-import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 
-import static io.restassured.RestAssured.given;
+import java.util.Map;
+
+import static gorest.api.assertions.StreamingJsonArrayMatcher.jsonArray;
 import static org.hamcrest.Matchers.*;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @DisplayName("User Search Tests")
+// The tests only read, so they run at the same time when the run is parallel
+@Execution(ExecutionMode.CONCURRENT)
 public class UserSearchTests extends BaseTest {
 
     private Configuration config = ConfigurationLoader.getInstance().getConfiguration();
@@ -29,20 +33,13 @@ public class UserSearchTests extends BaseTest {
     public void setup() throws Exception {
         super.setup();
         logger.info("Starting UserSearchTest");
-        // create a new user
-        user = loadUserData("src/test/resources/new_user_data.json");
-        user.setEmail(UniqueEmailGenerator.generateUniqueEmail());
-
-        // create new user
-        Response response =
-                given()
-                        .body(user)
-                        .post("/public/v2/users").
-                        then()
-                        .extract()
-                        .response();
-        int userId = response.jsonPath().getInt("id");
-        user.setId(userId);
+        // lease an existing user to search for
+        user = leaseUser();
+    }
+
+    @AfterAll
+    public void tearDown() {
+        releaseUser(user);
     }
 
     @DisplayName("Test search by name")
@@ -51,17 +48,12 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchByName");
         String searchName = user.getName();
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("name", searchName)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("name", searchName))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", greaterThan(0))
-                .body("", everyItem(hasKey("name")))
-                .body("name", everyItem(containsStringIgnoringCase(searchName)));
+                .body(jsonArray()
+                        .size(greaterThan(0))
+                        .everyItemHasKey("name")
+                        .everyItem("name", containsStringIgnoringCase(searchName)));
     }
 
     @DisplayName("Test search by male gender")
@@ -70,17 +62,12 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchByMaleGender");
         String gender = "male";
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("gender", gender)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("gender", gender))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", greaterThan(0))
-                .body("", everyItem(hasKey("gender")))
-                .body("gender", everyItem(containsStringIgnoringCase(gender)));
+                .body(jsonArray()
+                        .size(greaterThan(0))
+                        .everyItemHasKey("gender")
+                        .everyItem("gender", containsStringIgnoringCase(gender)));
     }
 
     @DisplayName("Test search by female gender")
@@ -89,17 +76,12 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchByFemaleGender");
         String gender = "female";
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("gender", gender)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("gender", gender))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", greaterThan(0))
-                .body("", everyItem(hasKey("gender")))
-                .body("gender", everyItem(containsStringIgnoringCase(gender)));
+                .body(jsonArray()
+                        .size(greaterThan(0))
+                        .everyItemHasKey("gender")
+                        .everyItem("gender", containsStringIgnoringCase(gender)));
     }
 
     @DisplayName("Test search by id")
@@ -108,17 +90,12 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchById");
         String id = user.getId().toString();
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("id", id)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("id", id))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", greaterThan(0))
-                .body("", everyItem(hasKey("id")))
-                .body("id", everyItem(equalTo(user.getId())));
+                .body(jsonArray()
+                        .size(greaterThan(0))
+                        .everyItemHasKey("id")
+                        .everyItem("id", equalTo(user.getId())));
     }
 
     @DisplayName("Test search by email")
@@ -127,17 +104,12 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchByEmail");
         String email = user.getEmail();
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("email", email)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("email", email))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", greaterThan(0))
-                .body("", everyItem(hasKey("email")))
-                .body("email", everyItem(containsStringIgnoringCase(email)));
+                .body(jsonArray()
+                        .size(greaterThan(0))
+                        .everyItemHasKey("email")
+                        .everyItem("email", containsStringIgnoringCase(email)));
     }
 
     @DisplayName("Test search by active status")
@@ -146,17 +118,12 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchByActiveStatus");
         String status = "active";
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("status", status)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("status", status))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", greaterThan(0))
-                .body("", everyItem(hasKey("status")))
-                .body("status", everyItem(containsStringIgnoringCase(status)));
+                .body(jsonArray()
+                        .size(greaterThan(0))
+                        .everyItemHasKey("status")
+                        .everyItem("status", containsStringIgnoringCase(status)));
     }
 
     @DisplayName("Test search by inactive status")
@@ -165,17 +132,12 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchByInActiveStatus");
         String status = "inactive";
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("status", status)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("status", status))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", greaterThan(0))
-                .body("", everyItem(hasKey("status")))
-                .body("status", everyItem(containsStringIgnoringCase(status)));
+                .body(jsonArray()
+                        .size(greaterThan(0))
+                        .everyItemHasKey("status")
+                        .everyItem("status", containsStringIgnoringCase(status)));
     }
 
     @DisplayName("Test search by multiple fields")
@@ -183,19 +145,13 @@ public class UserSearchTests extends BaseTest {
     public void testSearchByMultipleFields() {
         logger.info("testSearchByMultipleFields");
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("status", "active")
-                .queryParam("gender", "male")
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("status", "active", "gender", "male"))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", greaterThan(0))
-                .body("", everyItem(hasKey("status")))
-                .body("status", everyItem(containsStringIgnoringCase("active")))
-                .body("gender", everyItem(containsStringIgnoringCase("male")));
+                .body(jsonArray()
+                        .size(greaterThan(0))
+                        .everyItemHasKey("status")
+                        .everyItem("status", containsStringIgnoringCase("active"))
+                        .everyItem("gender", containsStringIgnoringCase("male")));
     }
 
     @DisplayName("Test search with non-existent value")
@@ -204,15 +160,9 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchWithNonExistentValue");
         String nonExistentName = "This is a nonExistentName1234";
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("name", nonExistentName)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("name", nonExistentName))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", equalTo(0));
+                .body(jsonArray().size(equalTo(0)));
     }
 
     @DisplayName("Test search with invalid email")
@@ -221,15 +171,9 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchWithInvalidEmail");
         String invalidEmail = "notanemail";
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("email", invalidEmail)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("email", invalidEmail))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", equalTo(0));
+                .body(jsonArray().size(equalTo(0)));
     }
 
     @DisplayName("Test search with invalid gender")
@@ -238,15 +182,9 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchWithInvalidGender");
         String invalidGender = "invalid_gender";
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("gender", invalidGender)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("gender", invalidGender))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", equalTo(0));
+                .body(jsonArray().size(equalTo(0)));
     }
 
     @DisplayName("Test search with invalid status")
@@ -255,15 +193,9 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchWithInvalidStatus");
         String invalidStatus = "invalid_status";
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("status", invalidStatus)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("status", invalidStatus))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", equalTo(0));
+                .body(jsonArray().size(equalTo(0)));
     }
 
     @DisplayName("Test search with invalid id")
@@ -272,14 +204,8 @@ public class UserSearchTests extends BaseTest {
         logger.info("testSearchWithInvalidId");
         String invalidId = "invalid_id";
 
-        given()
-                .contentType(ContentType.JSON)
-                .queryParam("id", invalidId)
-                .when()
-                .get("/public/v2/users")
-                .then()
+        usersApi().search(Map.of("id", invalidId))
                 .statusCode(200)
-                .assertThat()
-                .body("size()", equalTo(0));
+                .body(jsonArray().size(equalTo(0)));
     }
 }
@@ -1,13 +1,13 @@
 package gorest.api.tests;
 
+import gorest.api.client.ApiResponse;
 import gorest.api.models.User;
 import gorest.api.utils.UniqueEmailGenerator;
-import io.restassured.response.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.*;
 
-import static io.restassured.RestAssured.given;
+import static gorest.api.assertions.AssertionSet.assertionSet;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 
@@ -31,7 +31,7 @@ public class UsersTests extends BaseTest {
     @BeforeAll
     public void setup() throws Exception {
         super.setup();
-        user = loadUserData("src/test/resources/new_user_data.json");
+        user = loadUserData("new_user_data.json");
         user.setEmail(UniqueEmailGenerator.generateUniqueEmail());
     }
 
@@ -43,23 +43,17 @@ public class UsersTests extends BaseTest {
     @Order(1)
     public void createNewUser() {
         logger.info("createNewUser");
-        Response response = given()
-                .body(user)
-                .when()
-                .post("/public/v2/users")
-                .then()
-                .statusCode(201).assertThat()
-                .body("name", equalTo(user.getName()))
-                .body("email", equalTo(user.getEmail()))
-                .body("gender", equalTo(user.getGender()))
-                .body("status", equalTo(user.getStatus()))
-                .body("id", notNullValue())
-                .extract()
-                .response();
+        ApiResponse<User> response = usersApi().create(user)
+                .statusCode(201)
+                .body(assertionSet()
+                        .that("name", equalTo(user.getName()))
+                        .that("email", equalTo(user.getEmail()))
+                        .that("gender", equalTo(user.getGender()))
+                        .that("status", equalTo(user.getStatus()))
+                        .that("id", notNullValue()));
 
         // Store the created user ID for future tests
-        int userId = response.jsonPath().getInt("id");
-        user.setId(userId);
+        user.setId(response.getEntity().getId());
     }
 
     /**
@@ -71,16 +65,14 @@ public class UsersTests extends BaseTest {
     public void getNewUser() {
         logger.info("getNewUser");
         // Retrieve the created user by ID
-        given()
-                .when()
-                .get("/public/v2/users/" + user.getId())
-                .then()
-                .statusCode(200).assertThat()
-                .body("name", equalTo(user.getName()))
-                .body("email", equalTo(user.getEmail()))
-                .body("gender", equalTo(user.getGender()))
-                .body("status", equalTo(user.getStatus()))
-                .body("id", equalTo(user.getId()));
+        usersApi().get(user.getId())
+                .statusCode(200)
+                .body(assertionSet()
+                        .that("name", equalTo(user.getName()))
+                        .that("email", equalTo(user.getEmail()))
+                        .that("gender", equalTo(user.getGender()))
+                        .that("status", equalTo(user.getStatus()))
+                        .that("id", equalTo(user.getId())));
     }
 
     /**
@@ -98,17 +90,14 @@ public class UsersTests extends BaseTest {
         user.setStatus("inactive");
 
         // Send PUT request to update the user
-        given()
-                .body(user)
-                .when()
-                .put("/public/v2/users/" + user.getId())
-                .then()
-                .statusCode(200).assertThat()
-                .body("name", equalTo(user.getName()))
-                .body("email", equalTo(user.getEmail()))
-                .body("gender", equalTo(user.getGender()))
-                .body("status", equalTo(user.getStatus()))
-                .body("id", equalTo(user.getId()));
+        usersApi().put(user.getId(), user)
+                .statusCode(200)
+                .body(assertionSet()
+                        .that("name", equalTo(user.getName()))
+                        .that("email", equalTo(user.getEmail()))
+                        .that("gender", equalTo(user.getGender()))
+                        .that("status", equalTo(user.getStatus()))
+                        .that("id", equalTo(user.getId())));
     }
 
 /**
@@ -127,17 +116,14 @@ public void updateCreatedUserPatch() {
     user.setStatus("active");
 
     // Send PATCH request to update the user
-    given()
-            .body(user)
-            .when()
-            .patch("/public/v2/users/" + user.getId())
-            .then()
-            .statusCode(200).assertThat()
-            .body("name", equalTo(user.getName()))
-            .body("email", equalTo(user.getEmail()))
-            .body("gender", equalTo(user.getGender()))
-            .body("status", equalTo(user.getStatus()))
-            .body("id", equalTo(user.getId()));
+    usersApi().patch(user.getId(), user)
+            .statusCode(200)
+            .body(assertionSet()
+                    .that("name", equalTo(user.getName()))
+                    .that("email", equalTo(user.getEmail()))
+                    .that("gender", equalTo(user.getGender()))
+                    .that("status", equalTo(user.getStatus()))
+                    .that("id", equalTo(user.getId())));
 }
 
     /**
@@ -149,10 +135,7 @@ public void updateCreatedUserPatch() {
     public void deleteCreatedUser() {
         logger.info("deleteCreatedUser");
         // Send DELETE request to remove the user
-        given()
-                .when()
-                .delete("/public/v2/users/" + user.getId())
-                .then()
+        usersApi().delete(user.getId())
                 .statusCode(204);
     }
 
@@ -165,11 +148,8 @@ public void updateCreatedUserPatch() {
     public void getDeletedUser() {
         logger.info("getDeletedUser");
         // Attempt to retrieve the deleted user
-        given()
-                .when()
-                .get("/public/v2/users/" + user.getId())
-                .then()
-                .statusCode(404).assertThat()
+        usersApi().get(user.getId())
+                .statusCode(404)
                 .body("message", equalTo("Resource not found"));
     }
 
@@ -183,15 +163,11 @@ public void updateCreatedUserPatch() {
         userWithInvalidEmail.setGender("female");
         userWithInvalidEmail.setStatus("inactive");
 
-        given()
-                .body(userWithInvalidEmail)
-                .when()
-                .post("/public/v2/users")
-                .then()
+        usersApi().create(userWithInvalidEmail)
                 .statusCode(422)
-                .assertThat()
-                .body("[0].field", equalTo("email"))
-                .body("[0].message", equalTo("is invalid"));
+                .body(assertionSet()
+                        .that("[0].field", equalTo("email"))
+                        .that("[0].message", equalTo("is invalid")));
     }
 
     @DisplayName("Create user with invalid gender")
@@ -204,15 +180,11 @@ public void updateCreatedUserPatch() {
         userWithInvalidGender.setGender("invalid_gender");
         userWithInvalidGender.setStatus("inactive");
 
-        given()
-                .body(userWithInvalidGender)
-                .when()
-                .post("/public/v2/users")
-                .then()
+        usersApi().create(userWithInvalidGender)
                 .statusCode(422)
-                .assertThat()
-                .body("[0].field", equalTo("gender"))
-                .body("[0].message", equalTo("can't be blank, can be male of female"));
+                .body(assertionSet()
+                        .that("[0].field", equalTo("gender"))
+                        .that("[0].message", equalTo("can't be blank, can be male of female")));
     }
 
 }
\ No newline at end of file
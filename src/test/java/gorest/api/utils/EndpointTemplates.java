@@ -0,0 +1,46 @@
+package gorest.api.utils;
+
+import java.net.URI;
+
+/**
+ * Utility class for turning request URIs into endpoint templates.
+ */
+public class EndpointTemplates {
+
+    /**
+     * Gets the endpoint template of a request URI: the path without query string or trailing slash,
+     * with numeric segments replaced by {@code {id}}, e.g. {@code /public/v2/users/{id}}.
+     *
+     * @param uri the request URI, absolute or relative
+     * @return the endpoint template
+     */
+    public static String of(String uri) {
+        String path;
+        try {
+            path = URI.create(uri).getRawPath();
+        } catch (IllegalArgumentException e) {
+            int query = uri.indexOf('?');
+            path = query < 0 ? uri : uri.substring(0, query);
+        }
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        StringBuilder template = new StringBuilder(path.length());
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/').append(isNumeric(segment) ? "{id}" : segment);
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    private static boolean isNumeric(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
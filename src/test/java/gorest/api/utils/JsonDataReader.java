@@ -2,6 +2,7 @@ package gorest.api.utils;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -12,6 +13,10 @@ import java.util.Map;
  */
 public class JsonDataReader {
 
+    // ObjectReader is immutable and thread-safe, so one instance serves every call
+    private static final ObjectReader MAP_READER =
+            new ObjectMapper().readerFor(new TypeReference<Map<String, Object>>() {});
+
     /**
      * Reads JSON data from a file and returns a map representation of the data.
      *
@@ -20,14 +25,11 @@ public class JsonDataReader {
      * @throws IOException If there is an issue reading the JSON data file.
      */
     public static Map<String, Object> readJsonData(String fileName) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        InputStream inputStream = JsonDataReader.class.getClassLoader().getResourceAsStream(fileName);
-
-        if (inputStream == null) {
-            throw new IOException("File not found: " + fileName);
+        try (InputStream inputStream = JsonDataReader.class.getClassLoader().getResourceAsStream(fileName)) {
+            if (inputStream == null) {
+                throw new IOException("File not found: " + fileName);
+            }
+            return MAP_READER.readValue(inputStream);
         }
-
-        TypeReference<Map<String, Object>> typeReference = new TypeReference<>() {};
-        return objectMapper.readValue(inputStream, typeReference);
     }
 }
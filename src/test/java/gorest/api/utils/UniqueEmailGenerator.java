@@ -1,10 +1,10 @@
 package gorest.api.utils;
 
-import java.time.Instant;
-import java.util.Random;
+import gorest.api.config.ConfigurationLoader;
+import gorest.api.data.TestDataFactory;
 
 /**
- * Utility class for generating unique email addresses.
+ * Utility class for generating unique email addresses, with the shared {@link TestDataFactory}.
  */
 public class UniqueEmailGenerator {
 
@@ -14,8 +14,21 @@ public class UniqueEmailGenerator {
      * @return A unique email address.
      */
     public static String generateUniqueEmail() {
-        long currentTime = Instant.now().toEpochMilli();
-        int randomInt = new Random().nextInt(10000);
-        return String.format("%d-%d@email.com", currentTime, randomInt);
+        return factory().email();
     }
-}
\ No newline at end of file
+
+    /**
+     * Makes the following emails a numbered sequence starting from the seed, so two runs with the same
+     * seed generate the same emails in the same order. Used when recording and replaying cassettes.
+     *
+     * @param seed the seed, e.g. the time the sequence was first used
+     * @see TestDataFactory#useSequence(long)
+     */
+    public static void useSequence(long seed) {
+        factory().useSequence(seed);
+    }
+
+    private static TestDataFactory factory() {
+        return TestDataFactory.getShared(ConfigurationLoader.getInstance().getConfiguration().getTestData());
+    }
+}